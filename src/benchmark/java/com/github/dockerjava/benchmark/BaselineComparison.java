@@ -0,0 +1,133 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH json result file against a baseline result file and fails if the score or the normalized allocation
+ * rate of a benchmark got worse by more than the given threshold. Benchmarks that are missing in the baseline are
+ * reported only, but the comparison fails if none of them has a baseline, e.g. because the baseline is empty, so that
+ * a missing baseline doesn't pass unnoticed.
+ *
+ * To record a new baseline copy target/jmh-result.json to src/benchmark/baseline.json after a complete run on the
+ * reference machine.
+ *
+ * Usage: BaselineComparison &lt;result file&gt; &lt;baseline file&gt; &lt;threshold&gt;
+ */
+public class BaselineComparison {
+
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <result file> <baseline file> <threshold>");
+        }
+
+        Map<String, JsonNode> results = readResults(new File(args[0]));
+        Map<String, JsonNode> baseline = readResults(new File(args[1]));
+        double threshold = Double.parseDouble(args[2]);
+
+        int regressions = 0;
+        int compared = 0;
+
+        for (Entry<String, JsonNode> result : results.entrySet()) {
+            JsonNode reference = baseline.get(result.getKey());
+
+            if (reference == null) {
+                System.out.println(String.format("%s: no baseline", result.getKey()));
+                continue;
+            }
+            compared++;
+
+            boolean higherIsBetter = "thrpt".equals(result.getValue().path("mode").asText());
+
+            regressions += compare(result.getKey(), "score", result.getValue().path("primaryMetric"),
+                    reference.path("primaryMetric"), higherIsBetter, threshold);
+
+            regressions += compare(result.getKey(), ALLOCATION_RATE, allocationRate(result.getValue()),
+                    allocationRate(reference), false, threshold);
+        }
+
+        if (compared == 0) {
+            throw new IllegalStateException(String.format("None of the %d benchmark results has a baseline in %s. "
+                    + "To record one copy %s from a complete run on the reference machine to it.", results.size(),
+                    args[1], args[0]));
+        }
+
+        if (regressions > 0) {
+            throw new IllegalStateException(String.format("%d benchmark metrics regressed by more than %.0f%%",
+                    regressions, threshold * 100));
+        }
+    }
+
+    private static int compare(String benchmark, String metricName, JsonNode metric, JsonNode reference,
+            boolean higherIsBetter, double threshold) {
+
+        if (metric.isMissingNode() || reference.isMissingNode()) {
+            return 0;
+        }
+
+        double score = metric.path("score").asDouble();
+        double referenceScore = reference.path("score").asDouble();
+
+        if (referenceScore == 0) {
+            return 0;
+        }
+
+        double deviation = (score - referenceScore) / referenceScore;
+        boolean regressed = higherIsBetter ? deviation < -threshold : deviation > threshold;
+
+        System.out.println(String.format("%s %s: %.3f %s (baseline %.3f, %+.1f%%)%s", benchmark, metricName, score,
+                metric.path("scoreUnit").asText(), referenceScore, deviation * 100, regressed ? " REGRESSION" : ""));
+
+        return regressed ? 1 : 0;
+    }
+
+    private static JsonNode allocationRate(JsonNode result) {
+        Iterator<Entry<String, JsonNode>> secondaryMetrics = result.path("secondaryMetrics").fields();
+        while (secondaryMetrics.hasNext()) {
+            Entry<String, JsonNode> secondaryMetric = secondaryMetrics.next();
+            // JMH prefixes the profiler metrics with a middle dot
+            if (secondaryMetric.getKey().endsWith(ALLOCATION_RATE)) {
+                return secondaryMetric.getValue();
+            }
+        }
+        return result.path("secondaryMetrics").path(ALLOCATION_RATE);
+    }
+
+    /**
+     * Reads the results keyed by benchmark name and parameters.
+     */
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<String, JsonNode>();
+
+        if (!file.exists()) {
+            return results;
+        }
+
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+
+            Iterator<Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Entry<String, JsonNode> param = params.next();
+                key.append(key.indexOf(":") < 0 ? ":" : ",").append(param.getKey()).append('=')
+                        .append(param.getValue().asText());
+            }
+
+            results.put(key.toString(), result);
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.dockerjava.benchmark;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+
+/**
+ * Passes all results to a {@link Blackhole} so that the JIT can't eliminate their creation.
+ */
+class BlackholeCallback<T> extends ResultCallbackTemplate<BlackholeCallback<T>, T> {
+
+    private final Blackhole blackhole;
+
+    BlackholeCallback(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onNext(T object) {
+        blackhole.consume(object);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.github.dockerjava.core.util.CompressArchiveUtil;
+
+/**
+ * Tars a directory of 10 sub directories with 20 files of 8 KiB each.
+ */
+@State(Scope.Benchmark)
+public class CompressArchiveUtilBenchmark extends AbstractBenchmark {
+
+    private static final int DIRECTORIES = 10;
+
+    private static final int FILES_PER_DIRECTORY = 20;
+
+    private static final int FILE_SIZE = 8 * 1024;
+
+    @Param({"false", "true"})
+    public boolean gZipped;
+
+    private Path sourceDirectory;
+
+    private Path archive;
+
+    @Setup
+    public void setUp() throws IOException {
+        sourceDirectory = Files.createTempDirectory("benchmark-context");
+        archive = Files.createTempFile("benchmark-context", ".tar");
+
+        Random random = new Random(0);
+        byte[] content = new byte[FILE_SIZE];
+
+        for (int i = 0; i < DIRECTORIES; i++) {
+            Path directory = Files.createDirectory(sourceDirectory.resolve("dir" + i));
+            for (int j = 0; j < FILES_PER_DIRECTORY; j++) {
+                // half random, half compressible content
+                random.nextBytes(content);
+                for (int k = FILE_SIZE / 2; k < FILE_SIZE; k++) {
+                    content[k] = (byte) 'a';
+                }
+                Files.write(directory.resolve("file" + j), content);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteQuietly(sourceDirectory.toFile());
+        Files.deleteIfExists(archive);
+    }
+
+    @Benchmark
+    public File tar() throws IOException {
+        CompressArchiveUtil.tar(sourceDirectory, archive, gZipped, true);
+        return archive.toFile();
+    }
+}
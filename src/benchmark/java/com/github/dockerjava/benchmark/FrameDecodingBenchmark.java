@@ -0,0 +1,77 @@
+package com.github.dockerjava.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.command.FrameReader;
+import com.github.dockerjava.netty.handler.FramedResponseStreamHandler;
+
+/**
+ * Decodes a multiplexed log/attach stream of 100 frames with the blocking {@link FrameReader} and with the netty
+ * {@link FramedResponseStreamHandler}.
+ */
+@State(Scope.Benchmark)
+public class FrameDecodingBenchmark extends AbstractBenchmark {
+
+    private static final int FRAMES = 100;
+
+    /**
+     * Size of the buffers the netty handler receives, like the reads from a socket.
+     */
+    private static final int READ_SIZE = 8192;
+
+    @Param({"80", "16384"})
+    public int payloadSize;
+
+    private byte[] stream;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+
+        ByteBuf buffer = Unpooled.buffer(FRAMES * (8 + payloadSize));
+        for (int i = 0; i < FRAMES; i++) {
+            buffer.writeByte(i % 2 + 1);
+            buffer.writeZero(3);
+            buffer.writeInt(payloadSize);
+            buffer.writeBytes(payload);
+        }
+        stream = buffer.array();
+    }
+
+    @Benchmark
+    public void frameReader(Blackhole blackhole) throws IOException {
+        try (FrameReader frameReader = new FrameReader(new ByteArrayInputStream(stream))) {
+            Frame frame;
+            while ((frame = frameReader.readFrame()) != null) {
+                blackhole.consume(frame);
+            }
+        }
+    }
+
+    @Benchmark
+    public void framedResponseStreamHandler(Blackhole blackhole) {
+        EmbeddedChannel channel = new EmbeddedChannel(new FramedResponseStreamHandler(new BlackholeCallback<Frame>(
+                blackhole)));
+
+        for (int offset = 0; offset < stream.length; offset += READ_SIZE) {
+            channel.writeInbound(Unpooled.wrappedBuffer(stream, offset, Math.min(READ_SIZE, stream.length - offset)));
+        }
+
+        channel.finish();
+    }
+}
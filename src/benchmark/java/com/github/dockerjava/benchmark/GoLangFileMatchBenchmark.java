@@ -0,0 +1,56 @@
+package com.github.dockerjava.benchmark;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dockerjava.core.GoLangFileMatch;
+import com.github.dockerjava.core.GoLangFileMatch.CompiledPattern;
+
+/**
+ * Matches typical .dockerignore patterns against typical build context paths.
+ */
+@State(Scope.Benchmark)
+public class GoLangFileMatchBenchmark extends AbstractBenchmark {
+
+    private static final List<String> PATTERNS = asList("*.log", ".git", "target/*", "src/*/resources/*.tmp",
+            "node_modules/*/*", "docs/[a-c]*.md", "!target/app.jar", "*/build/*");
+
+    private static final List<String> NAMES = asList("Dockerfile", "app.log", "target/app.jar",
+            "target/classes/Main.class", "src/main/resources/cache.tmp", "src/main/java/com/example/Main.java",
+            "node_modules/lodash/index.js", "docs/changelog.md", "module/build/output.bin", ".git/HEAD");
+
+    private CompiledPattern[] compiledPatterns;
+
+    @Setup
+    public void setUp() {
+        compiledPatterns = new CompiledPattern[PATTERNS.size()];
+        for (int i = 0; i < compiledPatterns.length; i++) {
+            compiledPatterns[i] = GoLangFileMatch.compile(PATTERNS.get(i));
+        }
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        for (String name : NAMES) {
+            for (String pattern : PATTERNS) {
+                blackhole.consume(GoLangFileMatch.match(pattern, name));
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchCompiled(Blackhole blackhole) {
+        for (String name : NAMES) {
+            for (CompiledPattern compiledPattern : compiledPatterns) {
+                blackhole.consume(compiledPattern.matches(name));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Statistics;
+
+/**
+ * Jackson mapping of the largest and most frequently requested responses.
+ */
+@State(Scope.Benchmark)
+public class JsonMappingBenchmark extends AbstractBenchmark {
+
+    private static final int CONTAINERS = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] inspectContainerResponse;
+
+    private byte[] containers;
+
+    private byte[] statistics;
+
+    private ObjectReader statisticsReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        inspectContainerResponse = Resources
+                .bytes("/com/github/dockerjava/api/command/inspectContainerResponse_full.json");
+        statistics = Resources.bytes("statistics.json");
+        statisticsReader = objectMapper.readerFor(Statistics.class).withValueToUpdate(new Statistics());
+
+        String container = Resources.string("container.json");
+        StringBuilder containerList = new StringBuilder("[");
+        for (int i = 0; i < CONTAINERS; i++) {
+            containerList.append(i == 0 ? "" : ",").append(container);
+        }
+        containers = containerList.append("]").toString().getBytes(Resources.UTF_8);
+    }
+
+    @Benchmark
+    public InspectContainerResponse inspectContainerResponse() throws IOException {
+        return objectMapper.readValue(inspectContainerResponse, InspectContainerResponse.class);
+    }
+
+    @Benchmark
+    public Container[] containers() throws IOException {
+        return objectMapper.readValue(containers, Container[].class);
+    }
+
+    @Benchmark
+    public Statistics statistics() throws IOException {
+        return objectMapper.readValue(statistics, Statistics.class);
+    }
+
+    /**
+     * Like a stats subscriber with {@link com.github.dockerjava.api.command.StatsCmd#withReuseStatistics(Boolean)},
+     * run with {@code -prof gc} to compare the allocation rate.
+     */
+    @Benchmark
+    public Statistics statisticsReused() throws IOException {
+        return statisticsReader.readValue(statistics);
+    }
+}
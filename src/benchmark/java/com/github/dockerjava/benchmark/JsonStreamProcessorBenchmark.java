@@ -0,0 +1,74 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.ByteArrayInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dockerjava.api.model.BuildResponseItem;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.async.JsonStreamProcessor;
+
+/**
+ * Parses streams of 500 concatenated JSON objects like the events, pull and build endpoints return them.
+ */
+@State(Scope.Benchmark)
+public class JsonStreamProcessorBenchmark extends AbstractBenchmark {
+
+    private static final int ITEMS = 500;
+
+    private static final String EVENT = "{\"status\":\"die\",\"id\":\"dfdf82bd3881\","
+            + "\"from\":\"ubuntu:latest\",\"time\":1374067970}\n";
+
+    private static final String PULL = "{\"status\":\"Downloading\",\"progressDetail\":{\"current\":1048576,"
+            + "\"total\":65011012,\"start\":1450111260},\"progress\":\"[>      ] 1.049 MB/65.01 MB\","
+            + "\"id\":\"8f9a2b4cd0aa\"}\r\n";
+
+    private static final String BUILD = "{\"stream\":\"Step 1 : FROM busybox:latest\\n\"}\r\n";
+
+    @Param({"events", "pull", "build"})
+    public String stream;
+
+    private JsonStreamProcessor<?> jsonStreamProcessor;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        String item;
+
+        switch (stream) {
+        case "events":
+            item = EVENT;
+            jsonStreamProcessor = new JsonStreamProcessor<Event>(Event.class);
+            break;
+        case "pull":
+            item = PULL;
+            jsonStreamProcessor = new JsonStreamProcessor<PullResponseItem>(PullResponseItem.class);
+            break;
+        default:
+            item = BUILD;
+            jsonStreamProcessor = new JsonStreamProcessor<BuildResponseItem>(BuildResponseItem.class);
+        }
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < ITEMS; i++) {
+            content.append(item);
+        }
+        bytes = content.toString().getBytes(Resources.UTF_8);
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        process(jsonStreamProcessor, blackhole);
+    }
+
+    private <T> void process(JsonStreamProcessor<T> processor, Blackhole blackhole) {
+        processor.processResponseStream(new ByteArrayInputStream(bytes), new BlackholeCallback<T>(blackhole));
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.DockerCmdExecFactory;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.LogContainerResultCallback;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+
+/**
+ * Drives load against a {@link FakeDockerDaemon} and reports requests/sec and p50/p99 latency of the JAX-RS and the
+ * netty {@link DockerCmdExecFactory} side by side.
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.github.dockerjava.benchmark.LoadDriver \
+ *     -Dexec.args="&lt;tcp|unix&gt; &lt;requests&gt; &lt;concurrency&gt; &lt;latency ms&gt; &lt;payload size&gt;"
+ * </pre>
+ */
+public class LoadDriver {
+
+    private enum Scenario {
+        PING {
+            @Override
+            void execute(DockerClient dockerClient) throws Exception {
+                dockerClient.pingCmd().exec();
+            }
+        },
+        INSPECT_CONTAINER {
+            @Override
+            void execute(DockerClient dockerClient) throws Exception {
+                dockerClient.inspectContainerCmd(FakeDockerDaemon.CONTAINER_ID).exec();
+            }
+        },
+        LIST_CONTAINERS {
+            @Override
+            void execute(DockerClient dockerClient) throws Exception {
+                dockerClient.listContainersCmd().withShowAll(true).exec();
+            }
+        },
+        LOG_CONTAINER {
+            @Override
+            void execute(DockerClient dockerClient) throws Exception {
+                dockerClient.logContainerCmd(FakeDockerDaemon.CONTAINER_ID).withStdOut(true).withStdErr(true)
+                        .exec(new LogContainerResultCallback()).awaitCompletion();
+            }
+        };
+
+        abstract void execute(DockerClient dockerClient) throws Exception;
+    }
+
+    private static final class Result {
+
+        private final double requestsPerSecond;
+
+        private final long[] latencies;
+
+        private final int errors;
+
+        private Result(double requestsPerSecond, long[] latencies, int errors) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.latencies = latencies;
+            this.errors = errors;
+            Arrays.sort(latencies);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1000000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%10.0f %9.2f %9.2f %7d", requestsPerSecond, percentileMillis(0.50),
+                    percentileMillis(0.99), errors);
+        }
+    }
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String transport = args.length > 0 ? args[0] : "tcp";
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        long latency = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        int payloadSize = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withLatency(latency, TimeUnit.MILLISECONDS)
+                .withPayloadSize(payloadSize)) {
+
+            URI uri;
+            if ("unix".equals(transport)) {
+                File socketFile = File.createTempFile("fake-docker", ".sock");
+                uri = daemon.startUnixSocket(socketFile);
+            } else {
+                uri = daemon.startTcp();
+            }
+
+            System.out.println(String.format("%s, %d requests, concurrency %d, latency %d ms, payload size %d", uri,
+                    requests, concurrency, latency, payloadSize));
+            System.out.println(String.format("%-18s | %-38s | %-38s", "", "jaxrs", "netty"));
+            System.out.println(String.format("%-18s | %s | %s", "scenario", header(), header()));
+
+            for (Scenario scenario : Scenario.values()) {
+                Result jaxrs = run(new com.github.dockerjava.jaxrs.DockerCmdExecFactoryImpl()
+                        .withMaxTotalConnections(concurrency).withMaxPerRouteConnections(concurrency), uri,
+                        scenario, requests, concurrency);
+
+                Result netty = run(new com.github.dockerjava.netty.DockerCmdExecFactoryImpl()
+                        .withMaxConnections(concurrency), uri, scenario, requests, concurrency);
+
+                System.out.println(String.format("%-18s | %s | %s", scenario, jaxrs, netty));
+            }
+        }
+    }
+
+    private static String header() {
+        return String.format("%10s %9s %9s %7s", "req/s", "p50 ms", "p99 ms", "errors");
+    }
+
+    private static Result run(DockerCmdExecFactory dockerCmdExecFactory, URI uri, Scenario scenario,
+            int requests, int concurrency) throws Exception {
+
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+
+        try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                .withDockerCmdExecFactory(dockerCmdExecFactory).build()) {
+
+            // warm up connections and JIT
+            execute(dockerClient, scenario, Math.max(1, requests / 10), concurrency);
+
+            return execute(dockerClient, scenario, requests, concurrency);
+        }
+    }
+
+    private static Result execute(final DockerClient dockerClient, final Scenario scenario, final int requests,
+            int concurrency) throws InterruptedException {
+
+        final long[] latencies = new long[requests];
+        final AtomicInteger nextRequest = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        final CountDownLatch finished = new CountDownLatch(concurrency);
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        int request;
+                        while ((request = nextRequest.getAndIncrement()) < requests) {
+                            long start = System.nanoTime();
+                            try {
+                                scenario.execute(dockerClient);
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            latencies[request] = System.nanoTime() - start;
+                        }
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            }, "load-driver-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        finished.await();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1000000000.0;
+
+        return new Result(requests / elapsedSeconds, latencies, errors.get());
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.dockerjava.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Loads the sample responses from the classpath, relative to this package unless the name starts with '/'.
+ */
+final class Resources {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private Resources() {
+        // utility class
+    }
+
+    static byte[] bytes(String name) throws IOException {
+        try (InputStream inputStream = Resources.class.getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new IOException("Resource not found: " + name);
+            }
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+
+    static String string(String name) throws IOException {
+        return new String(bytes(name), UTF_8);
+    }
+}
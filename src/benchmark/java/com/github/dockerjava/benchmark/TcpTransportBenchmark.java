@@ -0,0 +1,72 @@
+package com.github.dockerjava.benchmark;
+
+import io.netty.channel.epoll.Epoll;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+import com.github.dockerjava.netty.DockerCmdExecFactoryImpl;
+
+/**
+ * Requests of the netty factory against a {@link FakeDockerDaemon} on a loopback TCP port, once with the NIO and once
+ * with the epoll transport. Where epoll isn't available the epoll run fails instead of measuring NIO twice, select
+ * the transport with {@code -p transport=nio} there.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class TcpTransportBenchmark extends AbstractBenchmark {
+
+    @Param({ "nio", "epoll" })
+    public String transport;
+
+    private FakeDockerDaemon daemon;
+
+    private DockerClient dockerClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("epoll".equals(transport) && !Epoll.isAvailable()) {
+            throw new IllegalStateException("epoll is not available, run with -p transport=nio",
+                    Epoll.unavailabilityCause());
+        }
+
+        daemon = new FakeDockerDaemon();
+        URI uri = daemon.startTcp();
+
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+
+        dockerClient = DockerClientBuilder.getInstance(config)
+                .withDockerCmdExecFactory(new DockerCmdExecFactoryImpl().withMaxConnections(4)
+                        .withNativeTransport("epoll".equals(transport)).withTcpNoDelay(true))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dockerClient.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void ping() {
+        dockerClient.pingCmd().exec();
+    }
+
+    @Benchmark
+    public InspectContainerResponse inspectContainer() {
+        return dockerClient.inspectContainerCmd(FakeDockerDaemon.CONTAINER_ID).exec();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.dockerjava.api.async;
+
+/**
+ * Implemented by the {@link java.io.Closeable} passed to {@link ResultCallback#onStart(java.io.Closeable)} if the
+ * transport can stop reading the response without blocking the calling thread. Items that have already been read may
+ * still be delivered after {@link #suspend()}.
+ */
+public interface FlowControl {
+
+    /**
+     * Stops reading the response. May be called from any thread.
+     */
+    void suspend();
+
+    /**
+     * Continues reading the response. May be called from any thread.
+     */
+    void resume();
+}
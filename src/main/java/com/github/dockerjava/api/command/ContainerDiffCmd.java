@@ -10,7 +10,7 @@ import com.github.dockerjava.api.exception.InternalServerErrorException;
 import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.ChangeLog;
 
-public interface ContainerDiffCmd extends SyncDockerCmd<List<ChangeLog>> {
+public interface ContainerDiffCmd extends ListDockerCmd<ChangeLog> {
 
     @CheckForNull
     public String getContainerId();
@@ -31,7 +31,7 @@ public interface ContainerDiffCmd extends SyncDockerCmd<List<ChangeLog>> {
     @Override
     public List<ChangeLog> exec() throws NotFoundException;
 
-    public static interface Exec extends DockerCmdSyncExec<ContainerDiffCmd, List<ChangeLog>> {
+    public static interface Exec extends DockerCmdListExec<ContainerDiffCmd, ChangeLog> {
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.github.dockerjava.api.command;
+
+import java.util.List;
+
+import com.github.dockerjava.api.async.ResultCallback;
+
+public interface DockerCmdListExec<CMD_T extends DockerCmd<List<ELEM_T>>, ELEM_T> extends
+        DockerCmdSyncExec<CMD_T, List<ELEM_T>> {
+
+    public Void exec(CMD_T command, ResultCallback<ELEM_T> resultCallback);
+
+}
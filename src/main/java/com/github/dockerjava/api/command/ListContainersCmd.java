@@ -1,7 +1,5 @@
 package com.github.dockerjava.api.command;
 
-import java.util.List;
-
 import javax.annotation.CheckForNull;
 
 import com.github.dockerjava.api.model.Container;
@@ -22,7 +20,7 @@ import com.github.dockerjava.api.model.Filters;
  *            - Show only containers created before Id, include non-running ones.
  *
  */
-public interface ListContainersCmd extends SyncDockerCmd<List<Container>> {
+public interface ListContainersCmd extends ListDockerCmd<Container> {
 
     @CheckForNull
     public String getBeforeId();
@@ -54,7 +52,7 @@ public interface ListContainersCmd extends SyncDockerCmd<List<Container>> {
 
     public ListContainersCmd withSince(String since);
 
-    public static interface Exec extends DockerCmdSyncExec<ListContainersCmd, List<Container>> {
+    public static interface Exec extends DockerCmdListExec<ListContainersCmd, Container> {
     }
 
 }
\ No newline at end of file
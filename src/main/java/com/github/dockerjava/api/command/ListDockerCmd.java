@@ -0,0 +1,15 @@
+package com.github.dockerjava.api.command;
+
+import java.util.List;
+
+import com.github.dockerjava.api.async.ResultCallback;
+
+/**
+ * A command whose response is a list. Besides returning the whole list, it can stream the elements to a callback as
+ * they are parsed from the response, so that only one element needs to be held in memory at a time.
+ */
+public interface ListDockerCmd<ELEM_T> extends SyncDockerCmd<List<ELEM_T>> {
+
+    public <T extends ResultCallback<ELEM_T>> T exec(T resultCallback);
+
+}
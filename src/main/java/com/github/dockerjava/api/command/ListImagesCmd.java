@@ -1,7 +1,5 @@
 package com.github.dockerjava.api.command;
 
-import java.util.List;
-
 import javax.annotation.CheckForNull;
 
 import com.github.dockerjava.api.model.Image;
@@ -14,7 +12,7 @@ import com.github.dockerjava.api.model.Image;
  * @param filters
  *            - a json encoded value of the filters (a map[string][]string) to process on the images list.
  */
-public interface ListImagesCmd extends SyncDockerCmd<List<Image>> {
+public interface ListImagesCmd extends ListDockerCmd<Image> {
 
     @CheckForNull
     public String getFilters();
@@ -26,7 +24,7 @@ public interface ListImagesCmd extends SyncDockerCmd<List<Image>> {
 
     public ListImagesCmd withFilters(String filters);
 
-    public static interface Exec extends DockerCmdSyncExec<ListImagesCmd, List<Image>> {
+    public static interface Exec extends DockerCmdListExec<ListImagesCmd, Image> {
     }
 
 }
\ No newline at end of file
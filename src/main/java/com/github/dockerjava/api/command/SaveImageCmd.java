@@ -1,6 +1,9 @@
 package com.github.dockerjava.api.command;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -35,6 +38,29 @@ public interface SaveImageCmd extends SyncDockerCmd<InputStream> {
      */
     public InputStream exec() throws NotFoundException;
 
+    /**
+     * Writes the archive to the file, replacing its content. The archive is written as it is received, without
+     * buffering it as a whole.
+     *
+     * @return the size of the archive
+     * @throws NotFoundException
+     *             No such image
+     * @throws IOException
+     *             if the archive can't be received or written
+     */
+    public long saveTo(Path file) throws NotFoundException, IOException;
+
+    /**
+     * Writes the archive to the channel as it is received. The channel is not closed.
+     *
+     * @return the size of the archive
+     * @throws NotFoundException
+     *             No such image
+     * @throws IOException
+     *             if the archive can't be received or written
+     */
+    public long saveTo(WritableByteChannel channel) throws NotFoundException, IOException;
+
     public static interface Exec extends DockerCmdSyncExec<SaveImageCmd, InputStream> {
     }
 
@@ -1,7 +1,5 @@
 package com.github.dockerjava.api.command;
 
-import java.util.List;
-
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
@@ -14,14 +12,14 @@ import com.github.dockerjava.api.model.SearchItem;
  *            - search term
  *
  */
-public interface SearchImagesCmd extends SyncDockerCmd<List<SearchItem>> {
+public interface SearchImagesCmd extends ListDockerCmd<SearchItem> {
 
     @CheckForNull
     public String getTerm();
 
     public SearchImagesCmd withTerm(@Nonnull String term);
 
-    public static interface Exec extends DockerCmdSyncExec<SearchImagesCmd, List<SearchItem>> {
+    public static interface Exec extends DockerCmdListExec<SearchImagesCmd, SearchItem> {
     }
 
 }
\ No newline at end of file
@@ -14,8 +14,18 @@ public interface StatsCmd extends AsyncDockerCmd<StatsCmd, Statistics> {
     @CheckForNull
     public String getContainerId();
 
+    @CheckForNull
+    public Boolean hasReuseStatisticsEnabled();
+
     public StatsCmd withContainerId(@Nonnull String containerId);
 
+    /**
+     * Passes the same {@link Statistics} instance to the callback for every sample, updated in place, instead of a new
+     * instance each time. The callback must copy the values it wants to keep and must not hand the instance over to
+     * other threads.
+     */
+    public StatsCmd withReuseStatistics(Boolean reuseStatistics);
+
     public static interface Exec extends DockerCmdAsyncExec<StatsCmd, Statistics> {
     }
 }
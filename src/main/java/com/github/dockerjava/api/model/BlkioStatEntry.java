@@ -0,0 +1,97 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A counter of the block IO of a container on one device, part of {@link BlkioStats}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class BlkioStatEntry {
+
+    @JsonProperty("major")
+    private long major;
+
+    @JsonProperty("minor")
+    private long minor;
+
+    @JsonProperty("op")
+    private String op;
+
+    @JsonProperty("value")
+    private long value;
+
+    /**
+     * Major number of the device.
+     */
+    public long getMajor() {
+        return major;
+    }
+
+    /**
+     * Minor number of the device.
+     */
+    public long getMinor() {
+        return minor;
+    }
+
+    /**
+     * The kind of operations counted, e.g. "Read", "Write" or "Total".
+     */
+    public String getOp() {
+        return op;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    static BlkioStatEntry read(JsonParser jp, BlkioStatEntry reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        BlkioStatEntry entry = reuse != null ? reuse : new BlkioStatEntry();
+        entry.major = 0;
+        entry.minor = 0;
+        entry.op = null;
+        entry.value = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "major":
+                entry.major = jp.getValueAsLong();
+                break;
+            case "minor":
+                entry.minor = jp.getValueAsLong();
+                break;
+            case "op":
+                entry.op = jp.getValueAsString();
+                break;
+            case "value":
+                entry.value = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextElement;
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startArray;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Block IO statistics of a container, part of {@link Statistics}. Every counter is reported per device and kind of
+ * operation.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class BlkioStats {
+
+    @JsonProperty("io_service_bytes_recursive")
+    private List<BlkioStatEntry> ioServiceBytesRecursive;
+
+    @JsonProperty("io_serviced_recursive")
+    private List<BlkioStatEntry> ioServicedRecursive;
+
+    @JsonProperty("io_queue_recursive")
+    private List<BlkioStatEntry> ioQueueRecursive;
+
+    @JsonProperty("io_service_time_recursive")
+    private List<BlkioStatEntry> ioServiceTimeRecursive;
+
+    @JsonProperty("io_wait_time_recursive")
+    private List<BlkioStatEntry> ioWaitTimeRecursive;
+
+    @JsonProperty("io_merged_recursive")
+    private List<BlkioStatEntry> ioMergedRecursive;
+
+    @JsonProperty("io_time_recursive")
+    private List<BlkioStatEntry> ioTimeRecursive;
+
+    @JsonProperty("sectors_recursive")
+    private List<BlkioStatEntry> sectorsRecursive;
+
+    /**
+     * Bytes transferred.
+     */
+    @CheckForNull
+    public List<BlkioStatEntry> getIoServiceBytesRecursive() {
+        return ioServiceBytesRecursive;
+    }
+
+    /**
+     * Number of operations.
+     */
+    @CheckForNull
+    public List<BlkioStatEntry> getIoServicedRecursive() {
+        return ioServicedRecursive;
+    }
+
+    @CheckForNull
+    public List<BlkioStatEntry> getIoQueueRecursive() {
+        return ioQueueRecursive;
+    }
+
+    @CheckForNull
+    public List<BlkioStatEntry> getIoServiceTimeRecursive() {
+        return ioServiceTimeRecursive;
+    }
+
+    @CheckForNull
+    public List<BlkioStatEntry> getIoWaitTimeRecursive() {
+        return ioWaitTimeRecursive;
+    }
+
+    @CheckForNull
+    public List<BlkioStatEntry> getIoMergedRecursive() {
+        return ioMergedRecursive;
+    }
+
+    @CheckForNull
+    public List<BlkioStatEntry> getIoTimeRecursive() {
+        return ioTimeRecursive;
+    }
+
+    /**
+     * Sectors transferred.
+     */
+    @CheckForNull
+    public List<BlkioStatEntry> getSectorsRecursive() {
+        return sectorsRecursive;
+    }
+
+    static BlkioStats read(JsonParser jp, BlkioStats reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        BlkioStats stats = reuse != null ? reuse : new BlkioStats();
+
+        List<BlkioStatEntry> previousIoServiceBytesRecursive = stats.ioServiceBytesRecursive;
+        List<BlkioStatEntry> previousIoServicedRecursive = stats.ioServicedRecursive;
+        List<BlkioStatEntry> previousIoQueueRecursive = stats.ioQueueRecursive;
+        List<BlkioStatEntry> previousIoServiceTimeRecursive = stats.ioServiceTimeRecursive;
+        List<BlkioStatEntry> previousIoWaitTimeRecursive = stats.ioWaitTimeRecursive;
+        List<BlkioStatEntry> previousIoMergedRecursive = stats.ioMergedRecursive;
+        List<BlkioStatEntry> previousIoTimeRecursive = stats.ioTimeRecursive;
+        List<BlkioStatEntry> previousSectorsRecursive = stats.sectorsRecursive;
+        stats.ioServiceBytesRecursive = null;
+        stats.ioServicedRecursive = null;
+        stats.ioQueueRecursive = null;
+        stats.ioServiceTimeRecursive = null;
+        stats.ioWaitTimeRecursive = null;
+        stats.ioMergedRecursive = null;
+        stats.ioTimeRecursive = null;
+        stats.sectorsRecursive = null;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "io_service_bytes_recursive":
+                stats.ioServiceBytesRecursive = readEntries(jp, previousIoServiceBytesRecursive);
+                break;
+            case "io_serviced_recursive":
+                stats.ioServicedRecursive = readEntries(jp, previousIoServicedRecursive);
+                break;
+            case "io_queue_recursive":
+                stats.ioQueueRecursive = readEntries(jp, previousIoQueueRecursive);
+                break;
+            case "io_service_time_recursive":
+                stats.ioServiceTimeRecursive = readEntries(jp, previousIoServiceTimeRecursive);
+                break;
+            case "io_wait_time_recursive":
+                stats.ioWaitTimeRecursive = readEntries(jp, previousIoWaitTimeRecursive);
+                break;
+            case "io_merged_recursive":
+                stats.ioMergedRecursive = readEntries(jp, previousIoMergedRecursive);
+                break;
+            case "io_time_recursive":
+                stats.ioTimeRecursive = readEntries(jp, previousIoTimeRecursive);
+                break;
+            case "sectors_recursive":
+                stats.sectorsRecursive = readEntries(jp, previousSectorsRecursive);
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Reads the entries into the instances of {@code reuse} as far as possible.
+     */
+    private static List<BlkioStatEntry> readEntries(JsonParser jp, List<BlkioStatEntry> reuse) throws IOException {
+        if (!startArray(jp)) {
+            return null;
+        }
+
+        List<BlkioStatEntry> entries = reuse != null ? reuse : new ArrayList<BlkioStatEntry>();
+        int count = 0;
+        while (nextElement(jp)) {
+            BlkioStatEntry entry = BlkioStatEntry.read(jp, count < entries.size() ? entries.get(count) : null);
+            if (entry == null) {
+                continue;
+            }
+            if (count < entries.size()) {
+                entries.set(count, entry);
+            } else {
+                entries.add(entry);
+            }
+            count++;
+        }
+        while (entries.size() > count) {
+            entries.remove(entries.size() - 1);
+        }
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * CPU statistics of a container, part of {@link Statistics}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class CpuStats {
+
+    @JsonProperty("cpu_usage")
+    private CpuUsage cpuUsage;
+
+    @JsonProperty("system_cpu_usage")
+    private long systemCpuUsage;
+
+    @JsonProperty("throttling_data")
+    private ThrottlingData throttlingData;
+
+    @CheckForNull
+    public CpuUsage getCpuUsage() {
+        return cpuUsage;
+    }
+
+    /**
+     * CPU time consumed by the whole host, in nanoseconds. Relates the usage of the container to the capacity of the
+     * host.
+     */
+    public long getSystemCpuUsage() {
+        return systemCpuUsage;
+    }
+
+    @CheckForNull
+    public ThrottlingData getThrottlingData() {
+        return throttlingData;
+    }
+
+    static CpuStats read(JsonParser jp, CpuStats reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        CpuStats stats = reuse != null ? reuse : new CpuStats();
+        CpuUsage previousCpuUsage = stats.cpuUsage;
+        ThrottlingData previousThrottlingData = stats.throttlingData;
+        stats.cpuUsage = null;
+        stats.systemCpuUsage = 0;
+        stats.throttlingData = null;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "cpu_usage":
+                stats.cpuUsage = CpuUsage.read(jp, previousCpuUsage);
+                break;
+            case "system_cpu_usage":
+                stats.systemCpuUsage = jp.getValueAsLong();
+                break;
+            case "throttling_data":
+                stats.throttlingData = ThrottlingData.read(jp, previousThrottlingData);
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
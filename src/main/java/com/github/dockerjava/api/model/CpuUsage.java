@@ -0,0 +1,96 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.readLongs;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * CPU time consumed by a container, part of {@link CpuStats}. All times are in nanoseconds.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class CpuUsage {
+
+    @JsonProperty("total_usage")
+    private long totalUsage;
+
+    @JsonProperty("percpu_usage")
+    private long[] percpuUsage;
+
+    @JsonProperty("usage_in_kernelmode")
+    private long usageInKernelmode;
+
+    @JsonProperty("usage_in_usermode")
+    private long usageInUsermode;
+
+    public long getTotalUsage() {
+        return totalUsage;
+    }
+
+    /**
+     * Usage per CPU core, indexed by the number of the core.
+     */
+    @CheckForNull
+    public long[] getPercpuUsage() {
+        return percpuUsage;
+    }
+
+    public long getUsageInKernelmode() {
+        return usageInKernelmode;
+    }
+
+    public long getUsageInUsermode() {
+        return usageInUsermode;
+    }
+
+    static CpuUsage read(JsonParser jp, CpuUsage reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        CpuUsage usage = reuse != null ? reuse : new CpuUsage();
+        long[] previousPercpuUsage = usage.percpuUsage;
+        usage.totalUsage = 0;
+        usage.percpuUsage = null;
+        usage.usageInKernelmode = 0;
+        usage.usageInUsermode = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "total_usage":
+                usage.totalUsage = jp.getValueAsLong();
+                break;
+            case "percpu_usage":
+                usage.percpuUsage = readLongs(jp, previousPercpuUsage);
+                break;
+            case "usage_in_kernelmode":
+                usage.usageInKernelmode = jp.getValueAsLong();
+                break;
+            case "usage_in_usermode":
+                usage.usageInUsermode = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return usage;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
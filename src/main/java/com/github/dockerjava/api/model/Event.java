@@ -1,5 +1,7 @@
 package com.github.dockerjava.api.model;
 
+import javax.annotation.CheckForNull;
+
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -20,6 +22,8 @@ public class Event {
 
     private Long time;
 
+    private Long timeNano;
+
     @JsonIgnoreProperties
     private Node node;
 
@@ -89,6 +93,16 @@ public class Event {
         return time;
     }
 
+    /**
+     * Get the event time in nanoseconds since January 1, 1970, 00:00:00 GMT
+     *
+     * @since Docker Remote API 1.22
+     */
+    @CheckForNull
+    public Long getTimeNano() {
+        return timeNano;
+    }
+
     /**
      * Returns the node when working against docker swarm
      */
@@ -7,11 +7,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import javax.ws.rs.core.MediaType;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.dockerjava.core.DockerObjectMapper;
 
 /**
  * Representation of Docker filters.
@@ -21,8 +19,7 @@ import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
  */
 public class Filters {
 
-    private static ObjectMapper OBJECT_MAPPER = new JacksonJaxbJsonProvider().locateMapper(Map.class,
-            MediaType.APPLICATION_JSON_TYPE);
+    private static final ObjectWriter WRITER = DockerObjectMapper.writer(Map.class);
 
     private Map<String, List<String>> filters = new HashMap<String, List<String>>();
 
@@ -113,7 +110,7 @@ public class Filters {
     @Override
     public String toString() {
         try {
-            return OBJECT_MAPPER.writeValueAsString(filters);
+            return WRITER.writeValueAsString(filters);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -1,5 +1,7 @@
 package com.github.dockerjava.api.model;
 
+import javax.annotation.CheckForNull;
+
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -28,6 +30,13 @@ public class Image {
     @JsonProperty("RepoTags")
     private String[] repoTags;
 
+    /**
+     * @since Docker Remote API 1.20
+     */
+    @CheckForNull
+    @JsonProperty("RepoDigests")
+    private String[] repoDigests;
+
     @JsonProperty("Size")
     private Long size;
 
@@ -42,6 +51,16 @@ public class Image {
         return repoTags;
     }
 
+    /**
+     * The digests the image has been pulled by, e.g. "busybox@sha256:...".
+     *
+     * @since Docker Remote API 1.20
+     */
+    @CheckForNull
+    public String[] getRepoDigests() {
+        return repoDigests;
+    }
+
     public String getParentId() {
         return parentId;
     }
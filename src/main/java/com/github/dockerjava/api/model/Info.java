@@ -90,6 +90,9 @@ public class Info {
     @JsonProperty("SwapLimit")
     private Boolean swapLimit;
 
+    @JsonProperty("SystemTime")
+    private String systemTime;
+
     public Boolean isDebug() {
         return debug;
     }
@@ -182,6 +185,13 @@ public class Info {
         return swapLimit;
     }
 
+    /**
+     * Returns the current time of the daemon in RFC 3339 format with nanoseconds, since API version 1.22.
+     */
+    public String getSystemTime() {
+        return systemTime;
+    }
+
     public String getExecutionDriver() {
         return executionDriver;
     }
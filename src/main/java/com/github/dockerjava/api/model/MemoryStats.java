@@ -0,0 +1,106 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Memory statistics of a container, part of {@link Statistics}. Sizes are in bytes.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class MemoryStats {
+
+    @JsonProperty("stats")
+    private MemoryStatsDetails stats;
+
+    @JsonProperty("usage")
+    private long usage;
+
+    @JsonProperty("max_usage")
+    private long maxUsage;
+
+    @JsonProperty("failcnt")
+    private long failcnt;
+
+    @JsonProperty("limit")
+    private long limit;
+
+    @CheckForNull
+    public MemoryStatsDetails getStats() {
+        return stats;
+    }
+
+    public long getUsage() {
+        return usage;
+    }
+
+    public long getMaxUsage() {
+        return maxUsage;
+    }
+
+    /**
+     * Number of times the usage hit the limit.
+     */
+    public long getFailcnt() {
+        return failcnt;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    static MemoryStats read(JsonParser jp, MemoryStats reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        MemoryStats memoryStats = reuse != null ? reuse : new MemoryStats();
+        MemoryStatsDetails previousStats = memoryStats.stats;
+        memoryStats.stats = null;
+        memoryStats.usage = 0;
+        memoryStats.maxUsage = 0;
+        memoryStats.failcnt = 0;
+        memoryStats.limit = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "stats":
+                memoryStats.stats = MemoryStatsDetails.read(jp, previousStats);
+                break;
+            case "usage":
+                memoryStats.usage = jp.getValueAsLong();
+                break;
+            case "max_usage":
+                memoryStats.maxUsage = jp.getValueAsLong();
+                break;
+            case "failcnt":
+                memoryStats.failcnt = jp.getValueAsLong();
+                break;
+            case "limit":
+                memoryStats.limit = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return memoryStats;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
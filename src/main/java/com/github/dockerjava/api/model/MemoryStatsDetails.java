@@ -0,0 +1,274 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Counters of the memory cgroup of a container, part of {@link MemoryStats}. Sizes are in bytes.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemoryStatsDetails {
+
+    @JsonProperty("cache")
+    private long cache;
+
+    @JsonProperty("rss")
+    private long rss;
+
+    @JsonProperty("rss_huge")
+    private long rssHuge;
+
+    @JsonProperty("mapped_file")
+    private long mappedFile;
+
+    @JsonProperty("writeback")
+    private long writeback;
+
+    @JsonProperty("swap")
+    private long swap;
+
+    @JsonProperty("pgpgin")
+    private long pgpgin;
+
+    @JsonProperty("pgpgout")
+    private long pgpgout;
+
+    @JsonProperty("pgfault")
+    private long pgfault;
+
+    @JsonProperty("pgmajfault")
+    private long pgmajfault;
+
+    @JsonProperty("active_anon")
+    private long activeAnon;
+
+    @JsonProperty("inactive_anon")
+    private long inactiveAnon;
+
+    @JsonProperty("active_file")
+    private long activeFile;
+
+    @JsonProperty("inactive_file")
+    private long inactiveFile;
+
+    @JsonProperty("unevictable")
+    private long unevictable;
+
+    @JsonProperty("hierarchical_memory_limit")
+    private long hierarchicalMemoryLimit;
+
+    @JsonProperty("total_cache")
+    private long totalCache;
+
+    @JsonProperty("total_rss")
+    private long totalRss;
+
+    @JsonProperty("total_swap")
+    private long totalSwap;
+
+    /**
+     * Page cache, including tmpfs.
+     */
+    public long getCache() {
+        return cache;
+    }
+
+    /**
+     * Anonymous memory and swap cache, not including tmpfs.
+     */
+    public long getRss() {
+        return rss;
+    }
+
+    public long getRssHuge() {
+        return rssHuge;
+    }
+
+    public long getMappedFile() {
+        return mappedFile;
+    }
+
+    public long getWriteback() {
+        return writeback;
+    }
+
+    /**
+     * Swap usage, only reported if swap accounting is enabled.
+     */
+    public long getSwap() {
+        return swap;
+    }
+
+    public long getPgpgin() {
+        return pgpgin;
+    }
+
+    public long getPgpgout() {
+        return pgpgout;
+    }
+
+    /**
+     * Number of page faults.
+     */
+    public long getPgfault() {
+        return pgfault;
+    }
+
+    /**
+     * Number of major page faults.
+     */
+    public long getPgmajfault() {
+        return pgmajfault;
+    }
+
+    public long getActiveAnon() {
+        return activeAnon;
+    }
+
+    public long getInactiveAnon() {
+        return inactiveAnon;
+    }
+
+    public long getActiveFile() {
+        return activeFile;
+    }
+
+    public long getInactiveFile() {
+        return inactiveFile;
+    }
+
+    public long getUnevictable() {
+        return unevictable;
+    }
+
+    public long getHierarchicalMemoryLimit() {
+        return hierarchicalMemoryLimit;
+    }
+
+    /**
+     * Like {@link #getCache()}, including the child cgroups.
+     */
+    public long getTotalCache() {
+        return totalCache;
+    }
+
+    /**
+     * Like {@link #getRss()}, including the child cgroups.
+     */
+    public long getTotalRss() {
+        return totalRss;
+    }
+
+    /**
+     * Like {@link #getSwap()}, including the child cgroups.
+     */
+    public long getTotalSwap() {
+        return totalSwap;
+    }
+
+    static MemoryStatsDetails read(JsonParser jp, MemoryStatsDetails reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        MemoryStatsDetails details = reuse != null ? reuse : new MemoryStatsDetails();
+        details.cache = 0;
+        details.rss = 0;
+        details.rssHuge = 0;
+        details.mappedFile = 0;
+        details.writeback = 0;
+        details.swap = 0;
+        details.pgpgin = 0;
+        details.pgpgout = 0;
+        details.pgfault = 0;
+        details.pgmajfault = 0;
+        details.activeAnon = 0;
+        details.inactiveAnon = 0;
+        details.activeFile = 0;
+        details.inactiveFile = 0;
+        details.unevictable = 0;
+        details.hierarchicalMemoryLimit = 0;
+        details.totalCache = 0;
+        details.totalRss = 0;
+        details.totalSwap = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "cache":
+                details.cache = jp.getValueAsLong();
+                break;
+            case "rss":
+                details.rss = jp.getValueAsLong();
+                break;
+            case "rss_huge":
+                details.rssHuge = jp.getValueAsLong();
+                break;
+            case "mapped_file":
+                details.mappedFile = jp.getValueAsLong();
+                break;
+            case "writeback":
+                details.writeback = jp.getValueAsLong();
+                break;
+            case "swap":
+                details.swap = jp.getValueAsLong();
+                break;
+            case "pgpgin":
+                details.pgpgin = jp.getValueAsLong();
+                break;
+            case "pgpgout":
+                details.pgpgout = jp.getValueAsLong();
+                break;
+            case "pgfault":
+                details.pgfault = jp.getValueAsLong();
+                break;
+            case "pgmajfault":
+                details.pgmajfault = jp.getValueAsLong();
+                break;
+            case "active_anon":
+                details.activeAnon = jp.getValueAsLong();
+                break;
+            case "inactive_anon":
+                details.inactiveAnon = jp.getValueAsLong();
+                break;
+            case "active_file":
+                details.activeFile = jp.getValueAsLong();
+                break;
+            case "inactive_file":
+                details.inactiveFile = jp.getValueAsLong();
+                break;
+            case "unevictable":
+                details.unevictable = jp.getValueAsLong();
+                break;
+            case "hierarchical_memory_limit":
+                details.hierarchicalMemoryLimit = jp.getValueAsLong();
+                break;
+            case "total_cache":
+                details.totalCache = jp.getValueAsLong();
+                break;
+            case "total_rss":
+                details.totalRss = jp.getValueAsLong();
+                break;
+            case "total_swap":
+                details.totalSwap = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return details;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Traffic of a network interface of a container, part of {@link Statistics}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NetworkStats {
+
+    /**
+     * Number of the read of {@link Statistics} that last updated this instance, to remove interfaces that disappeared.
+     */
+    transient int generation;
+
+    @JsonProperty("rx_bytes")
+    private long rxBytes;
+
+    @JsonProperty("rx_packets")
+    private long rxPackets;
+
+    @JsonProperty("rx_errors")
+    private long rxErrors;
+
+    @JsonProperty("rx_dropped")
+    private long rxDropped;
+
+    @JsonProperty("tx_bytes")
+    private long txBytes;
+
+    @JsonProperty("tx_packets")
+    private long txPackets;
+
+    @JsonProperty("tx_errors")
+    private long txErrors;
+
+    @JsonProperty("tx_dropped")
+    private long txDropped;
+
+    public long getRxBytes() {
+        return rxBytes;
+    }
+
+    public long getRxPackets() {
+        return rxPackets;
+    }
+
+    public long getRxErrors() {
+        return rxErrors;
+    }
+
+    public long getRxDropped() {
+        return rxDropped;
+    }
+
+    public long getTxBytes() {
+        return txBytes;
+    }
+
+    public long getTxPackets() {
+        return txPackets;
+    }
+
+    public long getTxErrors() {
+        return txErrors;
+    }
+
+    public long getTxDropped() {
+        return txDropped;
+    }
+
+    static NetworkStats read(JsonParser jp, NetworkStats reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        NetworkStats stats = reuse != null ? reuse : new NetworkStats();
+        stats.rxBytes = 0;
+        stats.rxPackets = 0;
+        stats.rxErrors = 0;
+        stats.rxDropped = 0;
+        stats.txBytes = 0;
+        stats.txPackets = 0;
+        stats.txErrors = 0;
+        stats.txDropped = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "rx_bytes":
+                stats.rxBytes = jp.getValueAsLong();
+                break;
+            case "rx_packets":
+                stats.rxPackets = jp.getValueAsLong();
+                break;
+            case "rx_errors":
+                stats.rxErrors = jp.getValueAsLong();
+                break;
+            case "rx_dropped":
+                stats.rxDropped = jp.getValueAsLong();
+                break;
+            case "tx_bytes":
+                stats.txBytes = jp.getValueAsLong();
+                break;
+            case "tx_packets":
+                stats.txPackets = jp.getValueAsLong();
+                break;
+            case "tx_errors":
+                stats.txErrors = jp.getValueAsLong();
+                break;
+            case "tx_dropped":
+                stats.txDropped = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -1,5 +1,11 @@
 package com.github.dockerjava.api.model;
 
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.annotation.CheckForNull;
@@ -10,12 +16,23 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * Representation of a Docker statistics.
+ *
+ * Statistics are read by a streaming parser into primitive fields. When read with an
+ * {@link com.fasterxml.jackson.databind.ObjectReader#withValueToUpdate(Object) ObjectReader updating a value}, the
+ * existing instance and all of its parts are updated in place, so that reading a stream of statistics doesn't allocate
+ * new objects for every sample.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(using = Statistics.Deserializer.class)
 public class Statistics {
 
     @JsonProperty("read")
@@ -26,29 +43,45 @@ public class Statistics {
      */
     @CheckForNull
     @JsonProperty("networks")
-    private Map<String, Object> networks;
+    private Map<String, NetworkStats> networks;
 
     /**
      * @deprecated as of Docker Remote API 1.21, replaced by {@link #networks}
      */
     @Deprecated
     @JsonProperty("network")
-    private Map<String, Object> network;
+    private NetworkStats network;
 
     @JsonProperty("memory_stats")
-    private Map<String, Object> memoryStats;
+    private MemoryStats memoryStats;
 
     @JsonProperty("blkio_stats")
-    private Map<String, Object> blkioStats;
+    private BlkioStats blkioStats;
 
     @JsonProperty("cpu_stats")
-    private Map<String, Object> cpuStats;
+    private CpuStats cpuStats;
+
+    /**
+     * @since Docker Remote API 1.19
+     */
+    @CheckForNull
+    @JsonProperty("precpu_stats")
+    private CpuStats precpuStats;
+
+    private transient int generation;
+
+    /**
+     * The time the statistics were sampled, e.g. "2015-01-08T22:57:31.547920715Z".
+     */
+    public String getRead() {
+        return read;
+    }
 
     /**
      * @since Docker Remote API 1.21
      */
     @CheckForNull
-    public Map<String, Object> getNetworks() {
+    public Map<String, NetworkStats> getNetworks() {
         return networks;
     }
 
@@ -56,19 +89,29 @@ public class Statistics {
      * @deprecated as of Docker Remote API 1.21, replaced by {@link #getNetworks()}
      */
     @Deprecated
-    public Map<String, Object> getNetwork() {
+    public NetworkStats getNetwork() {
         return network;
     }
 
-    public Map<String, Object> getCpuStats() {
+    public CpuStats getCpuStats() {
         return cpuStats;
     }
 
-    public Map<String, Object> getMemoryStats() {
+    /**
+     * The CPU statistics of the previous sample.
+     *
+     * @since Docker Remote API 1.19
+     */
+    @CheckForNull
+    public CpuStats getPrecpuStats() {
+        return precpuStats;
+    }
+
+    public MemoryStats getMemoryStats() {
         return memoryStats;
     }
 
-    public Map<String, Object> getBlkioStats() {
+    public BlkioStats getBlkioStats() {
         return blkioStats;
     }
 
@@ -76,4 +119,103 @@ public class Statistics {
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
     }
+
+    private void read(JsonParser jp) throws IOException {
+        Map<String, NetworkStats> previousNetworks = networks;
+        NetworkStats previousNetwork = network;
+        MemoryStats previousMemoryStats = memoryStats;
+        BlkioStats previousBlkioStats = blkioStats;
+        CpuStats previousCpuStats = cpuStats;
+        CpuStats previousPrecpuStats = precpuStats;
+
+        read = null;
+        networks = null;
+        network = null;
+        memoryStats = null;
+        blkioStats = null;
+        cpuStats = null;
+        precpuStats = null;
+        generation++;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "read":
+                read = jp.getValueAsString();
+                break;
+            case "networks":
+                networks = readNetworks(jp, previousNetworks);
+                break;
+            case "network":
+                network = NetworkStats.read(jp, previousNetwork);
+                break;
+            case "memory_stats":
+                memoryStats = MemoryStats.read(jp, previousMemoryStats);
+                break;
+            case "blkio_stats":
+                blkioStats = BlkioStats.read(jp, previousBlkioStats);
+                break;
+            case "cpu_stats":
+                cpuStats = CpuStats.read(jp, previousCpuStats);
+                break;
+            case "precpu_stats":
+                precpuStats = CpuStats.read(jp, previousPrecpuStats);
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads the interfaces into the instances of {@code reuse}, interfaces that are gone are removed.
+     */
+    private Map<String, NetworkStats> readNetworks(JsonParser jp, Map<String, NetworkStats> reuse)
+            throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        Map<String, NetworkStats> interfaces = reuse != null ? reuse : new LinkedHashMap<String, NetworkStats>();
+        int count = 0;
+        String name;
+        while ((name = nextField(jp)) != null) {
+            NetworkStats stats = NetworkStats.read(jp, interfaces.get(name));
+            if (stats == null) {
+                interfaces.remove(name);
+                continue;
+            }
+            stats.generation = generation;
+            interfaces.put(name, stats);
+            count++;
+        }
+
+        if (interfaces.size() > count) {
+            for (Iterator<NetworkStats> it = interfaces.values().iterator(); it.hasNext();) {
+                if (it.next().generation != generation) {
+                    it.remove();
+                }
+            }
+        }
+        return interfaces;
+    }
+
+    public static class Deserializer extends JsonDeserializer<Statistics> {
+
+        @Override
+        public Statistics deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException, JsonProcessingException {
+            return deserialize(jsonParser, deserializationContext, new Statistics());
+        }
+
+        @Override
+        public Statistics deserialize(JsonParser jsonParser, DeserializationContext deserializationContext,
+                Statistics statistics) throws IOException, JsonProcessingException {
+            if (!startObject(jsonParser)) {
+                return null;
+            }
+            statistics.read(jsonParser);
+            return statistics;
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.github.dockerjava.api.model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helpers of the streaming parsers of {@link Statistics} and its parts, which fill existing instances in place instead
+ * of building a tree of maps.
+ */
+final class StatsJsonReader {
+
+    private StatsJsonReader() {
+    }
+
+    /**
+     * Checks that the parser is positioned on the start of an object. Returns {@code false} if it is positioned on a
+     * {@code null} value instead.
+     */
+    static boolean startObject(JsonParser jp) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected an object but got " + token, jp.getCurrentLocation());
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the value of the next field of the current object and returns the name of the field, or
+     * {@code null} at the end of the object.
+     */
+    static String nextField(JsonParser jp) throws IOException {
+        JsonToken token = jp.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw new JsonParseException("Expected a field name but got " + token, jp.getCurrentLocation());
+        }
+        String name = jp.getCurrentName();
+        jp.nextToken();
+        return name;
+    }
+
+    /**
+     * Checks that the parser is positioned on the start of an array. Returns {@code false} if it is positioned on a
+     * {@code null} value instead.
+     */
+    static boolean startArray(JsonParser jp) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException("Expected an array but got " + token, jp.getCurrentLocation());
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the next element of the current array. Returns {@code false} at the end of the array.
+     */
+    static boolean nextElement(JsonParser jp) throws IOException {
+        JsonToken token = jp.nextToken();
+        if (token == null) {
+            throw new JsonParseException("Unexpected end of array", jp.getCurrentLocation());
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Reads an array of numbers into {@code reuse} if it has the right length, otherwise into a new array.
+     */
+    static long[] readLongs(JsonParser jp, long[] reuse) throws IOException {
+        if (!startArray(jp)) {
+            return null;
+        }
+
+        long[] values = reuse != null ? reuse : new long[0];
+        int count = 0;
+        while (nextElement(jp)) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, count * 2));
+            }
+            values[count++] = jp.getValueAsLong();
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+}
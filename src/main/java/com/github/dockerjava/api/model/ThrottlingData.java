@@ -0,0 +1,83 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.api.model.StatsJsonReader.nextField;
+import static com.github.dockerjava.api.model.StatsJsonReader.startObject;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * CPU throttling of a container, part of {@link CpuStats}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ThrottlingData {
+
+    @JsonProperty("periods")
+    private long periods;
+
+    @JsonProperty("throttled_periods")
+    private long throttledPeriods;
+
+    @JsonProperty("throttled_time")
+    private long throttledTime;
+
+    /**
+     * Number of enforcement periods.
+     */
+    public long getPeriods() {
+        return periods;
+    }
+
+    /**
+     * Number of periods in which the container hit its CPU quota.
+     */
+    public long getThrottledPeriods() {
+        return throttledPeriods;
+    }
+
+    /**
+     * Total time the container was throttled for, in nanoseconds.
+     */
+    public long getThrottledTime() {
+        return throttledTime;
+    }
+
+    static ThrottlingData read(JsonParser jp, ThrottlingData reuse) throws IOException {
+        if (!startObject(jp)) {
+            return null;
+        }
+
+        ThrottlingData data = reuse != null ? reuse : new ThrottlingData();
+        data.periods = 0;
+        data.throttledPeriods = 0;
+        data.throttledTime = 0;
+
+        String field;
+        while ((field = nextField(jp)) != null) {
+            switch (field) {
+            case "periods":
+                data.periods = jp.getValueAsLong();
+                break;
+            case "throttled_periods":
+                data.throttledPeriods = jp.getValueAsLong();
+                break;
+            case "throttled_time":
+                data.throttledTime = jp.getValueAsLong();
+                break;
+            default:
+                jp.skipChildren();
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
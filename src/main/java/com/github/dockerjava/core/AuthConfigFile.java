@@ -3,27 +3,44 @@ package com.github.dockerjava.core;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.dockerjava.api.model.AuthConfig;
 import com.github.dockerjava.api.model.AuthConfigurations;
+import com.github.dockerjava.core.NameParser.HostnameReposName;
+import com.github.dockerjava.core.NameParser.ReposTag;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class AuthConfigFile {
-    private static final ObjectMapper MAPPER = new ObjectMapper();
-
     private static final TypeReference<Map<String, AuthConfig>> CONFIG_MAP_TYPE = new TypeReference<Map<String, AuthConfig>>() {
     };
 
+    private static final ConcurrentMap<String, CachedFile> CACHE = new ConcurrentHashMap<String, CachedFile>();
+
+    private static final int MAX_CACHED_IMAGES = 1024;
+
     private final Map<String, AuthConfig> authConfigMap;
 
+    /**
+     * The config resolved per image name.
+     */
+    private final Cache<String, Optional<AuthConfig>> imageAuthConfigs = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_IMAGES).build();
+
     public AuthConfigFile() {
         authConfigMap = new HashMap<String, AuthConfig>();
     }
@@ -32,7 +49,15 @@ public class AuthConfigFile {
         authConfigMap.put(config.getServerAddress(), config);
     }
 
+    /**
+     * Returns a copy of the config of the registry, if there is one.
+     */
     public AuthConfig resolveAuthConfig(String hostname) {
+        AuthConfig authConfig = findAuthConfig(hostname);
+        return authConfig != null ? RegistryAuthEncoder.copy(authConfig) : null;
+    }
+
+    private AuthConfig findAuthConfig(String hostname) {
         if (StringUtils.isEmpty(hostname) || AuthConfig.DEFAULT_SERVER_ADDRESS.equals(hostname)) {
             return authConfigMap.get(AuthConfig.DEFAULT_SERVER_ADDRESS);
         }
@@ -54,10 +79,29 @@ public class AuthConfigFile {
         return null;
     }
 
+    /**
+     * Resolves the config of the registry the image is pulled from or pushed to. The result is remembered per image
+     * name, a copy of it is returned so that callers can't change it for each other.
+     */
+    public AuthConfig resolveAuthConfigForImage(String imageName) {
+        Optional<AuthConfig> authConfig = imageAuthConfigs.getIfPresent(imageName);
+        if (authConfig == null) {
+            ReposTag reposTag = NameParser.parseRepositoryTag(imageName);
+            HostnameReposName hostnameReposName = NameParser.resolveRepositoryName(reposTag.repos);
+
+            authConfig = Optional.fromNullable(findAuthConfig(hostnameReposName.hostname));
+            imageAuthConfigs.put(imageName, authConfig);
+        }
+        return authConfig.isPresent() ? RegistryAuthEncoder.copy(authConfig.get()) : null;
+    }
+
+    /**
+     * Returns copies of all configs.
+     */
     public AuthConfigurations getAuthConfigurations() {
         final AuthConfigurations authConfigurations = new AuthConfigurations();
         for (Map.Entry<String, AuthConfig> authConfigEntry : authConfigMap.entrySet()) {
-            authConfigurations.addConfig(authConfigEntry.getValue());
+            authConfigurations.addConfig(RegistryAuthEncoder.copy(authConfigEntry.getValue()));
         }
 
         return authConfigurations;
@@ -93,6 +137,33 @@ public class AuthConfigFile {
         return "AuthConfigFile [authConfigMap=" + authConfigMap + "]";
     }
 
+    /**
+     * Like {@link #loadConfig(File)}, but returns the config loaded before as long as the modification time and the
+     * size of the file are the same. The returned instance is shared, it hands out copies of its configs.
+     */
+    public static AuthConfigFile loadCachedConfig(File confFile) throws IOException {
+        File file = confFile.getAbsoluteFile();
+
+        long lastModified = -1;
+        long size = -1;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            lastModified = attributes.lastModifiedTime().toMillis();
+            size = attributes.size();
+        } catch (NoSuchFileException e) {
+            // cached as an empty config until the file is created
+        }
+
+        CachedFile cached = CACHE.get(file.getPath());
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached.configFile;
+        }
+
+        AuthConfigFile configFile = loadConfig(file);
+        CACHE.put(file.getPath(), new CachedFile(lastModified, size, configFile));
+        return configFile;
+    }
+
     public static AuthConfigFile loadConfig(File confFile) throws IOException {
         AuthConfigFile configFile = new AuthConfigFile();
         if (!confFile.exists()) {
@@ -100,7 +171,7 @@ public class AuthConfigFile {
         }
         Map<String, AuthConfig> configMap = null;
         try {
-            configMap = MAPPER.readValue(confFile, CONFIG_MAP_TYPE);
+            configMap = DockerObjectMapper.reader(CONFIG_MAP_TYPE).readValue(confFile);
         } catch (IOException e) {
             // pass
         }
@@ -155,4 +226,19 @@ public class AuthConfigFile {
         String[] numParts = stripped.split("/", 2);
         return numParts[0];
     }
+
+    private static class CachedFile {
+
+        private final long lastModified;
+
+        private final long size;
+
+        private final AuthConfigFile configFile;
+
+        CachedFile(long lastModified, long size, AuthConfigFile configFile) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.configFile = configFile;
+        }
+    }
 }
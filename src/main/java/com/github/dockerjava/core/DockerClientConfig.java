@@ -16,8 +16,6 @@ import java.util.Properties;
 import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.api.model.AuthConfig;
 import com.github.dockerjava.api.model.AuthConfigurations;
-import com.github.dockerjava.core.NameParser.HostnameReposName;
-import com.github.dockerjava.core.NameParser.ReposTag;
 
 public class DockerClientConfig implements Serializable {
 
@@ -260,14 +258,11 @@ public class DockerClientConfig implements Serializable {
         if (dockerCfgFile != null && imageName != null) {
             AuthConfigFile authConfigFile;
             try {
-                authConfigFile = AuthConfigFile.loadConfig(new File(dockerCfgFile));
+                authConfigFile = AuthConfigFile.loadCachedConfig(new File(dockerCfgFile));
             } catch (IOException e) {
                 throw new DockerClientException("Failed to parse dockerCfgFile", e);
             }
-            ReposTag reposTag = NameParser.parseRepositoryTag(imageName);
-            HostnameReposName hostnameReposName = NameParser.resolveRepositoryName(reposTag.repos);
-
-            authConfig = authConfigFile.resolveAuthConfig(hostnameReposName.hostname);
+            authConfig = authConfigFile.resolveAuthConfigForImage(imageName);
         }
 
         AuthConfig _authConfig = getAuthConfig();
@@ -283,7 +278,7 @@ public class DockerClientConfig implements Serializable {
         if (dockerCfgFile != null) {
             AuthConfigFile authConfigFile;
             try {
-                authConfigFile = AuthConfigFile.loadConfig(new File(dockerCfgFile));
+                authConfigFile = AuthConfigFile.loadCachedConfig(new File(dockerCfgFile));
             } catch (IOException e) {
                 throw new DockerClientException("Failed to parse dockerCfgFile", e);
             }
@@ -0,0 +1,138 @@
+package com.github.dockerjava.core;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.command.CreateImageResponse;
+import com.github.dockerjava.api.command.ExecCreateCmdResponse;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.InspectExecResponse;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.command.TopContainerResponse;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.AuthConfigurations;
+import com.github.dockerjava.api.model.AuthResponse;
+import com.github.dockerjava.api.model.BuildResponseItem;
+import com.github.dockerjava.api.model.ChangeLog;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Image;
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.api.model.PushResponseItem;
+import com.github.dockerjava.api.model.SearchItem;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.api.model.Version;
+import com.github.dockerjava.api.model.WaitResponse;
+import com.github.dockerjava.core.command.CommitCmdImpl;
+import com.github.dockerjava.core.command.CreateContainerCmdImpl;
+import com.github.dockerjava.core.command.ExecCreateCmdImpl;
+
+/**
+ * The {@link ObjectMapper} shared by both transports, together with cached {@link ObjectReader}s and
+ * {@link ObjectWriter}s per type. Creating a mapper and resolving the (de)serializers of a type is expensive, readers
+ * and writers resolve them once when they are created and are thread-safe.
+ *
+ * The mapper must not be reconfigured, readers and writers with other settings can be derived from the cached ones.
+ */
+public final class DockerObjectMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().configure(
+            JsonParser.Feature.AUTO_CLOSE_SOURCE, true);
+
+    private static final ConcurrentMap<Type, ObjectReader> READERS = new ConcurrentHashMap<Type, ObjectReader>();
+
+    private static final ConcurrentMap<Type, ObjectWriter> WRITERS = new ConcurrentHashMap<Type, ObjectWriter>();
+
+    private static final Class<?>[] RESPONSE_TYPES = { AuthResponse.class, BuildResponseItem.class, Container.class,
+            CreateContainerResponse.class, CreateImageResponse.class, Event.class, ExecCreateCmdResponse.class,
+            Image.class, Info.class, InspectContainerResponse.class, InspectExecResponse.class,
+            InspectImageResponse.class, PullResponseItem.class, PushResponseItem.class, Statistics.class,
+            TopContainerResponse.class, Version.class, WaitResponse.class };
+
+    private static final TypeReference<?>[] RESPONSE_LIST_TYPES = { new TypeReference<List<ChangeLog>>() {
+    }, new TypeReference<List<Container>>() {
+    }, new TypeReference<List<Image>>() {
+    }, new TypeReference<List<SearchItem>>() {
+    } };
+
+    private static final Class<?>[] REQUEST_TYPES = { AuthConfig.class, AuthConfigurations.class, CommitCmdImpl.class,
+            CreateContainerCmdImpl.class, ExecCreateCmdImpl.class };
+
+    private static volatile boolean warmedUp = false;
+
+    private DockerObjectMapper() {
+    }
+
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    public static ObjectReader reader(Class<?> type) {
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            reader = cache(READERS, type, OBJECT_MAPPER.readerFor(type));
+        }
+        return reader;
+    }
+
+    public static ObjectReader reader(TypeReference<?> typeReference) {
+        Type type = typeReference.getType();
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructType(type);
+            reader = cache(READERS, type, OBJECT_MAPPER.readerFor(javaType));
+        }
+        return reader;
+    }
+
+    public static ObjectWriter writer(Class<?> type) {
+        ObjectWriter writer = WRITERS.get(type);
+        if (writer == null) {
+            writer = cache(WRITERS, type, OBJECT_MAPPER.writerFor(type));
+        }
+        return writer;
+    }
+
+    /**
+     * Returns a writer for the runtime type of the value.
+     */
+    public static ObjectWriter writerForValue(Object value) {
+        return value != null ? writer(value.getClass()) : OBJECT_MAPPER.writer();
+    }
+
+    /**
+     * Creates the readers of all response types and the writers of all request bodies up front, so that the first
+     * requests don't pay for it. Called when a {@link com.github.dockerjava.api.command.DockerCmdExecFactory} is
+     * initialized, only the first call does any work.
+     */
+    public static void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        for (Class<?> type : RESPONSE_TYPES) {
+            reader(type);
+        }
+        for (TypeReference<?> typeReference : RESPONSE_LIST_TYPES) {
+            reader(typeReference);
+        }
+        for (Class<?> type : REQUEST_TYPES) {
+            writer(type);
+        }
+        warmedUp = true;
+    }
+
+    private static <T> T cache(ConcurrentMap<Type, T> cache, Type type, T value) {
+        T existing = cache.putIfAbsent(type, value);
+        return existing != null ? existing : value;
+    }
+}
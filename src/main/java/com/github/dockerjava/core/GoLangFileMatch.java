@@ -69,39 +69,71 @@ public class GoLangFileMatch {
     }
 
     public static boolean match(String pattern, String name) {
-        Pattern: while (!pattern.isEmpty()) {
+        return compile(pattern).matches(name);
+    }
+
+    /**
+     * Splits the pattern into its chunks once, so that it can be matched against many names without scanning it
+     * again. Malformed patterns are reported by {@link CompiledPattern#matches(String)} just like
+     * {@link #match(String, String)} does.
+     */
+    public static CompiledPattern compile(String pattern) {
+        List<ScanResult> chunks = new ArrayList<ScanResult>();
+        while (!pattern.isEmpty()) {
             ScanResult scanResult = scanChunk(pattern);
+            chunks.add(scanResult);
             pattern = scanResult.pattern;
-            if (scanResult.star && StringUtils.isEmpty(scanResult.chunk)) {
-                // Trailing * matches rest of string unless it has a /.
-                return name.indexOf(File.separatorChar) < 0;
-            }
-            // Look for match at current position.
-            String matchResult = matchChunk(scanResult.chunk, name);
+        }
+        return new CompiledPattern(chunks.toArray(new ScanResult[chunks.size()]));
+    }
 
-            // if we're the last chunk, make sure we've exhausted the name
-            // otherwise we'll give a false result even if we could still match
-            // using the star
-            if (matchResult != null && (matchResult.isEmpty() || !pattern.isEmpty())) {
-                name = matchResult;
-                continue;
-            }
-            if (scanResult.star) {
-                for (int i = 0; i < name.length() && name.charAt(i) != File.separatorChar; i++) {
-                    matchResult = matchChunk(scanResult.chunk, name.substring(i + 1));
-                    if (matchResult != null) {
-                        // if we're the last chunk, make sure we exhausted the name
-                        if (pattern.isEmpty() && !matchResult.isEmpty()) {
-                            continue;
+    /**
+     * A pattern that has been split into chunks by {@link GoLangFileMatch#compile(String)}.
+     */
+    public static final class CompiledPattern {
+
+        private final ScanResult[] chunks;
+
+        private CompiledPattern(ScanResult[] chunks) {
+            this.chunks = chunks;
+        }
+
+        public boolean matches(String name) {
+            int chunkIndex = 0;
+            Pattern: while (chunkIndex < chunks.length) {
+                ScanResult scanResult = chunks[chunkIndex++];
+                boolean lastChunk = chunkIndex == chunks.length;
+                if (scanResult.star && StringUtils.isEmpty(scanResult.chunk)) {
+                    // Trailing * matches rest of string unless it has a /.
+                    return name.indexOf(File.separatorChar) < 0;
+                }
+                // Look for match at current position.
+                String matchResult = matchChunk(scanResult.chunk, name);
+
+                // if we're the last chunk, make sure we've exhausted the name
+                // otherwise we'll give a false result even if we could still match
+                // using the star
+                if (matchResult != null && (matchResult.isEmpty() || !lastChunk)) {
+                    name = matchResult;
+                    continue;
+                }
+                if (scanResult.star) {
+                    for (int i = 0; i < name.length() && name.charAt(i) != File.separatorChar; i++) {
+                        matchResult = matchChunk(scanResult.chunk, name.substring(i + 1));
+                        if (matchResult != null) {
+                            // if we're the last chunk, make sure we exhausted the name
+                            if (lastChunk && !matchResult.isEmpty()) {
+                                continue;
+                            }
+                            name = matchResult;
+                            continue Pattern;
                         }
-                        name = matchResult;
-                        continue Pattern;
                     }
                 }
+                return false;
             }
-            return false;
+            return name.isEmpty();
         }
-        return name.isEmpty();
     }
 
     static ScanResult scanChunk(String pattern) {
@@ -0,0 +1,97 @@
+package com.github.dockerjava.core;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Base64;
+
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.AuthConfigurations;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Encodes the values of the {@code X-Registry-Auth} and {@code X-Registry-Config} headers. The same credentials are
+ * usually sent with every pull, push and build, so the encoded values are remembered per config.
+ */
+public final class RegistryAuthEncoder {
+
+    private static final int MAX_CACHED_CONFIGS = 256;
+
+    private static final Cache<AuthConfig, String> REGISTRY_AUTHS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_CONFIGS).build();
+
+    private static final Cache<Map<String, AuthConfig>, String> REGISTRY_CONFIGS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_CONFIGS).build();
+
+    private static final Cache<Map<String, AuthConfig>, String> LEGACY_REGISTRY_CONFIGS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_CONFIGS).build();
+
+    private RegistryAuthEncoder() {
+    }
+
+    /**
+     * Returns the value of the {@code X-Registry-Auth} header.
+     */
+    public static String registryAuth(AuthConfig authConfig) {
+        if (authConfig == null) {
+            return encode(authConfig, AuthConfig.class);
+        }
+
+        String encoded = REGISTRY_AUTHS.getIfPresent(authConfig);
+        if (encoded == null) {
+            encoded = encode(authConfig, AuthConfig.class);
+            // the config is mutable, the key must not change with it
+            REGISTRY_AUTHS.put(copy(authConfig), encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns the value of the {@code X-Registry-Config} header in the format of the given API version.
+     */
+    public static String registryConfigs(AuthConfigurations authConfigs, RemoteApiVersion apiVersion) {
+        boolean configsOnly = apiVersion.isGreaterOrEqual(RemoteApiVersion.VERSION_1_19);
+        Cache<Map<String, AuthConfig>, String> cache = configsOnly ? REGISTRY_CONFIGS : LEGACY_REGISTRY_CONFIGS;
+
+        Map<String, AuthConfig> configs = authConfigs.getConfigs();
+        String encoded = cache.getIfPresent(configs);
+        if (encoded == null) {
+            if (configsOnly) {
+                encoded = encode(configs, configs.getClass());
+            } else {
+                encoded = encode(authConfigs, AuthConfigurations.class);
+            }
+            cache.put(copy(configs), encoded);
+        }
+        return encoded;
+    }
+
+    private static String encode(Object value, Class<?> type) {
+        try {
+            String json = DockerObjectMapper.writer(type).writeValueAsString(value);
+            return Base64.encodeBase64String(json.getBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Map<String, AuthConfig> copy(Map<String, AuthConfig> configs) {
+        Map<String, AuthConfig> copy = new HashMap<String, AuthConfig>();
+        for (Map.Entry<String, AuthConfig> entry : configs.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue() != null ? copy(entry.getValue()) : null);
+        }
+        return copy;
+    }
+
+    static AuthConfig copy(AuthConfig authConfig) {
+        AuthConfig copy = new AuthConfig();
+        copy.setUsername(authConfig.getUsername());
+        copy.setPassword(authConfig.getPassword());
+        copy.setEmail(authConfig.getEmail());
+        copy.setServerAddress(authConfig.getServerAddress());
+        copy.setAuth(authConfig.getAuth());
+        return copy;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.dockerjava.core.async;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.github.dockerjava.api.command.AsyncDockerCmd;
+
+/**
+ * Adapts a streaming command like {@code logContainerCmd}, {@code statsCmd} or {@code eventsCmd} to a Reactive Streams
+ * {@link Publisher}. Items are delivered as requested by the subscriber. At most {@code bufferSize} items plus the
+ * items decoded from one read are buffered, then the transport stops reading the response until the subscriber has
+ * caught up.
+ *
+ * The command is executed when the subscriber subscribes, so the publisher supports a single subscriber.
+ *
+ * <pre>
+ * Publisher&lt;Frame&gt; logs = new AsyncDockerCmdPublisher&lt;Frame&gt;(dockerClient.logContainerCmd(id)
+ *         .withStdOut(true).withFollowStream(true));
+ * </pre>
+ */
+public class AsyncDockerCmdPublisher<T> implements Publisher<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 128;
+
+    private final AsyncDockerCmd<?, T> command;
+
+    private final int bufferSize;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public AsyncDockerCmdPublisher(AsyncDockerCmd<?, T> command) {
+        this(command, DEFAULT_BUFFER_SIZE);
+    }
+
+    public AsyncDockerCmdPublisher(AsyncDockerCmd<?, T> command, int bufferSize) {
+        checkNotNull(command, "command was not specified");
+        checkArgument(bufferSize > 0, "bufferSize must be positive");
+        this.command = command;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        checkNotNull(subscriber, "subscriber was not specified");
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The command has already been subscribed to"));
+            return;
+        }
+
+        BackpressureCallback<T> callback = new BackpressureCallback<T>(subscriber, bufferSize);
+        subscriber.onSubscribe(callback);
+
+        try {
+            command.exec(callback);
+        } catch (RuntimeException e) {
+            callback.onError(e);
+        }
+    }
+}
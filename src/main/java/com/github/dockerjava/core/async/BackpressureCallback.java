@@ -0,0 +1,271 @@
+package com.github.dockerjava.core.async;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.async.FlowControl;
+import com.github.dockerjava.api.async.ResultCallback;
+
+/**
+ * Buffers the items of a command until the {@link Subscriber} requests them. When the buffer is full the producer is
+ * throttled: if the transport supports {@link FlowControl} it stops reading, otherwise the producing thread is blocked
+ * until half of the buffer has been consumed. Transports that don't support flow control deliver items from a thread
+ * of their own, so that blocking it stops reading the response.
+ */
+class BackpressureCallback<T> implements ResultCallback<T>, Subscription {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackpressureCallback.class);
+
+    private final Subscriber<? super T> subscriber;
+
+    private final int bufferSize;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<T>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+    private final Object throttleLock = new Object();
+
+    private boolean throttled = false;
+
+    private volatile Closeable stream;
+
+    private volatile boolean done = false;
+
+    private volatile Throwable error;
+
+    private volatile boolean cancelled = false;
+
+    BackpressureCallback(Subscriber<? super T> subscriber, int bufferSize) {
+        this.subscriber = subscriber;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void onStart(Closeable closeable) {
+        this.stream = closeable;
+        if (cancelled) {
+            closeStream();
+        }
+    }
+
+    @Override
+    public void onNext(T object) {
+        if (done || cancelled) {
+            return;
+        }
+
+        queue.offer(object);
+        queued.incrementAndGet();
+        drain();
+
+        if (queued.get() >= bufferSize) {
+            throttle();
+        }
+    }
+
+    private void throttle() {
+        Closeable currentStream = stream;
+        FlowControl flowControl = currentStream instanceof FlowControl ? (FlowControl) currentStream : null;
+
+        synchronized (throttleLock) {
+            if (throttled || queued.get() < bufferSize || cancelled) {
+                return;
+            }
+            throttled = true;
+
+            if (flowControl != null) {
+                flowControl.suspend();
+            } else {
+                try {
+                    while (throttled && !cancelled) {
+                        throttleLock.wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        // the subscriber may have consumed the buffer before the transport was suspended
+        drain();
+    }
+
+    private void releaseThrottle() {
+        synchronized (throttleLock) {
+            if (!throttled || (queued.get() > bufferSize / 2 && !cancelled)) {
+                return;
+            }
+            throttled = false;
+
+            Closeable currentStream = stream;
+            if (currentStream instanceof FlowControl) {
+                if (!cancelled) {
+                    ((FlowControl) currentStream).resume();
+                }
+            } else {
+                throttleLock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        closeStream();
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        // the items are buffered already, the connection isn't needed anymore
+        closeStream();
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cancel();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError(new IllegalArgumentException("Requested " + n + " items, must be positive (rule 3.9)"));
+            return;
+        }
+
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        closeStream();
+        releaseThrottle();
+    }
+
+    private void closeStream() {
+        Closeable currentStream = stream;
+        if (currentStream != null && streamClosed.compareAndSet(false, true)) {
+            try {
+                currentStream.close();
+            } catch (IOException e) {
+                LOGGER.debug("Closing stream failed", e);
+            }
+        }
+    }
+
+    /**
+     * Emits the buffered items as far as requested. Only one thread emits at a time, calls from other threads meanwhile
+     * make it loop once more.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            long demand = requested.get();
+            long emitted = 0;
+
+            while (true) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+
+                if (done && error != null) {
+                    clear();
+                    terminate();
+                    return;
+                }
+
+                if (emitted == demand) {
+                    if (done && queue.isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                    break;
+                }
+
+                boolean wasDone = done;
+                T item = queue.poll();
+                if (item == null) {
+                    if (wasDone) {
+                        terminate();
+                        return;
+                    }
+                    break;
+                }
+
+                queued.decrementAndGet();
+                subscriber.onNext(item);
+                emitted++;
+            }
+
+            if (emitted != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            releaseThrottle();
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void clear() {
+        queue.clear();
+        queued.set(0);
+        releaseThrottle();
+    }
+
+    private void terminate() {
+        cancelled = true;
+        closeStream();
+        releaseThrottle();
+
+        Throwable currentError = error;
+        if (currentError != null) {
+            subscriber.onError(currentError);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Returns the number of buffered items.
+     */
+    int getQueued() {
+        return queued.get();
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.dockerjava.core.async;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.core.DockerObjectMapper;
+
+/**
+ * Parses a JSON array response element by element and passes each element to the callback as soon as it has been
+ * read, so that the array is never held in memory as a whole. A {@code null} response is treated as an empty array.
+ */
+public class JsonArrayStreamProcessor<T> implements ResponseStreamProcessor<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ObjectReader reader;
+
+    public JsonArrayStreamProcessor(Class<T> clazz) {
+        this.reader = DockerObjectMapper.reader(clazz);
+    }
+
+    @Override
+    public void processResponseStream(InputStream response, ResultCallback<T> resultCallback) {
+
+        resultCallback.onStart(response);
+
+        try {
+            JsonParser jp = JSON_FACTORY.createParser(response);
+            JsonToken token = jp.nextToken();
+
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException("Unexpected end of array", jp.getCurrentLocation());
+                    }
+                    T next = reader.readValue(jp);
+                    resultCallback.onNext(next);
+                }
+            } else if (token != null && token != JsonToken.VALUE_NULL) {
+                throw new JsonParseException("Expected an array but got " + token, jp.getCurrentLocation());
+            }
+        } catch (Throwable t) {
+            resultCallback.onError(t);
+        } finally {
+            try {
+                response.close();
+            } catch (IOException e) {
+                resultCallback.onError(e);
+            } finally {
+                resultCallback.onComplete();
+            }
+        }
+    }
+}
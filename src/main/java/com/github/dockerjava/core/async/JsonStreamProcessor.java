@@ -9,8 +9,9 @@ import java.io.InputStream;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.core.DockerObjectMapper;
 
 /**
  *
@@ -21,19 +22,23 @@ public class JsonStreamProcessor<T> implements ResponseStreamProcessor<T> {
 
     private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
-    private final Class<T> clazz;
+    private final ObjectReader reader;
 
     public JsonStreamProcessor(Class<T> clazz) {
-        this.clazz = clazz;
+        this.reader = DockerObjectMapper.reader(clazz);
+    }
+
+    /**
+     * Reads every object of the stream into {@code valueToUpdate} and passes that same instance to the callback.
+     */
+    public JsonStreamProcessor(Class<T> clazz, T valueToUpdate) {
+        this.reader = DockerObjectMapper.reader(clazz).withValueToUpdate(valueToUpdate);
     }
 
     @Override
     public void processResponseStream(InputStream response, ResultCallback<T> resultCallback) {
 
         resultCallback.onStart(response);
-        OBJECT_MAPPER.configure(com.fasterxml.jackson.core.JsonParser.Feature.AUTO_CLOSE_SOURCE, true);
 
         try {
             JsonParser jp = JSON_FACTORY.createParser(response);
@@ -41,7 +46,7 @@ public class JsonStreamProcessor<T> implements ResponseStreamProcessor<T> {
             JsonToken nextToken = jp.nextToken();
             while (!closed && nextToken != null && nextToken != JsonToken.END_OBJECT) {
                 try {
-                    T next = OBJECT_MAPPER.readValue(jp, clazz);
+                    T next = reader.readValue(jp);
                     resultCallback.onNext(next);
                 } catch (Exception e) {
                     resultCallback.onError(e);
@@ -0,0 +1,178 @@
+package com.github.dockerjava.core.async;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.google.common.base.Throwables;
+
+/**
+ * Callback that exposes the items of a streaming command as a blocking {@link Iterator}. At most {@code bufferSize}
+ * items are buffered, then the transport stops reading the response until the iterator has caught up. Closing the
+ * iterator before the end aborts the command.
+ *
+ * <pre>
+ * try (ResultIterator&lt;Container&gt; containers = dockerClient.listContainersCmd().withShowAll(true)
+ *         .exec(new ResultIterator&lt;Container&gt;())) {
+ *     while (containers.hasNext()) {
+ *         process(containers.next());
+ *     }
+ * }
+ * </pre>
+ */
+public class ResultIterator<T> implements ResultCallback<T>, Iterator<T> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 128;
+
+    private final BackpressureCallback<T> delegate;
+
+    private final int requestBatch;
+
+    private final Queue<T> items = new ArrayDeque<T>();
+
+    private boolean done = false;
+
+    private Throwable error;
+
+    private int consumed = 0;
+
+    public ResultIterator() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public ResultIterator(int bufferSize) {
+        checkArgument(bufferSize > 0, "bufferSize must be positive");
+        this.delegate = new BackpressureCallback<T>(new ItemSubscriber(), bufferSize);
+        this.requestBatch = Math.max(1, bufferSize / 2);
+        delegate.request(bufferSize);
+    }
+
+    @Override
+    public void onStart(Closeable closeable) {
+        delegate.onStart(closeable);
+    }
+
+    @Override
+    public void onNext(T object) {
+        delegate.onNext(object);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        delegate.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        delegate.onComplete();
+    }
+
+    /**
+     * Blocks until the next item has been received or the command has finished.
+     *
+     * @throws DockerClientException
+     *             if the command failed or the waiting thread was interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        synchronized (items) {
+            try {
+                while (items.isEmpty() && !done) {
+                    items.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DockerClientException("Interrupted while waiting for the next item", e);
+            }
+
+            if (!items.isEmpty()) {
+                return true;
+            }
+            if (error != null) {
+                Throwables.propagateIfPossible(error);
+                throw new DockerClientException("Command failed", error);
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T item;
+        boolean requestMore = false;
+        synchronized (items) {
+            item = items.poll();
+            if (++consumed >= requestBatch) {
+                consumed = 0;
+                requestMore = true;
+            }
+        }
+
+        // outside the lock, the delegate may deliver the next items from this thread
+        if (requestMore) {
+            delegate.request(requestBatch);
+        }
+        return item;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.cancel();
+        synchronized (items) {
+            items.clear();
+            done = true;
+            items.notifyAll();
+        }
+    }
+
+    private class ItemSubscriber implements Subscriber<T> {
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (items) {
+                items.add(item);
+                items.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            synchronized (items) {
+                error = throwable;
+                done = true;
+                items.notifyAll();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (items) {
+                done = true;
+                items.notifyAll();
+            }
+        }
+    }
+}
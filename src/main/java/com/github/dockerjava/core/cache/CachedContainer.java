@@ -0,0 +1,127 @@
+package com.github.dockerjava.core.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+
+/**
+ * Immutable snapshot of a container held by the {@link ContainerStateCache}.
+ */
+public class CachedContainer {
+
+    private final String id;
+
+    private final String name;
+
+    private final String image;
+
+    private final String imageId;
+
+    private final ContainerStatus status;
+
+    private final Map<String, String> labels;
+
+    private final InspectContainerResponse inspection;
+
+    CachedContainer(String id, String name, String image, String imageId, ContainerStatus status,
+            Map<String, String> labels, InspectContainerResponse inspection) {
+        this.id = id;
+        this.name = name;
+        this.image = image;
+        this.imageId = imageId;
+        this.status = status;
+        this.labels = labels == null ? Collections.<String, String>emptyMap() : Collections
+                .unmodifiableMap(new HashMap<String, String>(labels));
+        this.inspection = inspection;
+    }
+
+    static CachedContainer fromContainer(Container container) {
+        return new CachedContainer(container.getId(), primaryName(container.getNames()), container.getImage(), null,
+                ContainerStatus.fromListStatus(container.getStatus()), container.getLabels(), null);
+    }
+
+    static CachedContainer fromInspection(InspectContainerResponse response) {
+        String image = response.getConfig() != null ? response.getConfig().getImage() : null;
+        Map<String, String> labels = response.getConfig() != null ? response.getConfig().getLabels() : null;
+
+        return new CachedContainer(response.getId(), stripSlash(response.getName()), image, response.getImageId(),
+                ContainerStatus.fromState(response.getState()), labels, response);
+    }
+
+    /**
+     * Returns the name of the container itself, the list also contains the names of links like
+     * <code>/other/alias</code>.
+     */
+    private static String primaryName(String[] names) {
+        if (names != null) {
+            for (String name : names) {
+                String stripped = stripSlash(name);
+                if (stripped != null && stripped.indexOf('/') < 0) {
+                    return stripped;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String stripSlash(String name) {
+        return name != null && name.startsWith("/") ? name.substring(1) : name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Name without the leading slash.
+     */
+    @CheckForNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The image the container has been created from, as specified on creation.
+     */
+    @CheckForNull
+    public String getImage() {
+        return image;
+    }
+
+    /**
+     * Id of the image, only known for containers that have been inspected.
+     */
+    @CheckForNull
+    public String getImageId() {
+        return imageId;
+    }
+
+    public ContainerStatus getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * The complete response of the last inspection. Containers that haven't changed since the cache was synchronized
+     * are known from the container list only.
+     */
+    @CheckForNull
+    public InspectContainerResponse getInspection() {
+        return inspection;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.dockerjava.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Objects;
+
+/**
+ * The containers of a {@link ContainerStateCache} and their secondary indexes. There is a single writer, readers don't
+ * take locks and may observe an update half applied, so lookups by index verify the found containers.
+ */
+class ContainerIndex {
+
+    private final ConcurrentMap<String, CachedContainer> containers = new ConcurrentHashMap<String, CachedContainer>();
+
+    private final ConcurrentMap<String, String> idsByName = new ConcurrentHashMap<String, String>();
+
+    private final MultiIndex idsByImage = new MultiIndex();
+
+    private final MultiIndex idsByStatus = new MultiIndex();
+
+    private final MultiIndex idsByLabelKey = new MultiIndex();
+
+    private final MultiIndex idsByLabel = new MultiIndex();
+
+    void put(CachedContainer container) {
+        CachedContainer previous = containers.put(container.getId(), container);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(container);
+    }
+
+    void remove(String id) {
+        CachedContainer previous = containers.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void index(CachedContainer container) {
+        String id = container.getId();
+        if (container.getName() != null) {
+            idsByName.put(container.getName(), id);
+        }
+        idsByImage.add(container.getImage(), id);
+        idsByImage.add(container.getImageId(), id);
+        idsByStatus.add(container.getStatus().name(), id);
+        for (Map.Entry<String, String> label : container.getLabels().entrySet()) {
+            idsByLabelKey.add(label.getKey(), id);
+            idsByLabel.add(labelKey(label.getKey(), label.getValue()), id);
+        }
+    }
+
+    private void unindex(CachedContainer container) {
+        String id = container.getId();
+        if (container.getName() != null) {
+            idsByName.remove(container.getName(), id);
+        }
+        idsByImage.remove(container.getImage(), id);
+        idsByImage.remove(container.getImageId(), id);
+        idsByStatus.remove(container.getStatus().name(), id);
+        for (Map.Entry<String, String> label : container.getLabels().entrySet()) {
+            idsByLabelKey.remove(label.getKey(), id);
+            idsByLabel.remove(labelKey(label.getKey(), label.getValue()), id);
+        }
+    }
+
+    private static String labelKey(String key, String value) {
+        return key + '=' + value;
+    }
+
+    CachedContainer get(String id) {
+        return containers.get(id);
+    }
+
+    Collection<CachedContainer> getAll() {
+        return Collections.unmodifiableCollection(containers.values());
+    }
+
+    CachedContainer findByName(String name) {
+        String id = idsByName.get(name);
+        CachedContainer container = id != null ? containers.get(id) : null;
+        return container != null && name.equals(container.getName()) ? container : null;
+    }
+
+    List<CachedContainer> findByImage(String image) {
+        List<CachedContainer> result = new ArrayList<CachedContainer>();
+        for (CachedContainer container : resolve(idsByImage.get(image))) {
+            if (image.equals(container.getImage()) || image.equals(container.getImageId())) {
+                result.add(container);
+            }
+        }
+        return result;
+    }
+
+    List<CachedContainer> findByStatus(ContainerStatus status) {
+        List<CachedContainer> result = new ArrayList<CachedContainer>();
+        for (CachedContainer container : resolve(idsByStatus.get(status.name()))) {
+            if (container.getStatus() == status) {
+                result.add(container);
+            }
+        }
+        return result;
+    }
+
+    List<CachedContainer> findByLabel(String key) {
+        List<CachedContainer> result = new ArrayList<CachedContainer>();
+        for (CachedContainer container : resolve(idsByLabelKey.get(key))) {
+            if (container.getLabels().containsKey(key)) {
+                result.add(container);
+            }
+        }
+        return result;
+    }
+
+    List<CachedContainer> findByLabel(String key, String value) {
+        List<CachedContainer> result = new ArrayList<CachedContainer>();
+        for (CachedContainer container : resolve(idsByLabel.get(labelKey(key, value)))) {
+            if (Objects.equal(value, container.getLabels().get(key))) {
+                result.add(container);
+            }
+        }
+        return result;
+    }
+
+    private List<CachedContainer> resolve(Set<String> ids) {
+        List<CachedContainer> result = new ArrayList<CachedContainer>(ids.size());
+        for (String id : ids) {
+            CachedContainer container = containers.get(id);
+            if (container != null) {
+                result.add(container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps keys to the ids of the containers with that key.
+     */
+    private static class MultiIndex {
+
+        private final ConcurrentMap<String, Set<String>> ids = new ConcurrentHashMap<String, Set<String>>();
+
+        void add(String key, String id) {
+            if (key == null) {
+                return;
+            }
+            Set<String> keyIds = ids.get(key);
+            if (keyIds == null) {
+                Set<String> newIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                keyIds = ids.putIfAbsent(key, newIds);
+                if (keyIds == null) {
+                    keyIds = newIds;
+                }
+            }
+            keyIds.add(id);
+        }
+
+        void remove(String key, String id) {
+            if (key == null) {
+                return;
+            }
+            Set<String> keyIds = ids.get(key);
+            if (keyIds != null) {
+                keyIds.remove(id);
+                // the single writer can't add to the set concurrently
+                if (keyIds.isEmpty()) {
+                    ids.remove(key, keyIds);
+                }
+            }
+        }
+
+        Set<String> get(String key) {
+            Set<String> keyIds = ids.get(key);
+            return keyIds != null ? keyIds : Collections.<String>emptySet();
+        }
+    }
+}
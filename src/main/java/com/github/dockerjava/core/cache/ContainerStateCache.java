@@ -0,0 +1,203 @@
+package com.github.dockerjava.core.cache;
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.events.EventFollower;
+
+/**
+ * A local mirror of the containers of a Docker daemon. It is seeded by a single list of all containers and kept
+ * current by the event stream: each container an event refers to gets inspected once more, events that arrive while an
+ * inspection is pending are coalesced. If the event stream ends or fails, the containers are listed again.
+ *
+ * Queries are answered from memory by secondary indexes and don't block. Updates are applied by a single background
+ * thread, so the cache lags slightly behind the daemon.
+ *
+ * <pre>
+ * ContainerStateCache cache = new ContainerStateCache(dockerClient).start();
+ * cache.awaitSynchronized(10, TimeUnit.SECONDS);
+ * List&lt;CachedContainer&gt; workers = cache.findByLabel(&quot;role&quot;, &quot;worker&quot;);
+ * </pre>
+ */
+public class ContainerStateCache extends EventFollower {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerStateCache.class);
+
+    /**
+     * Events that don't change the state of a container, or that refer to images.
+     */
+    private static final Set<String> IGNORED_EVENTS = new HashSet<String>(Arrays.asList("attach", "commit", "copy",
+            "export", "resize", "top", "archive-path", "extract-to-dir", "untag", "delete", "pull", "push", "tag",
+            "import", "load", "save"));
+
+    private final Set<String> pendingInspections = Collections
+            .newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final CountDownLatch synchronizedLatch = new CountDownLatch(1);
+
+    private volatile ContainerIndex index = new ContainerIndex();
+
+    private volatile boolean synced = false;
+
+    private volatile long lastSyncTimeMillis = -1;
+
+    public ContainerStateCache(DockerClient dockerClient) {
+        super(dockerClient, "docker-java-container-cache-%d");
+    }
+
+    /**
+     * Starts synchronizing with the daemon in the background.
+     */
+    public ContainerStateCache start() {
+        resync();
+        return this;
+    }
+
+    /**
+     * Lists all containers again and replaces the cached state once the list has been received.
+     */
+    @Override
+    public void resync() {
+        super.resync();
+    }
+
+    /**
+     * Blocks until the cache has been seeded for the first time.
+     *
+     * @return false if the timeout elapsed before
+     */
+    public boolean awaitSynchronized(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        return synchronizedLatch.await(timeout, timeUnit);
+    }
+
+    /**
+     * Returns whether the cache is following the event stream. After a gap in the stream it isn't until the
+     * containers have been listed again.
+     */
+    public boolean isSynchronized() {
+        return synced;
+    }
+
+    /**
+     * Returns the time the containers have been listed last or -1.
+     */
+    public long getLastSyncTimeMillis() {
+        return lastSyncTimeMillis;
+    }
+
+    /**
+     * Returns the container with the given id or name.
+     */
+    public CachedContainer get(String idOrName) {
+        ContainerIndex currentIndex = index;
+        CachedContainer container = currentIndex.get(idOrName);
+        return container != null ? container : currentIndex.findByName(idOrName);
+    }
+
+    public Collection<CachedContainer> getAll() {
+        return index.getAll();
+    }
+
+    /**
+     * Returns the container with the given name, without the leading slash.
+     */
+    public CachedContainer findByName(String name) {
+        return index.findByName(name);
+    }
+
+    /**
+     * Returns the containers created from the given image name or image id. Image ids are known for inspected
+     * containers only.
+     */
+    public List<CachedContainer> findByImage(String image) {
+        return index.findByImage(image);
+    }
+
+    public List<CachedContainer> findByStatus(ContainerStatus status) {
+        return index.findByStatus(status);
+    }
+
+    /**
+     * Returns the containers that have a label with the given key.
+     */
+    public List<CachedContainer> findByLabel(String key) {
+        return index.findByLabel(key);
+    }
+
+    public List<CachedContainer> findByLabel(String key, String value) {
+        return index.findByLabel(key, value);
+    }
+
+    @Override
+    protected EventsCmd eventsCmd() {
+        return dockerClient.eventsCmd();
+    }
+
+    @Override
+    protected void list() {
+        synced = false;
+
+        List<Container> containers = dockerClient.listContainersCmd().withShowAll(true).exec();
+
+        ContainerIndex newIndex = new ContainerIndex();
+        for (Container container : containers) {
+            newIndex.put(CachedContainer.fromContainer(container));
+        }
+
+        index = newIndex;
+        lastSyncTimeMillis = System.currentTimeMillis();
+        synced = true;
+        synchronizedLatch.countDown();
+    }
+
+    @Override
+    protected void onGap() {
+        synced = false;
+    }
+
+    @Override
+    protected void onEvent(final Event event) {
+        if (event.getId() == null || event.getStatus() == null || IGNORED_EVENTS.contains(event.getStatus())
+                || event.getStatus().startsWith("exec_")) {
+            return;
+        }
+
+        if (pendingInspections.add(event.getId())) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    inspect(event.getId());
+                }
+            }, 0);
+        }
+    }
+
+    private void inspect(String id) {
+        pendingInspections.remove(id);
+
+        try {
+            index.put(CachedContainer.fromInspection(dockerClient.inspectContainerCmd(id).exec()));
+        } catch (NotFoundException e) {
+            index.remove(id);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Inspecting container " + id + " failed", e);
+            resyncLater();
+        }
+    }
+}
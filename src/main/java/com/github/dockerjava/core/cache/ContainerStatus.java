@@ -0,0 +1,64 @@
+package com.github.dockerjava.core.cache;
+
+import com.github.dockerjava.api.command.InspectContainerResponse.ContainerState;
+
+/**
+ * The lifecycle states of a container as reported by the Docker daemon.
+ */
+public enum ContainerStatus {
+    CREATED, RESTARTING, RUNNING, PAUSED, REMOVING, EXITED, DEAD, UNKNOWN;
+
+    private static final String NEVER_STARTED = "0001-01-01T00:00:00Z";
+
+    /**
+     * Derives the state from the human readable status of a container list entry, e.g. <code>Up 2 hours</code> or
+     * <code>Exited (0) 5 seconds ago</code>.
+     */
+    public static ContainerStatus fromListStatus(String status) {
+        if (status == null) {
+            return UNKNOWN;
+        } else if (status.startsWith("Up")) {
+            return status.contains("(Paused)") ? PAUSED : RUNNING;
+        } else if (status.startsWith("Restarting")) {
+            return RESTARTING;
+        } else if (status.startsWith("Exited")) {
+            return EXITED;
+        } else if (status.startsWith("Created") || status.isEmpty()) {
+            return CREATED;
+        } else if (status.startsWith("Dead")) {
+            return DEAD;
+        } else if (status.startsWith("Removal")) {
+            return REMOVING;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Derives the state from the state of an inspected container. Daemons before API version 1.21 don't report the
+     * status, it is derived from the flags then.
+     */
+    public static ContainerStatus fromState(ContainerState state) {
+        if (state == null) {
+            return UNKNOWN;
+        }
+
+        if (state.getStatus() != null) {
+            try {
+                return valueOf(state.getStatus().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return UNKNOWN;
+            }
+        }
+
+        if (Boolean.TRUE.equals(state.getRestarting())) {
+            return RESTARTING;
+        } else if (Boolean.TRUE.equals(state.getRunning())) {
+            return Boolean.TRUE.equals(state.getPaused()) ? PAUSED : RUNNING;
+        } else if (Boolean.TRUE.equals(state.getDead())) {
+            return DEAD;
+        } else if (state.getStartedAt() == null || NEVER_STARTED.equals(state.getStartedAt())) {
+            return CREATED;
+        }
+        return EXITED;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.dockerjava.core.command;
+
+import java.util.List;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.DockerCmdListExec;
+import com.github.dockerjava.api.command.ListDockerCmd;
+
+public abstract class AbstrListDockerCmd<CMD_T extends ListDockerCmd<ELEM_T>, ELEM_T> extends
+        AbstrDockerCmd<CMD_T, List<ELEM_T>> implements ListDockerCmd<ELEM_T> {
+
+    private final DockerCmdListExec<CMD_T, ELEM_T> listExecution;
+
+    public AbstrListDockerCmd(DockerCmdListExec<CMD_T, ELEM_T> execution) {
+        super(execution);
+        this.listExecution = execution;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ResultCallback<ELEM_T>> T exec(T resultCallback) {
+        listExecution.exec((CMD_T) this, resultCallback);
+        return resultCallback;
+    }
+}
@@ -17,7 +17,7 @@ import com.github.dockerjava.api.model.ChangeLog;
  *            - Id of the container
  *
  */
-public class ContainerDiffCmdImpl extends AbstrDockerCmd<ContainerDiffCmd, List<ChangeLog>> implements ContainerDiffCmd {
+public class ContainerDiffCmdImpl extends AbstrListDockerCmd<ContainerDiffCmd, ChangeLog> implements ContainerDiffCmd {
 
     private String containerId;
 
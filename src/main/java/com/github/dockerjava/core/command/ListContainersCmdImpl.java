@@ -3,8 +3,6 @@ package com.github.dockerjava.core.command;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.List;
-
 import com.github.dockerjava.api.command.ListContainersCmd;
 import com.github.dockerjava.api.model.Container;
 import com.github.dockerjava.api.model.Filters;
@@ -24,7 +22,7 @@ import com.github.dockerjava.api.model.Filters;
  *            - Show only containers created before Id, include non-running ones.
  *
  */
-public class ListContainersCmdImpl extends AbstrDockerCmd<ListContainersCmd, List<Container>> implements
+public class ListContainersCmdImpl extends AbstrListDockerCmd<ListContainersCmd, Container> implements
         ListContainersCmd {
 
     private Integer limit = -1;
@@ -2,8 +2,6 @@ package com.github.dockerjava.core.command;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.List;
-
 import com.github.dockerjava.api.command.ListImagesCmd;
 import com.github.dockerjava.api.model.Image;
 
@@ -15,7 +13,7 @@ import com.github.dockerjava.api.model.Image;
  * @param filters
  *            - a json encoded value of the filters (a map[string][]string) to process on the images list.
  */
-public class ListImagesCmdImpl extends AbstrDockerCmd<ListImagesCmd, List<Image>> implements ListImagesCmd {
+public class ListImagesCmdImpl extends AbstrListDockerCmd<ListImagesCmd, Image> implements ListImagesCmd {
 
     private String filters;
 
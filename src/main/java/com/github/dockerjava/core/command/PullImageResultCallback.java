@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.api.model.PullResponseItem;
 import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.core.image.ProgressTracker;
 
 /**
  *
@@ -24,10 +25,40 @@ public class PullImageResultCallback extends ResultCallbackTemplate<PullImageRes
     @CheckForNull
     private PullResponseItem latestItem = null;
 
+    @CheckForNull
+    private ProgressTracker progressTracker = null;
+
+    /**
+     * Passes the items on to the given tracker, which aggregates them per layer.
+     */
+    public PullImageResultCallback withProgressTracker(ProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
+        return this;
+    }
+
     @Override
     public void onNext(PullResponseItem item) {
         this.latestItem = item;
         LOGGER.debug(item.toString());
+        if (progressTracker != null) {
+            progressTracker.update(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (progressTracker != null) {
+            progressTracker.finish();
+        }
+        super.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (progressTracker != null) {
+            progressTracker.finish();
+        }
+        super.onComplete();
     }
 
     /**
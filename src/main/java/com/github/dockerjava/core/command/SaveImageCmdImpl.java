@@ -2,12 +2,27 @@ package com.github.dockerjava.core.command;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.dockerjava.api.command.SaveImageCmd;
 import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.core.util.ChannelTransferUtil;
 
 public class SaveImageCmdImpl extends AbstrDockerCmd<SaveImageCmd, InputStream> implements SaveImageCmd {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveImageCmdImpl.class);
+
     private String name;
 
     private String tag;
@@ -57,4 +72,45 @@ public class SaveImageCmdImpl extends AbstrDockerCmd<SaveImageCmd, InputStream>
     public InputStream exec() throws NotFoundException {
         return super.exec();
     }
+
+    /**
+     * Writes the archive to a temporary file next to the given one and moves it into place once it is complete, so
+     * that a failed save, e.g. of a missing image, leaves an existing file untouched.
+     */
+    @Override
+    public long saveTo(Path file) throws NotFoundException, IOException {
+        checkNotNull(file, "file was not specified");
+        Path target = file.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            long size;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = saveTo(channel);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return size;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public long saveTo(WritableByteChannel channel) throws NotFoundException, IOException {
+        checkNotNull(channel, "channel was not specified");
+        long start = System.nanoTime();
+        long size;
+        try (InputStream archive = exec()) {
+            size = ChannelTransferUtil.transfer(archive, channel, ChannelTransferUtil.DEFAULT_BUFFER_SIZE);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            long millis = Math.max(1, (System.nanoTime() - start) / 1000000);
+            LOGGER.debug("Saved {} bytes of image {} in {} ms, {} KB/s", size, name, millis, size / millis);
+        }
+        return size;
+    }
 }
@@ -2,8 +2,6 @@ package com.github.dockerjava.core.command;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.List;
-
 import com.github.dockerjava.api.command.SearchImagesCmd;
 import com.github.dockerjava.api.model.SearchItem;
 
@@ -14,7 +12,7 @@ import com.github.dockerjava.api.model.SearchItem;
  *            - search term
  *
  */
-public class SearchImagesCmdImpl extends AbstrDockerCmd<SearchImagesCmd, List<SearchItem>> implements SearchImagesCmd {
+public class SearchImagesCmdImpl extends AbstrListDockerCmd<SearchImagesCmd, SearchItem> implements SearchImagesCmd {
 
     private String term;
 
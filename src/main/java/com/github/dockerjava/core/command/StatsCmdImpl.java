@@ -12,6 +12,8 @@ public class StatsCmdImpl extends AbstrAsyncDockerCmd<StatsCmd, Statistics> impl
 
     private String containerId;
 
+    private Boolean reuseStatistics = false;
+
     public StatsCmdImpl(StatsCmd.Exec exec, String containerId) {
         super(exec);
         withContainerId(containerId);
@@ -24,9 +26,20 @@ public class StatsCmdImpl extends AbstrAsyncDockerCmd<StatsCmd, Statistics> impl
         return this;
     }
 
+    @Override
+    public StatsCmd withReuseStatistics(Boolean reuseStatistics) {
+        this.reuseStatistics = reuseStatistics;
+        return this;
+    }
+
     @Override
     public String getContainerId() {
         return containerId;
     }
 
+    @Override
+    public Boolean hasReuseStatisticsEnabled() {
+        return reuseStatistics;
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.github.dockerjava.core.dockerfile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.dockerjava.core.util.FilePathUtil;
+
+/**
+ * Collects the files of a directory tree that are not excluded by the {@link IgnoreMatcher}. Sub directories are
+ * scanned by forked tasks, the files are returned in the same order as a sequential depth-first walk would return them.
+ */
+class BuildContextScanTask extends RecursiveTask<List<File>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final File baseDirectory;
+
+    private final File directory;
+
+    private final IgnoreMatcher ignoreMatcher;
+
+    BuildContextScanTask(File baseDirectory, File directory, IgnoreMatcher ignoreMatcher) {
+        this.baseDirectory = baseDirectory;
+        this.directory = directory;
+        this.ignoreMatcher = ignoreMatcher;
+    }
+
+    @Override
+    protected List<File> compute() {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return Collections.emptyList();
+        }
+
+        List<BuildContextScanTask> subTasks = new ArrayList<BuildContextScanTask>();
+        for (File child : children) {
+            if (child.isDirectory()) {
+                BuildContextScanTask subTask = new BuildContextScanTask(baseDirectory, child, ignoreMatcher);
+                subTask.fork();
+                subTasks.add(subTask);
+            }
+        }
+
+        String relativeDirectory = FilePathUtil.relativize(baseDirectory, directory);
+        int[] candidates = ignoreMatcher.candidatesFor(relativeDirectory);
+
+        List<File> filesToAdd = new ArrayList<File>();
+        Iterator<BuildContextScanTask> subTaskIterator = subTasks.iterator();
+
+        for (File child : children) {
+            if (child.isDirectory()) {
+                filesToAdd.addAll(subTaskIterator.next().join());
+            } else {
+                String relativeFilename = FilePathUtil.relativize(baseDirectory, child);
+
+                // a symbolic link may point out of this directory
+                int[] patterns = relativeFilename.startsWith(relativeDirectory) ? candidates : ignoreMatcher
+                        .allPatterns();
+
+                if (ignoreMatcher.effectiveMatchingIgnorePattern(relativeFilename, patterns) == null) {
+                    filesToAdd.add(child);
+                }
+            }
+        }
+
+        return filesToAdd;
+    }
+}
@@ -1,21 +1,17 @@
 package com.github.dockerjava.core.dockerfile;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 
 import com.github.dockerjava.api.exception.DockerClientException;
-import com.github.dockerjava.core.GoLangFileMatch;
 import com.github.dockerjava.core.exception.GoLangFileMatchException;
 import com.github.dockerjava.core.util.CompressArchiveUtil;
 import com.github.dockerjava.core.util.FilePathUtil;
@@ -120,46 +116,10 @@ public class Dockerfile {
         }
 
         public InputStream buildDockerFolderTar(File directory) {
-
-            File dockerFolderTar = null;
-
             try {
-                final String archiveNameWithOutExtension = UUID.randomUUID().toString();
-
-                dockerFolderTar = CompressArchiveUtil.archiveTARFiles(directory, filesToAdd,
-                        archiveNameWithOutExtension);
-
-                long length = dockerFolderTar.length();
-
-                final FileInputStream tarInputStream = FileUtils.openInputStream(dockerFolderTar);
-                final File tarFile = dockerFolderTar;
-
-                return new InputStream() {
-
-                    @Override
-                    public int available() throws IOException {
-                        return tarInputStream.available();
-                    }
-
-                    @Override
-                    public int read() throws IOException {
-                        return tarInputStream.read();
-                    }
-
-                    @Override
-                    public int read(byte [] buff, int offset, int len) throws IOException {
-                        return tarInputStream.read(buff, offset, len);
-                    }
-
-                    @Override
-                    public void close() throws IOException {
-                        IOUtils.closeQuietly(tarInputStream);
-                        FileUtils.deleteQuietly(tarFile);
-                    }
-                };
-
+                // the tar is generated while it is uploaded, so no temporary file is needed
+                return CompressArchiveUtil.archiveTARFilesStream(directory, filesToAdd, true);
             } catch (IOException ex) {
-                FileUtils.deleteQuietly(dockerFolderTar);
                 throw new DockerClientException("Error occurred while preparing Docker context folder.", ex);
             }
         }
@@ -173,72 +133,23 @@ public class Dockerfile {
 
             ignores = getIgnores();
 
-            String matchingIgnorePattern = effectiveMatchingIgnorePattern(dockerFile);
+            IgnoreMatcher ignoreMatcher = new IgnoreMatcher(ignores);
+
+            String matchingIgnorePattern = ignoreMatcher.effectiveMatchingIgnorePattern(
+                    FilePathUtil.relativize(getDockerFolder(), dockerFile), ignoreMatcher.allPatterns());
 
             if (matchingIgnorePattern != null) {
                 throw new DockerClientException(String.format(
                         "Dockerfile is excluded by pattern '%s' in .dockerignore file", matchingIgnorePattern));
             }
 
-            Collection<File> filesInBuildContext = FileUtils.listFiles(getDockerFolder(), TrueFileFilter.INSTANCE,
-                    TrueFileFilter.INSTANCE);
-
-            for (File f : filesInBuildContext) {
-                if (effectiveMatchingIgnorePattern(f) == null) {
-                    filesToAdd.add(f);
-                }
-            }
-        }
-
-        /**
-         * Returns all matching ignore patterns for the given file name.
-         */
-        private List<String> matchingIgnorePatterns(String fileName) {
-            List<String> matches = new ArrayList<String>();
-
-            int lineNumber = 0;
-            for (String pattern : ignores) {
-                lineNumber++;
-                try {
-                    if (GoLangFileMatch.match(pattern, fileName)) {
-                        matches.add(pattern);
-                    }
-                } catch (GoLangFileMatchException e) {
-                    throw new DockerClientException(String.format(
-                            "Invalid pattern '%s' on line %s in .dockerignore file", pattern, lineNumber));
-                }
-            }
-
-            return matches;
-        }
-
-        /**
-         * Returns the matching ignore pattern for the given file or null if it should NOT be ignored. Exception rules
-         * like "!Dockerfile" will be respected.
-         */
-        private String effectiveMatchingIgnorePattern(File file) {
-            String relativeFilename = FilePathUtil.relativize(getDockerFolder(), file);
-
-            List<String> matchingPattern = matchingIgnorePatterns(relativeFilename);
-
-            if (matchingPattern.isEmpty())
-                return null;
-
-            String lastMatchingPattern = matchingPattern.get(matchingPattern.size() - 1);
-
-            int lastMatchingPatternIndex = ignores.lastIndexOf(lastMatchingPattern);
-
-            if (lastMatchingPatternIndex == ignores.size() - 1)
-                return lastMatchingPattern;
-
-            List<String> remainingIgnorePattern = ignores.subList(lastMatchingPatternIndex + 1, ignores.size());
-
-            for (String ignorePattern : remainingIgnorePattern) {
-                if (ignorePattern.equals("!" + relativeFilename))
-                    return null;
+            ForkJoinPool forkJoinPool = new ForkJoinPool();
+            try {
+                filesToAdd.addAll(forkJoinPool.invoke(new BuildContextScanTask(getDockerFolder(),
+                        getDockerFolder(), ignoreMatcher)));
+            } finally {
+                forkJoinPool.shutdown();
             }
-
-            return lastMatchingPattern;
         }
     }
 }
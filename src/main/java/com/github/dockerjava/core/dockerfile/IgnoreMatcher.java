@@ -0,0 +1,155 @@
+package com.github.dockerjava.core.dockerfile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.core.GoLangFileMatch;
+import com.github.dockerjava.core.GoLangFileMatch.CompiledPattern;
+import com.github.dockerjava.core.exception.GoLangFileMatchException;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Iterables;
+
+/**
+ * The patterns of a .dockerignore file, compiled once for matching all files of a build context.
+ *
+ * Patterns never match across path separators, so a pattern that consists of literal characters, '?' and single '*'
+ * only can match files with as many path elements as the pattern has. Such patterns are checked element-wise against
+ * the path of a directory by {@link #candidatesFor(String)}, and the files inside that directory are matched against
+ * the remaining candidates only.
+ */
+class IgnoreMatcher {
+
+    private static final Splitter PATH_SPLITTER = Splitter.on('/');
+
+    private final List<String> ignores;
+
+    private final CompiledPattern[] patterns;
+
+    /**
+     * The path elements of each pattern, or null for patterns that must be matched against every file.
+     */
+    private final CompiledPattern[][] patternElements;
+
+    /**
+     * Last position of the exception rule "!" + name per name.
+     */
+    private final Map<String, Integer> exceptions = new HashMap<String, Integer>();
+
+    private final int[] allPatterns;
+
+    IgnoreMatcher(List<String> ignores) {
+        this.ignores = ignores;
+        this.patterns = new CompiledPattern[ignores.size()];
+        this.patternElements = new CompiledPattern[ignores.size()][];
+        this.allPatterns = new int[ignores.size()];
+
+        for (int i = 0; i < ignores.size(); i++) {
+            String pattern = ignores.get(i);
+
+            patterns[i] = GoLangFileMatch.compile(pattern);
+            patternElements[i] = compileElements(pattern);
+            allPatterns[i] = i;
+
+            if (pattern.startsWith("!")) {
+                exceptions.put(pattern.substring(1), i);
+            }
+        }
+    }
+
+    private static CompiledPattern[] compileElements(String pattern) {
+        // character classes may match a separator, escapes and '**' don't follow the element-wise matching
+        if (GoLangFileMatch.IS_WINDOWS || pattern.indexOf('[') >= 0 || pattern.indexOf('\\') >= 0
+                || pattern.contains("**")) {
+            return null;
+        }
+
+        String[] elements = Iterables.toArray(PATH_SPLITTER.split(pattern), String.class);
+        CompiledPattern[] compiledElements = new CompiledPattern[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            compiledElements[i] = GoLangFileMatch.compile(elements[i]);
+        }
+        return compiledElements;
+    }
+
+    /**
+     * Returns the indexes of all patterns.
+     */
+    int[] allPatterns() {
+        return allPatterns;
+    }
+
+    /**
+     * Returns the indexes of the patterns that may match a file whose relative path starts with the given relative
+     * directory path.
+     *
+     * @param relativeDirectory
+     *            path of the directory relative to the build context, ending with '/' unless empty
+     */
+    int[] candidatesFor(String relativeDirectory) {
+        if (relativeDirectory.isEmpty() || relativeDirectory.startsWith("/") || !relativeDirectory.endsWith("/")) {
+            return allPatterns;
+        }
+
+        String[] directoryElements = Iterables.toArray(
+                PATH_SPLITTER.split(relativeDirectory.substring(0, relativeDirectory.length() - 1)), String.class);
+
+        int[] candidates = new int[patterns.length];
+        int count = 0;
+
+        Patterns: for (int i = 0; i < patterns.length; i++) {
+            CompiledPattern[] elements = patternElements[i];
+            if (elements != null) {
+                if (elements.length <= directoryElements.length) {
+                    continue;
+                }
+                for (int j = 0; j < directoryElements.length; j++) {
+                    if (!elements[j].matches(directoryElements[j])) {
+                        continue Patterns;
+                    }
+                }
+            }
+            candidates[count++] = i;
+        }
+
+        int[] result = new int[count];
+        System.arraycopy(candidates, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Returns the matching ignore pattern for the given file or null if it should NOT be ignored. Exception rules
+     * like "!Dockerfile" will be respected.
+     *
+     * @param relativeFilename
+     *            path of the file relative to the build context
+     * @param candidates
+     *            indexes of the patterns to check in ascending order, all others must not match the file
+     */
+    String effectiveMatchingIgnorePattern(String relativeFilename, int[] candidates) {
+        int lastMatchingPatternIndex = -1;
+
+        for (int i : candidates) {
+            try {
+                if (patterns[i].matches(relativeFilename)) {
+                    lastMatchingPatternIndex = i;
+                }
+            } catch (GoLangFileMatchException e) {
+                throw new DockerClientException(String.format(
+                        "Invalid pattern '%s' on line %s in .dockerignore file", ignores.get(i), i + 1));
+            }
+        }
+
+        if (lastMatchingPatternIndex == -1) {
+            return null;
+        }
+
+        Integer exceptionIndex = exceptions.get(relativeFilename);
+        if (exceptionIndex != null && exceptionIndex > lastMatchingPatternIndex) {
+            return null;
+        }
+
+        return ignores.get(lastMatchingPatternIndex);
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.dockerjava.core.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.InspectContainerResponse.ContainerState;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Filters;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Waits for the exit of many containers over a single event stream, unlike
+ * {@link com.github.dockerjava.api.command.WaitContainerCmd} which holds a connection per container until it exits.
+ *
+ * A container is inspected when it is registered, so that an exit before the registration isn't missed, and once more
+ * when its die event arrives to read the exit code. The inspections run on a small pool of threads. The event stream
+ * is a {@link ResumableEventSubscription}, exits during a connection loss are delivered after reconnecting.
+ *
+ * <pre>
+ * ContainerExitWaiter waiter = new ContainerExitWaiter(dockerClient);
+ * ListenableFuture&lt;Integer&gt; exitCode = waiter.waitFor(containerId);
+ * </pre>
+ */
+public class ContainerExitWaiter implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerExitWaiter.class);
+
+    private static final int INSPECT_THREADS = 4;
+
+    private final DockerClient dockerClient;
+
+    private final ConcurrentMap<String, SettableFuture<Integer>> waiting =
+            new ConcurrentHashMap<String, SettableFuture<Integer>>();
+
+    private final ExecutorService executor;
+
+    private ResumableEventSubscription subscription;
+
+    private volatile boolean closed = false;
+
+    public ContainerExitWaiter(DockerClient dockerClient) {
+        checkNotNull(dockerClient, "dockerClient was not specified");
+        this.dockerClient = dockerClient;
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(INSPECT_THREADS, INSPECT_THREADS, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder()
+                        .setNameFormat("docker-java-exit-waiter-%d").setDaemon(true).build());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = threadPoolExecutor;
+    }
+
+    /**
+     * Returns a future of the exit code of the container. Waiting for the same container more than once returns the
+     * same future, cancelling it stops waiting.
+     *
+     * The future fails with a {@link NotFoundException} if the container doesn't exist, and with a
+     * {@link DockerClientException} if it has been removed before its exit code could be read.
+     *
+     * @param containerId
+     *            id or name of the container
+     */
+    public ListenableFuture<Integer> waitFor(String containerId) {
+        checkNotNull(containerId, "containerId was not specified");
+        if (closed) {
+            throw new IllegalStateException("Waiter has been closed");
+        }
+
+        InspectContainerResponse response;
+        try {
+            // follow the events before inspecting, so that the die event of a running container can't be missed
+            ensureSubscribed();
+
+            response = dockerClient.inspectContainerCmd(containerId).exec();
+        } catch (RuntimeException e) {
+            SettableFuture<Integer> failed = SettableFuture.create();
+            failed.setException(e);
+            return failed;
+        }
+
+        final String id = response.getId();
+        SettableFuture<Integer> future = SettableFuture.create();
+        SettableFuture<Integer> existing = waiting.putIfAbsent(id, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                waiting.remove(id);
+            }
+        }, MoreExecutors.directExecutor());
+
+        // the container may have exited since it has been inspected, before its die event could find the future
+        inspectLater(id);
+        return future;
+    }
+
+    /**
+     * Returns the number of containers waited for.
+     */
+    public int getWaitingCount() {
+        return waiting.size();
+    }
+
+    private synchronized void ensureSubscribed() {
+        if (subscription != null) {
+            return;
+        }
+
+        // starts at the daemon's current time, the events that follow are delivered even if the stream connects later
+        ResumableEventSubscription newSubscription = new ResumableEventSubscription(dockerClient, new DieEvents())
+                .withFilters(new Filters().withFilter("event", "die", "destroy"));
+        try {
+            newSubscription.start();
+        } catch (IOException e) {
+            // there is no cursor file to read
+            throw new DockerClientException("Subscribing to events failed", e);
+        }
+        subscription = newSubscription;
+    }
+
+    private static boolean isRunning(ContainerState state) {
+        return state != null && (Boolean.TRUE.equals(state.getRunning()) || Boolean.TRUE.equals(state.getRestarting()));
+    }
+
+    private void inspectLater(final String id) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    complete(id);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // closed concurrently
+        }
+    }
+
+    /**
+     * Completes the future with the exit code unless the container has been restarted meanwhile.
+     */
+    private void complete(String id) {
+        SettableFuture<Integer> future = waiting.get(id);
+        if (future == null) {
+            return;
+        }
+
+        try {
+            ContainerState state = dockerClient.inspectContainerCmd(id).exec().getState();
+            if (!isRunning(state)) {
+                future.set(state != null ? state.getExitCode() : null);
+            }
+        } catch (NotFoundException e) {
+            future.setException(new DockerClientException("Container " + id
+                    + " has been removed before its exit code could be read", e));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Inspecting container " + id + " failed", e);
+            future.setException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        ResumableEventSubscription currentSubscription;
+        synchronized (this) {
+            currentSubscription = subscription;
+        }
+        if (currentSubscription != null) {
+            currentSubscription.close();
+        }
+
+        executor.shutdownNow();
+        for (SettableFuture<Integer> future : waiting.values()) {
+            future.cancel(false);
+        }
+    }
+
+    private class DieEvents extends ResultCallbackTemplate<DieEvents, Event> {
+
+        @Override
+        public void onNext(Event event) {
+            if (event.getId() != null && waiting.containsKey(event.getId())) {
+                inspectLater(event.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.dockerjava.core.events;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.dockerjava.api.model.Event;
+
+/**
+ * Position in the event stream: the time of the latest event in seconds, together with the events of that second
+ * that have been delivered already. The daemon returns the events of the second passed as {@code since} once more,
+ * they are recognized as duplicates.
+ */
+final class EventCursor {
+
+    /**
+     * Seconds and zone of a time in RFC 3339 format, without the fraction of a second.
+     */
+    private static final Pattern RFC_3339 = Pattern
+            .compile("^(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2})(?:\\.\\d+)?(Z|[+-]\\d{2}:\\d{2})$");
+
+    private long time;
+
+    private final Set<String> delivered = new LinkedHashSet<String>();
+
+    EventCursor(long time) {
+        this.time = time;
+    }
+
+    /**
+     * Moves the cursor to the event.
+     *
+     * @return false if the event has been delivered already
+     */
+    synchronized boolean advance(Event event) {
+        Long eventTime = event.getTime();
+        if (eventTime == null) {
+            return true;
+        }
+        if (eventTime < time) {
+            return false;
+        }
+        if (eventTime > time) {
+            time = eventTime;
+            delivered.clear();
+        }
+        return delivered.add(key(event));
+    }
+
+    /**
+     * Returns the time of the latest event in seconds, or -1.
+     */
+    synchronized long getTime() {
+        return time;
+    }
+
+    /**
+     * Moves the cursor to the given time unless it is past it already.
+     */
+    synchronized void advanceTo(long newTime) {
+        if (newTime > time) {
+            time = newTime;
+            delivered.clear();
+        }
+    }
+
+    /**
+     * Parses a time in RFC 3339 format, as the daemon reports it, into seconds.
+     *
+     * @return the seconds since the epoch, or -1 if the time is null or invalid
+     */
+    static long parseTime(String time) {
+        Matcher matcher = time != null ? RFC_3339.matcher(time) : null;
+        if (matcher == null || !matcher.matches()) {
+            return -1;
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX", Locale.ROOT);
+        try {
+            return format.parse(matcher.group(1) + matcher.group(2)).getTime() / 1000;
+        } catch (ParseException e) {
+            return -1;
+        }
+    }
+
+    private static String key(Event event) {
+        // events of API 1.22 and later carry nanoseconds, older ones are told apart by their content only
+        return event.getTimeNano() + " " + event.getStatus() + " " + event.getId() + " " + event.getFrom();
+    }
+
+    /**
+     * Reads a cursor written by {@link #writeTo(File)}, or returns an empty cursor if the file doesn't exist.
+     */
+    static EventCursor readFrom(File file) throws IOException {
+        if (!file.exists()) {
+            return new EventCursor(-1);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            EventCursor cursor;
+            try {
+                cursor = new EventCursor(line != null ? Long.parseLong(line.trim()) : -1);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid event cursor in " + file, e);
+            }
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    cursor.delivered.add(line);
+                }
+            }
+            return cursor;
+        }
+    }
+
+    /**
+     * Replaces the file atomically, so that a crash leaves either the old or the new cursor behind.
+     */
+    void writeTo(File file) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        synchronized (this) {
+            lines.add(Long.toString(time));
+            lines.addAll(delivered);
+        }
+
+        Path target = file.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
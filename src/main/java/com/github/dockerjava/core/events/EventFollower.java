@@ -0,0 +1,214 @@
+package com.github.dockerjava.core.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Base of the classes that keep up with some state of a Docker daemon. It subscribes to the events first and then
+ * lists the current state, so that no change gets lost in between, and follows the events from then on. If the event
+ * stream ends or fails, or the list fails, it subscribes and lists again after a delay that grows with each attempt
+ * that isn't followed by an event.
+ *
+ * Subscribing and listing run on a single background thread, subclasses may run their own updates on it with
+ * {@link #submit(Runnable, long)}. Events are passed to {@link #onEvent(Event)} on a thread of the transport.
+ */
+public abstract class EventFollower implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventFollower.class);
+
+    private static final long MIN_RETRY_DELAY_MILLIS = 500;
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+    protected final DockerClient dockerClient;
+
+    private final ScheduledExecutorService executor;
+
+    private volatile EventStream stream;
+
+    private volatile boolean closed = false;
+
+    private volatile int consecutiveRetries = 0;
+
+    /**
+     * @param threadNameFormat
+     *            the name format of the background thread, see {@link ThreadFactoryBuilder#setNameFormat(String)}
+     */
+    protected EventFollower(DockerClient dockerClient, String threadNameFormat) {
+        checkNotNull(dockerClient, "dockerClient was not specified");
+        this.dockerClient = dockerClient;
+
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat(threadNameFormat).setDaemon(true).build());
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.executor = scheduledExecutor;
+    }
+
+    /**
+     * Returns the command to subscribe with, e.g. with filters. Called on the background thread before each
+     * subscription.
+     */
+    protected abstract EventsCmd eventsCmd();
+
+    /**
+     * Lists the current state after the events have been subscribed to. Called on the background thread, a
+     * {@link RuntimeException} causes another attempt later on. Does nothing by default.
+     */
+    protected void list() {
+    }
+
+    /**
+     * Called with each event of the current subscription.
+     */
+    protected abstract void onEvent(Event event);
+
+    /**
+     * Called on the background thread when the followed state may have diverged from the daemon, before it is
+     * subscribed to and listed again. Does nothing by default.
+     */
+    protected void onGap() {
+    }
+
+    /**
+     * Returns the delay before the given retry, starting at zero: half a second, doubled with each retry up to 30
+     * seconds.
+     */
+    protected static long retryDelayMillis(int retries) {
+        return Math.min(MAX_RETRY_DELAY_MILLIS, MIN_RETRY_DELAY_MILLIS << Math.min(retries, 16));
+    }
+
+    /**
+     * Subscribes and lists again in the background right away.
+     */
+    protected void resync() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                doResync();
+            }
+        }, 0);
+    }
+
+    /**
+     * Subscribes and lists again in the background after the current retry delay.
+     */
+    protected void resyncLater() {
+        onGap();
+        long delay = retryDelayMillis(consecutiveRetries);
+        consecutiveRetries++;
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                doResync();
+            }
+        }, delay);
+    }
+
+    /**
+     * Runs the task on the background thread, unless this has been closed.
+     */
+    protected void submit(Runnable task, long delayMillis) {
+        if (closed) {
+            return;
+        }
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed concurrently
+        }
+    }
+
+    protected boolean isClosed() {
+        return closed;
+    }
+
+    private void doResync() {
+        if (closed) {
+            return;
+        }
+
+        closeStream();
+
+        try {
+            EventStream newStream = new EventStream();
+            stream = newStream;
+            eventsCmd().exec(newStream);
+
+            list();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Following the events failed", e);
+            resyncLater();
+        }
+    }
+
+    private void closeStream() {
+        EventStream currentStream = stream;
+        stream = null;
+        if (currentStream != null) {
+            try {
+                currentStream.close();
+            } catch (IOException e) {
+                LOGGER.debug("Closing event stream failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        closeStream();
+    }
+
+    private class EventStream extends ResultCallbackTemplate<EventStream, Event> {
+
+        @Override
+        public void onNext(Event event) {
+            if (stream != this || closed) {
+                return;
+            }
+
+            consecutiveRetries = 0;
+            onEvent(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            ended();
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            ended();
+        }
+
+        private void ended() {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    if (stream == EventStream.this) {
+                        LOGGER.info("Event stream ended, subscribing again");
+                        resyncLater();
+                    }
+                }
+            }, 0);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.dockerjava.core.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Filters;
+
+/**
+ * An event subscription that survives connection losses and daemon restarts. It tracks the time of the latest event
+ * and, when the stream ends or fails, subscribes again with that time as {@code since}. Events the daemon sends once
+ * more are dropped, so that the callback receives every event once.
+ *
+ * The position is taken from the clock of the daemon only, never from the local one: it starts at the time the daemon
+ * reports when the subscription is started and moves with the times of the received events. Daemons before API 1.22
+ * don't report their time, without a cursor or {@link #withSince(long)} the subscription then starts with the events
+ * that follow and resumes from the first of them.
+ *
+ * With a cursor file the position is persisted at most once per second and when the subscription is closed, so that
+ * a new process resumes where the previous one stopped. Note that the daemon only keeps its most recent events, after
+ * a long gap some may be missed anyway.
+ *
+ * The callback gets {@link ResultCallback#onStart(Closeable)} with the subscription and
+ * {@link ResultCallback#onComplete()} when it is closed. Failures of the stream are retried and not passed on.
+ *
+ * <pre>
+ * ResumableEventSubscription subscription = new ResumableEventSubscription(dockerClient, callback)
+ *         .withCursorFile(new File(&quot;events.cursor&quot;)).start();
+ * </pre>
+ */
+public class ResumableEventSubscription extends EventFollower {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResumableEventSubscription.class);
+
+    private static final long PERSIST_INTERVAL_MILLIS = 1000;
+
+    private final ResultCallback<Event> callback;
+
+    private final AtomicBoolean persistPending = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Filters filters;
+
+    private File cursorFile;
+
+    private long since = -1;
+
+    private volatile EventCursor cursor;
+
+    public ResumableEventSubscription(DockerClient dockerClient, ResultCallback<Event> callback) {
+        super(dockerClient, "docker-java-events-%d");
+        checkNotNull(callback, "callback was not specified");
+        this.callback = callback;
+    }
+
+    public ResumableEventSubscription withFilters(Filters filters) {
+        checkNotNull(filters, "filters have not been specified");
+        checkState();
+        this.filters = filters;
+        return this;
+    }
+
+    /**
+     * Starts with the events since the given time in seconds of the daemon's clock, instead of the daemon's current
+     * time. A persisted cursor takes precedence.
+     */
+    public ResumableEventSubscription withSince(long since) {
+        checkState();
+        this.since = since;
+        return this;
+    }
+
+    /**
+     * Persists the position in the given file and resumes from it when started.
+     */
+    public ResumableEventSubscription withCursorFile(File cursorFile) {
+        checkNotNull(cursorFile, "cursorFile was not specified");
+        checkState();
+        this.cursorFile = cursorFile;
+        return this;
+    }
+
+    /**
+     * Reads the persisted cursor, if any, and subscribes in the background. Without a cursor or a since time the
+     * daemon's current time is read first, so that the events from now on are delivered even if the stream connects
+     * later.
+     *
+     * @throws IOException
+     *             if the cursor file can't be read
+     * @throws com.github.dockerjava.api.exception.DockerException
+     *             if the daemon's time can't be read
+     */
+    public ResumableEventSubscription start() throws IOException {
+        checkState();
+
+        EventCursor initialCursor = cursorFile != null ? EventCursor.readFrom(cursorFile) : new EventCursor(-1);
+        if (initialCursor.getTime() < 0) {
+            initialCursor.advanceTo(since >= 0 ? since : EventCursor.parseTime(
+                    dockerClient.infoCmd().exec().getSystemTime()));
+        }
+        cursor = initialCursor;
+
+        callback.onStart(this);
+        resync();
+        return this;
+    }
+
+    /**
+     * Returns the time of the latest event in seconds, or -1 if there is none yet.
+     */
+    public long getCursor() {
+        EventCursor currentCursor = cursor;
+        return currentCursor != null ? currentCursor.getTime() : -1;
+    }
+
+    private void checkState() {
+        if (cursor != null) {
+            throw new IllegalStateException("Subscription has been started already");
+        }
+    }
+
+    @Override
+    protected EventsCmd eventsCmd() {
+        long time = cursor.getTime();
+
+        EventsCmd eventsCmd = dockerClient.eventsCmd();
+        if (filters != null) {
+            eventsCmd.withFilters(filters);
+        }
+        if (time >= 0) {
+            eventsCmd.withSince(Long.toString(time));
+        }
+        return eventsCmd;
+    }
+
+    @Override
+    protected void onEvent(Event event) {
+        if (closed.get()) {
+            return;
+        }
+
+        if (cursor.advance(event)) {
+            callback.onNext(event);
+            schedulePersist();
+        }
+    }
+
+    @Override
+    protected void onGap() {
+        LOGGER.info("Subscribing to events again since {}", cursor.getTime());
+    }
+
+    private void schedulePersist() {
+        if (cursorFile != null && persistPending.compareAndSet(false, true)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    persist();
+                }
+            }, PERSIST_INTERVAL_MILLIS);
+        }
+    }
+
+    private void persist() {
+        persistPending.set(false);
+        try {
+            cursor.writeTo(cursorFile);
+        } catch (IOException e) {
+            LOGGER.warn("Writing event cursor to " + cursorFile + " failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        super.close();
+        if (cursorFile != null && cursor != null) {
+            persist();
+        }
+        callback.onComplete();
+    }
+}
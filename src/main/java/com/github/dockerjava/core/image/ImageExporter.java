@@ -0,0 +1,158 @@
+package com.github.dockerjava.core.image;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Saves images to files, several of them at the same time on separate connections. Each archive is written to its file
+ * as it is received, see {@link com.github.dockerjava.api.command.SaveImageCmd#saveTo(Path)}.
+ *
+ * With the JAX-RS transport the number of parallel saves is limited by the connections per route of the
+ * {@link com.github.dockerjava.api.command.DockerCmdExecFactory} as well.
+ *
+ * <pre>
+ * try (ImageExporter exporter = new ImageExporter(dockerClient, 4)) {
+ *     Map&lt;String, SaveResult&gt; results = exporter.saveAll(files);
+ * }
+ * </pre>
+ */
+public class ImageExporter implements Closeable {
+
+    private final DockerClient dockerClient;
+
+    private final ListeningExecutorService executor;
+
+    /**
+     * @param parallelism
+     *            the number of images saved at the same time
+     */
+    public ImageExporter(DockerClient dockerClient, int parallelism) {
+        checkNotNull(dockerClient, "dockerClient was not specified");
+        checkArgument(parallelism > 0, "parallelism must be positive");
+        this.dockerClient = dockerClient;
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder()
+                        .setNameFormat("docker-java-export-%d").setDaemon(true).build());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = MoreExecutors.listeningDecorator(threadPoolExecutor);
+    }
+
+    /**
+     * Saves the image in the background.
+     */
+    public ListenableFuture<SaveResult> saveAsync(final String imageName, final Path file) {
+        checkNotNull(imageName, "imageName was not specified");
+        checkNotNull(file, "file was not specified");
+        return executor.submit(new Callable<SaveResult>() {
+            @Override
+            public SaveResult call() throws IOException {
+                return save(imageName, file);
+            }
+        });
+    }
+
+    /**
+     * Saves the image on the calling thread.
+     */
+    public SaveResult save(String imageName, Path file) throws IOException {
+        long start = System.nanoTime();
+        long size = dockerClient.saveImageCmd(imageName).saveTo(file);
+        return new SaveResult(imageName, size, System.nanoTime() - start);
+    }
+
+    /**
+     * Saves the images in parallel and waits for all of them. If one fails, the others are cancelled.
+     *
+     * @param files
+     *            the files by image name
+     * @return the results by image name
+     */
+    public Map<String, SaveResult> saveAll(Map<String, Path> files) throws IOException {
+        List<ListenableFuture<SaveResult>> futures = new ArrayList<ListenableFuture<SaveResult>>();
+        for (Map.Entry<String, Path> entry : files.entrySet()) {
+            futures.add(saveAsync(entry.getKey(), entry.getValue()));
+        }
+
+        ListenableFuture<List<SaveResult>> all = Futures.allAsList(futures);
+        try {
+            Map<String, SaveResult> results = new LinkedHashMap<String, SaveResult>();
+            for (SaveResult result : all.get()) {
+                results.put(result.getImageName(), result);
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerClientException("Interrupted while saving images", e);
+        } catch (ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause(), IOException.class);
+            throw new DockerClientException("Saving images failed", e.getCause());
+        } finally {
+            // interrupts the remaining saves, they end at their next read or write
+            for (ListenableFuture<SaveResult> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The size of a saved archive and the time it took.
+     */
+    public static class SaveResult {
+
+        private final String imageName;
+
+        private final long bytes;
+
+        private final long nanos;
+
+        SaveResult(String imageName, long bytes, long nanos) {
+            this.imageName = imageName;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        public String getImageName() {
+            return imageName;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getDuration(TimeUnit timeUnit) {
+            return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public double getBytesPerSecond() {
+            return nanos > 0 ? bytes * 1e9 / nanos : 0;
+        }
+    }
+}
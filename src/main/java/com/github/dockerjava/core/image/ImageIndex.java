@@ -0,0 +1,106 @@
+package com.github.dockerjava.core.image;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.model.Image;
+import com.github.dockerjava.core.exception.InvalidRepositoryNameException;
+
+/**
+ * An immutable set of the tags and digests of the local images, with the id of the image each of them refers to.
+ * Updates return a new index.
+ */
+class ImageIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageIndex.class);
+
+    static final ImageIndex EMPTY = new ImageIndex(Collections.<ImageReference, String> emptyMap());
+
+    private final Map<ImageReference, String> imageIds;
+
+    private ImageIndex(Map<ImageReference, String> imageIds) {
+        this.imageIds = imageIds;
+    }
+
+    static ImageIndex of(List<Image> images) {
+        Map<ImageReference, String> imageIds = new HashMap<ImageReference, String>();
+        for (Image image : images) {
+            put(imageIds, image.getRepoTags(), image.getId());
+            put(imageIds, image.getRepoDigests(), image.getId());
+        }
+        return new ImageIndex(imageIds);
+    }
+
+    private static void put(Map<ImageReference, String> imageIds, String[] names, String imageId) {
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            // untagged images are listed as "<none>:<none>" or "<none>@<none>"
+            if (name.startsWith("<none>")) {
+                continue;
+            }
+            try {
+                imageIds.put(ImageReference.parse(name), imageId);
+            } catch (InvalidRepositoryNameException e) {
+                LOGGER.debug("Ignoring image name " + name, e);
+            }
+        }
+    }
+
+    boolean contains(ImageReference image) {
+        return imageIds.containsKey(image);
+    }
+
+    /**
+     * Returns the id of the image the tag or digest refers to, null if it is unknown or not present.
+     */
+    @CheckForNull
+    String getImageId(ImageReference image) {
+        return imageIds.get(image);
+    }
+
+    int size() {
+        return imageIds.size();
+    }
+
+    /**
+     * Returns an index that contains the given tag or digest as well, the image id may be unknown yet.
+     */
+    ImageIndex with(ImageReference image, @CheckForNull String imageId) {
+        if (imageIds.containsKey(image) && imageId == null) {
+            return this;
+        }
+
+        Map<ImageReference, String> updated = new HashMap<ImageReference, String>(imageIds);
+        updated.put(image, imageId);
+        return new ImageIndex(updated);
+    }
+
+    /**
+     * Returns an index without the tags and digests of the given image. The id may be abbreviated.
+     */
+    ImageIndex withoutImage(String imageId) {
+        Map<ImageReference, String> updated = new HashMap<ImageReference, String>(imageIds);
+        boolean changed = false;
+        for (Map.Entry<ImageReference, String> entry : imageIds.entrySet()) {
+            if (entry.getValue() != null && matchesId(entry.getValue(), imageId)) {
+                updated.remove(entry.getKey());
+                changed = true;
+            }
+        }
+        return changed ? new ImageIndex(updated) : this;
+    }
+
+    private static boolean matchesId(String fullId, String imageId) {
+        String id = fullId.startsWith("sha256:") && !imageId.startsWith("sha256:") ? fullId.substring(7) : fullId;
+        return id.startsWith(imageId);
+    }
+}
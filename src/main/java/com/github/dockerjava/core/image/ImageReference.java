@@ -0,0 +1,105 @@
+package com.github.dockerjava.core.image;
+
+import javax.annotation.CheckForNull;
+
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.core.NameParser;
+import com.github.dockerjava.core.NameParser.HostnameReposName;
+import com.github.dockerjava.core.NameParser.ReposTag;
+
+/**
+ * An image name in its normalised form, so that "busybox", "library/busybox" and "busybox:latest" refer to the same
+ * image.
+ */
+class ImageReference {
+
+    static final String DEFAULT_TAG = "latest";
+
+    private static final String OFFICIAL_PREFIX = "library/";
+
+    private final String repository;
+
+    private final String tag;
+
+    private final String digest;
+
+    private ImageReference(String repository, String tag, String digest) {
+        this.repository = repository;
+        this.tag = tag;
+        this.digest = digest;
+    }
+
+    /**
+     * @throws com.github.dockerjava.core.exception.InvalidRepositoryNameException
+     *             if the name isn't a valid repository name
+     */
+    static ImageReference parse(String imageName) {
+        String digest = null;
+        String name = imageName;
+        int at = imageName.indexOf('@');
+        if (at >= 0) {
+            digest = imageName.substring(at + 1);
+            name = imageName.substring(0, at);
+        }
+
+        ReposTag reposTag = NameParser.parseRepositoryTag(name);
+        HostnameReposName hostnameReposName = NameParser.resolveRepositoryName(reposTag.repos);
+
+        String repository;
+        if (AuthConfig.DEFAULT_SERVER_ADDRESS.equals(hostnameReposName.hostname)) {
+            repository = hostnameReposName.reposName.startsWith(OFFICIAL_PREFIX) ? hostnameReposName.reposName
+                    .substring(OFFICIAL_PREFIX.length()) : hostnameReposName.reposName;
+        } else {
+            repository = hostnameReposName.hostname + "/" + hostnameReposName.reposName;
+        }
+
+        String tag = reposTag.tag.isEmpty() && digest == null ? DEFAULT_TAG : reposTag.tag;
+        return new ImageReference(repository, tag.isEmpty() ? null : tag, digest);
+    }
+
+    /**
+     * The repository including the registry, without it for images of the Docker Hub.
+     */
+    String getRepository() {
+        return repository;
+    }
+
+    @CheckForNull
+    String getTag() {
+        return tag;
+    }
+
+    @CheckForNull
+    String getDigest() {
+        return digest;
+    }
+
+    /**
+     * The name to pass as repository of a pull, the tag is passed separately.
+     */
+    String getPullName() {
+        return digest != null ? repository + "@" + digest : repository;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ImageReference && toString().equals(obj.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder name = new StringBuilder(repository);
+        if (tag != null) {
+            name.append(':').append(tag);
+        }
+        if (digest != null) {
+            name.append('@').append(digest);
+        }
+        return name.toString();
+    }
+}
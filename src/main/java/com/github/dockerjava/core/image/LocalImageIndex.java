@@ -0,0 +1,330 @@
+package com.github.dockerjava.core.image;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Filters;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import com.github.dockerjava.core.events.ResumableEventSubscription;
+import com.github.dockerjava.core.exception.InvalidRepositoryNameException;
+import com.github.dockerjava.core.image.PullCoordinator.Priority;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Pulls images only if they aren't present already. The tags and digests of the local images are listed once and kept
+ * current by the image events, so that {@link #ensureImage(String)} answers from memory for images that are present
+ * and doesn't cost a round trip to the registry.
+ *
+ * Each event is applied right away as far as it tells, and the images are listed again shortly after to pick up what
+ * it doesn't, e.g. the tags removed by an untag. An image that has just been removed may therefore still be reported
+ * present for a moment.
+ *
+ * <pre>
+ * LocalImageIndex images = new LocalImageIndex(dockerClient).start();
+ * images.ensureImage(&quot;busybox:latest&quot;);
+ * dockerClient.createContainerCmd(&quot;busybox:latest&quot;).exec();
+ * </pre>
+ */
+public class LocalImageIndex implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalImageIndex.class);
+
+    private static final long MIN_REFRESH_DELAY_MILLIS = 500;
+
+    private static final long MAX_REFRESH_DELAY_MILLIS = 30000;
+
+    private final DockerClient dockerClient;
+
+    private final ScheduledExecutorService executor;
+
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Object indexLock = new Object();
+
+    /**
+     * The changes of each list in progress, guarded by {@link #indexLock}.
+     */
+    private final Set<List<Change>> pendingChanges = Collections
+            .newSetFromMap(new IdentityHashMap<List<Change>, Boolean>());
+
+    private volatile ImageIndex index = ImageIndex.EMPTY;
+
+    private PullCoordinator pullCoordinator;
+
+    private boolean ownsPullCoordinator = false;
+
+    private volatile ResumableEventSubscription subscription;
+
+    private volatile boolean closed = false;
+
+    private int consecutiveRefreshFailures = 0;
+
+    public LocalImageIndex(DockerClient dockerClient) {
+        checkNotNull(dockerClient, "dockerClient was not specified");
+        this.dockerClient = dockerClient;
+
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("docker-java-images-%d").setDaemon(true).build());
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.executor = scheduledExecutor;
+    }
+
+    /**
+     * Pulls missing images with the given coordinator, so that they are shared with other pulls. Otherwise the index
+     * uses a coordinator of its own.
+     */
+    public LocalImageIndex withPullCoordinator(PullCoordinator pullCoordinator) {
+        checkNotNull(pullCoordinator, "pullCoordinator was not specified");
+        checkState();
+        this.pullCoordinator = pullCoordinator;
+        return this;
+    }
+
+    /**
+     * Subscribes to the image events and lists the local images.
+     *
+     * @throws com.github.dockerjava.api.exception.DockerException
+     *             if the images can't be listed
+     */
+    public LocalImageIndex start() {
+        checkState();
+
+        if (pullCoordinator == null) {
+            pullCoordinator = new PullCoordinator(dockerClient);
+            ownsPullCoordinator = true;
+        }
+
+        // subscribe first, at the daemon's current time, so that no event gets lost between the list and the stream
+        ResumableEventSubscription newSubscription = new ResumableEventSubscription(dockerClient, new ImageEvents())
+                .withFilters(new Filters().withFilter("event", "pull", "tag", "untag", "delete", "import", "load"));
+        try {
+            newSubscription.start();
+        } catch (IOException e) {
+            // there is no cursor file to read
+            throw new DockerClientException("Subscribing to events failed", e);
+        }
+        subscription = newSubscription;
+
+        refresh();
+        return this;
+    }
+
+    /**
+     * Pulls the image unless a tag or digest of the given name is present. Blocks until the pull has finished.
+     *
+     * @param imageName
+     *            the image name, with an optional tag or digest. Without either the tag "latest" is ensured.
+     * @return true if the image was present, false if it has been pulled
+     * @throws DockerClientException
+     *             if the pull fails
+     */
+    public boolean ensureImage(String imageName) {
+        checkNotNull(imageName, "imageName was not specified");
+        if (subscription == null) {
+            throw new IllegalStateException("Index hasn't been started");
+        }
+
+        ImageReference image = ImageReference.parse(imageName);
+        if (index.contains(image)) {
+            hits.incrementAndGet();
+            return true;
+        }
+
+        misses.incrementAndGet();
+        pullCoordinator.pull(imageName, Priority.CONTAINER_START, new PullImageResultCallback()).awaitSuccess();
+        add(image, null);
+        return false;
+    }
+
+    /**
+     * Returns whether a tag or digest of the given name is present as far as the index knows.
+     */
+    public boolean isPresent(String imageName) {
+        return index.contains(ImageReference.parse(imageName));
+    }
+
+    /**
+     * Returns the number of {@link #ensureImage(String)} calls that found the image present.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of {@link #ensureImage(String)} calls that had to pull the image.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of tags and digests present.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    private void checkState() {
+        if (subscription != null) {
+            throw new IllegalStateException("Index has been started already");
+        }
+    }
+
+    private void submit(Runnable task, long delayMillis) {
+        if (closed) {
+            return;
+        }
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed concurrently
+        }
+    }
+
+    private void add(ImageReference image, String imageId) {
+        apply(new Change(image, imageId));
+    }
+
+    private void removeImage(String imageId) {
+        apply(new Change(null, imageId));
+    }
+
+    private void apply(Change change) {
+        synchronized (indexLock) {
+            index = change.applyTo(index);
+            for (List<Change> changes : pendingChanges) {
+                changes.add(change);
+            }
+        }
+    }
+
+    /**
+     * Lists the images on the background thread, events that arrive meanwhile cause one more list.
+     */
+    private void scheduleRefresh(long delayMillis) {
+        if (refreshPending.compareAndSet(false, true)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    refreshPending.set(false);
+                    try {
+                        refresh();
+                        consecutiveRefreshFailures = 0;
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Listing images failed", e);
+                        scheduleRefresh(Math.min(MAX_REFRESH_DELAY_MILLIS,
+                                MIN_REFRESH_DELAY_MILLIS << Math.min(consecutiveRefreshFailures++, 16)));
+                    }
+                }
+            }, delayMillis);
+        }
+    }
+
+    /**
+     * Replaces the index by the listed images. The changes made while the list was in progress are applied to it once
+     * more, e.g. an image pulled by {@link #ensureImage(String)} meanwhile may be missing from the list.
+     */
+    private void refresh() {
+        List<Change> changes = new ArrayList<Change>();
+        synchronized (indexLock) {
+            pendingChanges.add(changes);
+        }
+
+        try {
+            ImageIndex listed = ImageIndex.of(dockerClient.listImagesCmd().exec());
+            synchronized (indexLock) {
+                for (Change change : changes) {
+                    listed = change.applyTo(listed);
+                }
+                index = listed;
+            }
+        } finally {
+            synchronized (indexLock) {
+                pendingChanges.remove(changes);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        if (subscription != null) {
+            subscription.close();
+        }
+        if (ownsPullCoordinator) {
+            pullCoordinator.close();
+        }
+    }
+
+    private class ImageEvents extends ResultCallbackTemplate<ImageEvents, Event> {
+
+        @Override
+        public void onNext(Event event) {
+            String id = event.getId();
+            if (id == null || event.getStatus() == null) {
+                return;
+            }
+
+            switch (event.getStatus()) {
+            case "pull":
+                // the id of a pull event is the image name
+                try {
+                    add(ImageReference.parse(id), null);
+                } catch (InvalidRepositoryNameException e) {
+                    LOGGER.debug("Ignoring pull of " + id, e);
+                }
+                break;
+            case "delete":
+                removeImage(id);
+                break;
+            default:
+                break;
+            }
+            scheduleRefresh(0);
+        }
+    }
+
+    /**
+     * An image added under a name, or removed if there is no name.
+     */
+    private static final class Change {
+
+        private final ImageReference image;
+
+        private final String imageId;
+
+        Change(ImageReference image, String imageId) {
+            this.image = image;
+            this.imageId = imageId;
+        }
+
+        ImageIndex applyTo(ImageIndex index) {
+            return image != null ? index.with(image, imageId) : index.withoutImage(imageId);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.dockerjava.core.image;
+
+/**
+ * Receives the progress of a pull or push from a {@link ProgressTracker}.
+ */
+public interface ProgressListener {
+
+    /**
+     * Called from the thread that delivers the response items, must not block.
+     */
+    void onProgress(TransferProgress progress);
+}
@@ -0,0 +1,257 @@
+package com.github.dockerjava.core.image;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.model.ResponseItem;
+import com.github.dockerjava.api.model.ResponseItem.ProgressDetail;
+import com.github.dockerjava.core.image.TransferProgress.LayerStatus;
+
+/**
+ * Folds the response items of a pull or push into the state of each layer and notifies listeners at most once per
+ * {@link #withNotificationInterval(long, TimeUnit) interval}, instead of once per item. The state is kept in arrays
+ * indexed by layer, an item updates them in place.
+ *
+ * A notification is sent with the first item after the interval has passed, and once more when the pull or push has
+ * finished.
+ *
+ * <pre>
+ * ProgressTracker tracker = new ProgressTracker().addListener(listener);
+ * dockerClient.pullImageCmd(&quot;busybox&quot;).exec(new PullImageResultCallback().withProgressTracker(tracker))
+ *         .awaitSuccess();
+ * </pre>
+ */
+public class ProgressTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressTracker.class);
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final LayerStatus[] LAYER_STATUSES = LayerStatus.values();
+
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<ProgressListener>();
+
+    private final Map<String, Integer> layerIndexes = new HashMap<String, Integer>();
+
+    private long notificationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private String[] layerIds = new String[INITIAL_CAPACITY];
+
+    private long[] currentBytes = new long[INITIAL_CAPACITY];
+
+    private long[] totalBytes = new long[INITIAL_CAPACITY];
+
+    private byte[] layerStatuses = new byte[INITIAL_CAPACITY];
+
+    private int layerCount = 0;
+
+    private long lastNotificationNanos;
+
+    private long lastNotificationBytes = 0;
+
+    private boolean notified = false;
+
+    private boolean done = false;
+
+    /**
+     * Sets the minimum time between two notifications, 200 milliseconds by default.
+     */
+    public ProgressTracker withNotificationInterval(long interval, TimeUnit timeUnit) {
+        checkArgument(interval >= 0, "interval must not be negative");
+        synchronized (this) {
+            this.notificationIntervalNanos = timeUnit.toNanos(interval);
+        }
+        return this;
+    }
+
+    public ProgressTracker addListener(ProgressListener listener) {
+        checkNotNull(listener, "listener was not specified");
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(ProgressListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Applies a response item, items that don't refer to a layer are ignored.
+     */
+    public void update(ResponseItem item) {
+        update(item, System.nanoTime());
+    }
+
+    /**
+     * Marks the pull or push as finished and notifies the listeners.
+     */
+    public void finish() {
+        finish(System.nanoTime());
+    }
+
+    /**
+     * Returns the current progress.
+     */
+    public synchronized TransferProgress getProgress() {
+        return snapshot(0);
+    }
+
+    void update(ResponseItem item, long nanos) {
+        TransferProgress progress;
+        synchronized (this) {
+            if (done || !apply(item)) {
+                return;
+            }
+            if (notified && nanos - lastNotificationNanos < notificationIntervalNanos) {
+                return;
+            }
+            progress = notification(nanos);
+        }
+        notifyListeners(progress);
+    }
+
+    void finish(long nanos) {
+        TransferProgress progress;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            progress = notification(nanos);
+        }
+        notifyListeners(progress);
+    }
+
+    /**
+     * @return whether the item changed the state of a layer
+     */
+    private boolean apply(ResponseItem item) {
+        String status = item.getStatus();
+        if (item.getId() == null || status == null) {
+            return false;
+        }
+
+        LayerStatus layerStatus;
+        boolean transferred = false;
+        switch (status) {
+        case "Pulling fs layer":
+        case "Waiting":
+        case "Preparing":
+            layerStatus = LayerStatus.WAITING;
+            break;
+        case "Downloading":
+        case "Pushing":
+            layerStatus = LayerStatus.TRANSFERRING;
+            break;
+        case "Verifying Checksum":
+            layerStatus = LayerStatus.VERIFYING;
+            break;
+        case "Download complete":
+            layerStatus = LayerStatus.EXTRACTING;
+            transferred = true;
+            break;
+        case "Extracting":
+            layerStatus = LayerStatus.EXTRACTING;
+            break;
+        case "Pull complete":
+        case "Pushed":
+            layerStatus = LayerStatus.COMPLETE;
+            transferred = true;
+            break;
+        case "Already exists":
+        case "Layer already exists":
+            layerStatus = LayerStatus.ALREADY_EXISTS;
+            break;
+        default:
+            if (status.startsWith("Mounted from")) {
+                layerStatus = LayerStatus.ALREADY_EXISTS;
+                break;
+            }
+            return false;
+        }
+
+        int layer = layerIndex(item.getId());
+        layerStatuses[layer] = (byte) layerStatus.ordinal();
+
+        ProgressDetail detail = item.getProgressDetail();
+        if (layerStatus == LayerStatus.TRANSFERRING && detail != null) {
+            if (detail.getCurrent() != null) {
+                currentBytes[layer] = detail.getCurrent();
+            }
+            if (detail.getTotal() != null && detail.getTotal() > 0) {
+                totalBytes[layer] = detail.getTotal();
+            }
+        } else if (transferred && totalBytes[layer] > 0) {
+            currentBytes[layer] = totalBytes[layer];
+        }
+        return true;
+    }
+
+    private int layerIndex(String layerId) {
+        Integer index = layerIndexes.get(layerId);
+        if (index != null) {
+            return index;
+        }
+
+        if (layerCount == layerIds.length) {
+            int capacity = layerCount * 2;
+            layerIds = Arrays.copyOf(layerIds, capacity);
+            currentBytes = Arrays.copyOf(currentBytes, capacity);
+            totalBytes = Arrays.copyOf(totalBytes, capacity);
+            layerStatuses = Arrays.copyOf(layerStatuses, capacity);
+        }
+
+        int layer = layerCount++;
+        layerIds[layer] = layerId;
+        currentBytes[layer] = 0;
+        totalBytes[layer] = -1;
+        layerIndexes.put(layerId, layer);
+        return layer;
+    }
+
+    private TransferProgress notification(long nanos) {
+        long transferred = 0;
+        for (int i = 0; i < layerCount; i++) {
+            transferred += currentBytes[i];
+        }
+
+        double bytesPerSecond = 0;
+        if (notified && nanos > lastNotificationNanos) {
+            bytesPerSecond = Math.max(0, (transferred - lastNotificationBytes) * 1e9 / (nanos - lastNotificationNanos));
+        }
+
+        notified = true;
+        lastNotificationNanos = nanos;
+        lastNotificationBytes = transferred;
+        return snapshot(bytesPerSecond);
+    }
+
+    private TransferProgress snapshot(double bytesPerSecond) {
+        LayerStatus[] statuses = new LayerStatus[layerCount];
+        for (int i = 0; i < layerCount; i++) {
+            statuses[i] = LAYER_STATUSES[layerStatuses[i]];
+        }
+        return new TransferProgress(Arrays.copyOf(layerIds, layerCount), Arrays.copyOf(currentBytes, layerCount),
+                Arrays.copyOf(totalBytes, layerCount), statuses, bytesPerSecond, done);
+    }
+
+    private void notifyListeners(TransferProgress progress) {
+        for (ProgressListener listener : listeners) {
+            try {
+                listener.onProgress(progress);
+            } catch (RuntimeException e) {
+                // must not break the stream of response items
+                LOGGER.warn("Listener failed", e);
+            }
+        }
+    }
+}
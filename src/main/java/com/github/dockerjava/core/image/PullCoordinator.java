@@ -0,0 +1,435 @@
+package com.github.dockerjava.core.image;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.PullImageCmd;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+
+/**
+ * Coordinates the pulls of many callers against one Docker daemon. Concurrent pulls of the same image, after
+ * normalising its name, share a single pull whose progress is passed on to every caller. At most
+ * {@link #withMaxConcurrentPulls(int) a number of pulls} run at the same time, the others wait in a queue where pulls
+ * for containers that are about to start go first.
+ *
+ * Every callback gets its own {@link ResultCallback#onStart(Closeable)}, closing it stops the delivery to this caller.
+ * The pull itself is aborted once no caller is left. A caller that joins a running pull receives the latest item
+ * before the following ones, so that a {@link com.github.dockerjava.core.command.PullImageResultCallback} sees the
+ * outcome.
+ *
+ * <pre>
+ * PullCoordinator coordinator = new PullCoordinator(dockerClient).withMaxConcurrentPulls(2);
+ * coordinator.pull(&quot;busybox:latest&quot;, Priority.CONTAINER_START, new PullImageResultCallback()).awaitSuccess();
+ * </pre>
+ */
+public class PullCoordinator implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PullCoordinator.class);
+
+    public enum Priority {
+        /**
+         * The image is needed by a container that is waiting to start.
+         */
+        CONTAINER_START,
+
+        NORMAL
+    }
+
+    private static final Comparator<Pull> QUEUE_ORDER = new Comparator<Pull>() {
+        @Override
+        public int compare(Pull pull1, Pull pull2) {
+            int result = pull1.priority.compareTo(pull2.priority);
+            return result != 0 ? result : Long.compare(pull1.sequence, pull2.sequence);
+        }
+    };
+
+    private final DockerClient dockerClient;
+
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private final Map<ImageReference, Pull> pulls = new HashMap<ImageReference, Pull>();
+
+    // guarded by lock
+    private final PriorityQueue<Pull> queue = new PriorityQueue<Pull>(11, QUEUE_ORDER);
+
+    // guarded by lock
+    private int running = 0;
+
+    // guarded by lock
+    private long sequence = 0;
+
+    // guarded by lock
+    private boolean closed = false;
+
+    private volatile int maxConcurrentPulls = 3;
+
+    private volatile AuthConfig authConfig;
+
+    public PullCoordinator(DockerClient dockerClient) {
+        checkNotNull(dockerClient, "dockerClient was not specified");
+        this.dockerClient = dockerClient;
+    }
+
+    /**
+     * Sets the number of pulls that run at the same time, 3 by default.
+     */
+    public PullCoordinator withMaxConcurrentPulls(int maxConcurrentPulls) {
+        checkArgument(maxConcurrentPulls > 0, "maxConcurrentPulls must be positive");
+        this.maxConcurrentPulls = maxConcurrentPulls;
+        startQueued();
+        return this;
+    }
+
+    /**
+     * Sets the credentials of the pulls, otherwise those of the client configuration are used.
+     */
+    public PullCoordinator withAuthConfig(AuthConfig authConfig) {
+        checkNotNull(authConfig, "authConfig was not specified");
+        this.authConfig = authConfig;
+        return this;
+    }
+
+    public <T extends ResultCallback<PullResponseItem>> T pull(String imageName, T resultCallback) {
+        return pull(imageName, Priority.NORMAL, resultCallback);
+    }
+
+    /**
+     * Pulls the image, or joins the pull of it that is queued or running already.
+     *
+     * @param imageName
+     *            the image name, with an optional tag or digest. Without either the tag "latest" is pulled.
+     * @throws com.github.dockerjava.core.exception.InvalidRepositoryNameException
+     *             if the image name is invalid
+     */
+    public <T extends ResultCallback<PullResponseItem>> T pull(String imageName, Priority priority, T resultCallback) {
+        checkNotNull(imageName, "imageName was not specified");
+        checkNotNull(priority, "priority was not specified");
+        checkNotNull(resultCallback, "resultCallback was not specified");
+
+        ImageReference image = ImageReference.parse(imageName);
+        Waiter waiter = new Waiter(resultCallback);
+        resultCallback.onStart(waiter);
+
+        // a pull that completes between looking it up and joining it can't be joined anymore
+        while (!join(image, priority, waiter)) {
+            LOGGER.debug("Pull of {} completed while joining it", image);
+        }
+
+        startQueued();
+        return resultCallback;
+    }
+
+    /**
+     * Returns the number of pulls that are running.
+     */
+    public int getRunningCount() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    /**
+     * Returns the number of pulls that wait for a slot.
+     */
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private boolean join(ImageReference image, Priority priority, Waiter waiter) {
+        Pull pull;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Coordinator has been closed");
+            }
+
+            pull = pulls.get(image);
+            if (pull == null) {
+                pull = new Pull(image, priority, sequence++);
+                pulls.put(image, pull);
+                queue.add(pull);
+            } else if (!pull.started && priority.compareTo(pull.priority) < 0) {
+                queue.remove(pull);
+                pull.priority = priority;
+                queue.add(pull);
+            }
+        }
+
+        boolean closedBefore;
+        synchronized (pull) {
+            if (pull.removed) {
+                return false;
+            }
+            synchronized (waiter) {
+                waiter.pull = pull;
+                closedBefore = waiter.closed;
+            }
+
+            if (!closedBefore) {
+                pull.waiters.add(waiter.callback);
+                if (pull.latestItem != null) {
+                    deliver(waiter.callback, pull.latestItem);
+                }
+            }
+        }
+
+        if (closedBefore) {
+            // closed by the caller before it could join, the pull may have no other caller
+            detach(pull, waiter.callback);
+        }
+        return true;
+    }
+
+    private void detach(Pull pull, ResultCallback<PullResponseItem> callback) {
+        pull.waiters.remove(callback);
+        if (!pull.waiters.isEmpty()) {
+            return;
+        }
+
+        // a caller may have joined meanwhile, callers join holding the lock of the pull
+        synchronized (pull) {
+            if (!pull.waiters.isEmpty()) {
+                return;
+            }
+            synchronized (lock) {
+                if (!remove(pull)) {
+                    return;
+                }
+            }
+        }
+
+        LOGGER.debug("No caller waits for the pull of {} anymore, aborting it", pull.image);
+        abort(pull, null);
+        startQueued();
+    }
+
+    /**
+     * Removes the pull if it is still current and releases its slot.
+     */
+    private boolean remove(Pull pull) {
+        if (pulls.get(pull.image) != pull) {
+            return false;
+        }
+
+        pulls.remove(pull.image);
+        pull.removed = true;
+        if (pull.started) {
+            running--;
+        } else {
+            queue.remove(pull);
+        }
+        return true;
+    }
+
+    private void startQueued() {
+        List<Pull> toStart = new ArrayList<Pull>();
+        synchronized (lock) {
+            while (!closed && running < maxConcurrentPulls && !queue.isEmpty()) {
+                Pull pull = queue.poll();
+                pull.started = true;
+                running++;
+                toStart.add(pull);
+            }
+        }
+
+        for (Pull pull : toStart) {
+            start(pull);
+        }
+    }
+
+    private void start(Pull pull) {
+        LOGGER.debug("Pulling {}", pull.image);
+        try {
+            PullImageCmd pullImageCmd = dockerClient.pullImageCmd(pull.image.getPullName());
+            if (pull.image.getTag() != null) {
+                pullImageCmd.withTag(pull.image.getTag());
+            }
+            if (authConfig != null) {
+                pullImageCmd.withAuthConfig(authConfig);
+            }
+            pullImageCmd.exec(pull);
+        } catch (RuntimeException e) {
+            pull.onError(e);
+        }
+    }
+
+    /**
+     * Closes the stream of a pull that has been removed and completes its callers.
+     *
+     * @param throwable
+     *            passed to the callers, they complete normally if null
+     */
+    private void abort(Pull pull, Throwable throwable) {
+        try {
+            pull.close();
+        } catch (IOException e) {
+            LOGGER.debug("Closing pull stream failed", e);
+        }
+        complete(pull, throwable);
+    }
+
+    private static void complete(Pull pull, Throwable throwable) {
+        List<ResultCallback<PullResponseItem>> waiters;
+        synchronized (pull) {
+            if (pull.completed) {
+                return;
+            }
+            pull.completed = true;
+            waiters = new ArrayList<ResultCallback<PullResponseItem>>(pull.waiters);
+            pull.waiters.clear();
+        }
+
+        for (ResultCallback<PullResponseItem> waiter : waiters) {
+            try {
+                if (throwable != null) {
+                    waiter.onError(throwable);
+                } else {
+                    waiter.onComplete();
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Callback failed", e);
+            }
+        }
+    }
+
+    private static void deliver(ResultCallback<PullResponseItem> waiter, PullResponseItem item) {
+        try {
+            waiter.onNext(item);
+        } catch (RuntimeException e) {
+            // must not keep the other callers from receiving the item
+            LOGGER.warn("Callback failed", e);
+        }
+    }
+
+    /**
+     * Aborts all pulls, their callers receive a {@link DockerClientException}.
+     */
+    @Override
+    public void close() {
+        List<Pull> aborted;
+        synchronized (lock) {
+            closed = true;
+            aborted = new ArrayList<Pull>(pulls.values());
+            for (Pull pull : aborted) {
+                pull.removed = true;
+            }
+            pulls.clear();
+            queue.clear();
+            running = 0;
+        }
+
+        for (Pull pull : aborted) {
+            abort(pull, new DockerClientException("Pull of " + pull.image + " has been aborted"));
+        }
+    }
+
+    private class Pull extends ResultCallbackTemplate<Pull, PullResponseItem> {
+
+        private final ImageReference image;
+
+        private final long sequence;
+
+        private final List<ResultCallback<PullResponseItem>> waiters =
+                new CopyOnWriteArrayList<ResultCallback<PullResponseItem>>();
+
+        // guarded by lock
+        private Priority priority;
+
+        // guarded by lock
+        private boolean started = false;
+
+        private volatile boolean removed = false;
+
+        // guarded by this
+        private boolean completed = false;
+
+        // guarded by this
+        private PullResponseItem latestItem;
+
+        Pull(ImageReference image, Priority priority, long sequence) {
+            this.image = image;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void onNext(PullResponseItem item) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                latestItem = item;
+                for (ResultCallback<PullResponseItem> waiter : waiters) {
+                    deliver(waiter, item);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            finish(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            finish(null);
+        }
+
+        private void finish(Throwable throwable) {
+            synchronized (lock) {
+                remove(this);
+            }
+            complete(this, throwable);
+            startQueued();
+        }
+    }
+
+    private class Waiter implements Closeable {
+
+        private final ResultCallback<PullResponseItem> callback;
+
+        // guarded by this
+        private Pull pull;
+
+        // guarded by this
+        private boolean closed = false;
+
+        Waiter(ResultCallback<PullResponseItem> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void close() {
+            Pull currentPull;
+            synchronized (this) {
+                closed = true;
+                currentPull = pull;
+            }
+            if (currentPull != null) {
+                detach(currentPull, callback);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.dockerjava.core.image;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * Immutable view of the progress of a pull or push, as reported by a {@link ProgressTracker}.
+ */
+public class TransferProgress {
+
+    public enum LayerStatus {
+        WAITING, TRANSFERRING, VERIFYING, EXTRACTING, COMPLETE, ALREADY_EXISTS
+    }
+
+    private final String[] layerIds;
+
+    private final long[] currentBytes;
+
+    private final long[] totalBytes;
+
+    private final LayerStatus[] layerStatuses;
+
+    private final long transferredBytes;
+
+    private final long knownTotalBytes;
+
+    private final int completedLayers;
+
+    private final double bytesPerSecond;
+
+    private final boolean done;
+
+    TransferProgress(String[] layerIds, long[] currentBytes, long[] totalBytes, LayerStatus[] layerStatuses,
+            double bytesPerSecond, boolean done) {
+        this.layerIds = layerIds;
+        this.currentBytes = currentBytes;
+        this.totalBytes = totalBytes;
+        this.layerStatuses = layerStatuses;
+        this.bytesPerSecond = bytesPerSecond;
+        this.done = done;
+
+        long transferred = 0;
+        long total = 0;
+        int completed = 0;
+        for (int i = 0; i < layerIds.length; i++) {
+            transferred += currentBytes[i];
+            total += Math.max(totalBytes[i], 0);
+            if (layerStatuses[i] == LayerStatus.COMPLETE || layerStatuses[i] == LayerStatus.ALREADY_EXISTS) {
+                completed++;
+            }
+        }
+        this.transferredBytes = transferred;
+        this.knownTotalBytes = total;
+        this.completedLayers = completed;
+    }
+
+    public int getLayerCount() {
+        return layerIds.length;
+    }
+
+    public String getLayerId(int layer) {
+        return layerIds[layer];
+    }
+
+    public long getLayerCurrentBytes(int layer) {
+        return currentBytes[layer];
+    }
+
+    /**
+     * Returns the size of the layer, or -1 while it is unknown.
+     */
+    public long getLayerTotalBytes(int layer) {
+        return totalBytes[layer];
+    }
+
+    public LayerStatus getLayerStatus(int layer) {
+        return layerStatuses[layer];
+    }
+
+    public int getCompletedLayers() {
+        return completedLayers;
+    }
+
+    /**
+     * Returns the bytes transferred over all layers.
+     */
+    public long getTransferredBytes() {
+        return transferredBytes;
+    }
+
+    /**
+     * Returns the size of all layers whose size is known yet.
+     */
+    public long getTotalBytes() {
+        return knownTotalBytes;
+    }
+
+    /**
+     * Returns the completion between 0 and 100. Layers whose size is unknown yet count by their status only.
+     */
+    public double getPercent() {
+        if (layerIds.length == 0) {
+            return done ? 100 : 0;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < layerIds.length; i++) {
+            if (layerStatuses[i] == LayerStatus.COMPLETE || layerStatuses[i] == LayerStatus.ALREADY_EXISTS) {
+                sum += 1;
+            } else if (totalBytes[i] > 0) {
+                sum += Math.min(1, (double) currentBytes[i] / totalBytes[i]);
+            }
+        }
+        return sum * 100 / layerIds.length;
+    }
+
+    /**
+     * Returns the throughput since the previous notification.
+     */
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns whether the pull or push has finished, successfully or not.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("layers", layerIds.length).append("completedLayers", completedLayers)
+                .append("transferredBytes", transferredBytes).append("totalBytes", knownTotalBytes)
+                .append("percent", getPercent()).append("bytesPerSecond", bytesPerSecond).append("done", done)
+                .toString();
+    }
+}
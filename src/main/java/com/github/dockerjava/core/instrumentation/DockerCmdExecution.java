@@ -0,0 +1,178 @@
+package com.github.dockerjava.core.instrumentation;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.dockerjava.api.command.DockerCmd;
+
+/**
+ * The measurements of a single command execution. The transports record the traffic of the command's HTTP request
+ * on it, the exec classes start and end it.
+ *
+ * An execution is bound to the thread that sends the request by {@link #attach()}, so that the transport can find it
+ * by {@link #current()} without changing the signatures of the exec classes.
+ */
+public class DockerCmdExecution {
+
+    private static final ThreadLocal<DockerCmdExecution> CURRENT = new ThreadLocal<DockerCmdExecution>();
+
+    private final DockerCmdInstrumentation instrumentation;
+
+    private final Class<?> commandType;
+
+    private final long startTimeMillis;
+
+    private final long startNanos;
+
+    private volatile long firstByteNanos = -1;
+
+    private volatile long endNanos = -1;
+
+    private volatile int statusCode = -1;
+
+    private final AtomicLong requestBytes = new AtomicLong();
+
+    private final AtomicLong responseBytes = new AtomicLong();
+
+    private volatile Throwable error;
+
+    private final AtomicBoolean ended = new AtomicBoolean();
+
+    private DockerCmdExecution(DockerCmdInstrumentation instrumentation, Class<?> commandType) {
+        this.instrumentation = instrumentation;
+        this.commandType = commandType;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts the execution of the given command.
+     *
+     * @return the started execution or null if no instrumentation is configured
+     */
+    public static DockerCmdExecution start(DockerCmdInstrumentation instrumentation, DockerCmd<?> command) {
+        if (instrumentation == null) {
+            return null;
+        }
+
+        checkNotNull(command, "command was not specified");
+
+        DockerCmdExecution execution = new DockerCmdExecution(instrumentation, command.getClass());
+        instrumentation.onStart(execution);
+        return execution;
+    }
+
+    /**
+     * Returns the execution that is attached to the current thread or null.
+     */
+    public static DockerCmdExecution current() {
+        return CURRENT.get();
+    }
+
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    public void detach() {
+        CURRENT.remove();
+    }
+
+    public void recordRequestBytes(long bytes) {
+        requestBytes.addAndGet(bytes);
+    }
+
+    public void recordResponseBytes(long bytes) {
+        recordFirstByte();
+        responseBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Records the arrival of the first response byte, later calls have no effect.
+     */
+    public void recordFirstByte() {
+        if (firstByteNanos < 0) {
+            firstByteNanos = System.nanoTime();
+        }
+    }
+
+    public void recordStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Ends the execution and notifies the instrumentation. Only the first call has an effect.
+     *
+     * @param error
+     *            the error the command failed with or null
+     */
+    public void end(Throwable error) {
+        if (ended.compareAndSet(false, true)) {
+            this.error = error;
+            this.endNanos = System.nanoTime();
+            instrumentation.onEnd(this);
+        }
+    }
+
+    /**
+     * Returns the type of the executed command, like {@code ListContainersCmdImpl}.
+     */
+    public Class<?> getCommandType() {
+        return commandType;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * Returns the time from start to end or -1 if the execution has not ended yet.
+     */
+    public long getDuration(TimeUnit unit) {
+        long end = endNanos;
+        return end < 0 ? -1 : unit.convert(end - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the time from start to the first byte of the response or -1 if nothing has been received.
+     */
+    public long getTimeToFirstByte(TimeUnit unit) {
+        long firstByte = firstByteNanos;
+        return firstByte < 0 ? -1 : unit.convert(firstByte - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the HTTP status of the response or -1 if no response has been received.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    /**
+     * Returns the error the command failed with or null.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isEnded() {
+        return ended.get();
+    }
+
+    @Override
+    public String toString() {
+        return commandType.getSimpleName() + "[status=" + statusCode + ", durationMillis="
+                + getDuration(TimeUnit.MILLISECONDS) + ", requestBytes=" + getRequestBytes() + ", responseBytes="
+                + getResponseBytes() + ", error=" + error + "]";
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.dockerjava.core.instrumentation;
+
+/**
+ * Gets notified about every command that is executed by a {@link com.github.dockerjava.api.command.DockerCmdExecFactory}
+ * it has been configured on. Implementations are called from the threads that execute the commands and must be
+ * thread-safe.
+ *
+ * @see HistogramInstrumentation
+ */
+public interface DockerCmdInstrumentation {
+
+    /**
+     * Called before the request of the command is sent.
+     */
+    void onStart(DockerCmdExecution execution);
+
+    /**
+     * Called once after the command has completed, failed or was closed by its caller. Bytes that are read from a
+     * returned stream afterwards are still added to the execution.
+     */
+    void onEnd(DockerCmdExecution execution);
+}
@@ -0,0 +1,62 @@
+package com.github.dockerjava.core.instrumentation;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.DockerCmd;
+
+/**
+ * Wraps the callback of an asynchronous execution, ends its measurement and closes the command when the execution
+ * completes or is closed. Used by the asynchronous executions of both transports.
+ */
+public class ExecutionResultCallback<T> implements ResultCallback<T> {
+
+    private final DockerCmd<?> command;
+
+    private final ResultCallback<T> resultCallback;
+
+    private final DockerCmdExecution execution;
+
+    public ExecutionResultCallback(DockerCmd<?> command, ResultCallback<T> resultCallback, DockerCmdExecution execution) {
+        this.command = command;
+        this.resultCallback = resultCallback;
+        this.execution = execution;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (execution != null) {
+            execution.end(null);
+        }
+        resultCallback.close();
+        command.close();
+    }
+
+    @Override
+    public void onStart(Closeable closeable) {
+        resultCallback.onStart(closeable);
+    }
+
+    @Override
+    public void onNext(T object) {
+        resultCallback.onNext(object);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (execution != null) {
+            execution.end(throwable);
+        }
+        resultCallback.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (execution != null) {
+            execution.end(null);
+        }
+        resultCallback.onComplete();
+        command.close();
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.dockerjava.core.instrumentation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default {@link DockerCmdInstrumentation} that aggregates the executions per command type into counters and
+ * {@link LatencyHistogram}s. Recording doesn't take any locks.
+ */
+public class HistogramInstrumentation implements DockerCmdInstrumentation {
+
+    private final ConcurrentMap<Class<?>, CommandMetrics> metrics = new ConcurrentHashMap<Class<?>, CommandMetrics>();
+
+    @Override
+    public void onStart(DockerCmdExecution execution) {
+    }
+
+    @Override
+    public void onEnd(DockerCmdExecution execution) {
+        getOrCreateMetrics(execution.getCommandType()).record(execution);
+    }
+
+    private CommandMetrics getOrCreateMetrics(Class<?> commandType) {
+        CommandMetrics commandMetrics = metrics.get(commandType);
+        if (commandMetrics == null) {
+            CommandMetrics newMetrics = new CommandMetrics();
+            commandMetrics = metrics.putIfAbsent(commandType, newMetrics);
+            if (commandMetrics == null) {
+                commandMetrics = newMetrics;
+            }
+        }
+        return commandMetrics;
+    }
+
+    /**
+     * Returns the metrics of the given command type, like {@code ListContainersCmdImpl.class}, or null if no such
+     * command has been executed yet.
+     */
+    public CommandMetrics getMetrics(Class<?> commandType) {
+        return metrics.get(commandType);
+    }
+
+    /**
+     * Returns a live view of the metrics of all command types that have been executed.
+     */
+    public Map<Class<?>, CommandMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * The aggregated executions of a command type.
+     */
+    public static class CommandMetrics {
+
+        private final AtomicLong errors = new AtomicLong();
+
+        private final AtomicLong requestBytes = new AtomicLong();
+
+        private final AtomicLong responseBytes = new AtomicLong();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+
+        void record(DockerCmdExecution execution) {
+            if (execution.getError() != null) {
+                errors.incrementAndGet();
+            }
+            requestBytes.addAndGet(execution.getRequestBytes());
+            responseBytes.addAndGet(execution.getResponseBytes());
+
+            latency.record(execution.getDuration(TimeUnit.MICROSECONDS), TimeUnit.MICROSECONDS);
+
+            long firstByteMicros = execution.getTimeToFirstByte(TimeUnit.MICROSECONDS);
+            if (firstByteMicros >= 0) {
+                timeToFirstByte.record(firstByteMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getRequestBytes() {
+            return requestBytes.get();
+        }
+
+        public long getResponseBytes() {
+            return responseBytes.get();
+        }
+
+        /**
+         * Returns the histogram of the durations from start to end.
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Returns the histogram of the durations from start to the first response byte.
+         */
+        public LatencyHistogram getTimeToFirstByte() {
+            return timeToFirstByte;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", errors=" + getErrors() + ", requestBytes=" + getRequestBytes()
+                    + ", responseBytes=" + getResponseBytes() + ", latency={" + latency + "}, timeToFirstByte={"
+                    + timeToFirstByte + "}";
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.dockerjava.core.instrumentation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations with microsecond resolution. Each power of two is divided into 16 buckets, so
+ * percentiles are reported with a relative error of less than 6.25%.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong sum = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long duration, TimeUnit unit) {
+        long micros = Math.max(0, unit.toMicros(duration));
+
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.incrementAndGet();
+        sum.addAndGet(micros);
+
+        long currentMax;
+        while (micros > (currentMax = max.get()) && !max.compareAndSet(currentMax, micros)) {
+            // retry
+        }
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the largest value that falls into the bucket with the given index.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.MICROSECONDS);
+    }
+
+    public long getMean(TimeUnit unit) {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : unit.convert(sum.get() / currentCount, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded durations fall. Durations that are recorded
+     * concurrently may or may not be taken into account.
+     *
+     * @param percentile
+     *            a value between 0 and 100
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return unit.convert(Math.min(bucketUpperBound(i), max.get()), TimeUnit.MICROSECONDS);
+            }
+        }
+
+        return getMax(unit);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + ", meanMicros=" + getMean(TimeUnit.MICROSECONDS) + ", p50Micros="
+                + getPercentile(50, TimeUnit.MICROSECONDS) + ", p99Micros="
+                + getPercentile(99, TimeUnit.MICROSECONDS) + ", maxMicros=" + getMax(TimeUnit.MICROSECONDS);
+    }
+}
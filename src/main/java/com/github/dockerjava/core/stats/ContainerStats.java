@@ -0,0 +1,128 @@
+package com.github.dockerjava.core.stats;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * Immutable view of the recent statistics of a container, published by the {@link StatsAggregator}.
+ */
+public class ContainerStats {
+
+    private final String containerId;
+
+    private final long timestamp;
+
+    private final int samples;
+
+    private final double cpuPercent;
+
+    private final double averageCpuPercent;
+
+    private final double maxCpuPercent;
+
+    private final long memoryUsage;
+
+    private final long memoryLimit;
+
+    private final double rxBytesPerSecond;
+
+    private final double txBytesPerSecond;
+
+    private final double readBytesPerSecond;
+
+    private final double writeBytesPerSecond;
+
+    ContainerStats(String containerId, long timestamp, int samples, double cpuPercent, double averageCpuPercent,
+            double maxCpuPercent, long memoryUsage, long memoryLimit, double rxBytesPerSecond,
+            double txBytesPerSecond, double readBytesPerSecond, double writeBytesPerSecond) {
+        this.containerId = containerId;
+        this.timestamp = timestamp;
+        this.samples = samples;
+        this.cpuPercent = cpuPercent;
+        this.averageCpuPercent = averageCpuPercent;
+        this.maxCpuPercent = maxCpuPercent;
+        this.memoryUsage = memoryUsage;
+        this.memoryLimit = memoryLimit;
+        this.rxBytesPerSecond = rxBytesPerSecond;
+        this.txBytesPerSecond = txBytesPerSecond;
+        this.readBytesPerSecond = readBytesPerSecond;
+        this.writeBytesPerSecond = writeBytesPerSecond;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    /**
+     * Returns the time the latest sample was received, in milliseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the number of samples the averages are computed of.
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the CPU usage since the previous sample. A container that fully uses two cores is at 200%.
+     */
+    public double getCpuPercent() {
+        return cpuPercent;
+    }
+
+    public double getAverageCpuPercent() {
+        return averageCpuPercent;
+    }
+
+    public double getMaxCpuPercent() {
+        return maxCpuPercent;
+    }
+
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public double getMemoryPercent() {
+        return memoryLimit > 0 ? memoryUsage * 100.0 / memoryLimit : 0;
+    }
+
+    /**
+     * Returns the bytes received per second over all network interfaces.
+     */
+    public double getRxBytesPerSecond() {
+        return rxBytesPerSecond;
+    }
+
+    /**
+     * Returns the bytes sent per second over all network interfaces.
+     */
+    public double getTxBytesPerSecond() {
+        return txBytesPerSecond;
+    }
+
+    /**
+     * Returns the bytes read per second from all block devices.
+     */
+    public double getReadBytesPerSecond() {
+        return readBytesPerSecond;
+    }
+
+    /**
+     * Returns the bytes written per second to all block devices.
+     */
+    public double getWriteBytesPerSecond() {
+        return writeBytesPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.dockerjava.core.stats;
+
+import java.util.List;
+import java.util.Map;
+
+import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.CpuStats;
+import com.github.dockerjava.api.model.NetworkStats;
+import com.github.dockerjava.api.model.Statistics;
+
+/**
+ * The recent samples of one container. Rates are derived from the cumulative counters of consecutive samples as they
+ * arrive and kept in ring buffers of primitives, so that a sample allocates nothing.
+ *
+ * Samples are added by the thread of the stats stream and read by the publishing thread.
+ */
+final class ContainerStatsHistory {
+
+    private final String containerId;
+
+    private final long[] timestamps;
+
+    private final double[] cpuPercents;
+
+    private final long[] memoryUsages;
+
+    private int next = 0;
+
+    private int count = 0;
+
+    private long memoryLimit;
+
+    private double rxBytesPerSecond;
+
+    private double txBytesPerSecond;
+
+    private double readBytesPerSecond;
+
+    private double writeBytesPerSecond;
+
+    private boolean hasPrevious = false;
+
+    private long previousTimestamp;
+
+    private long previousCpuUsage;
+
+    private long previousSystemCpuUsage;
+
+    private long previousRxBytes;
+
+    private long previousTxBytes;
+
+    private long previousReadBytes;
+
+    private long previousWriteBytes;
+
+    ContainerStatsHistory(String containerId, int size) {
+        this.containerId = containerId;
+        this.timestamps = new long[size];
+        this.cpuPercents = new double[size];
+        this.memoryUsages = new long[size];
+    }
+
+    String getContainerId() {
+        return containerId;
+    }
+
+    /**
+     * @param timestamp
+     *            the time the sample was received in milliseconds
+     */
+    synchronized void add(Statistics statistics, long timestamp) {
+        CpuStats cpuStats = statistics.getCpuStats();
+        long cpuUsage = cpuUsage(cpuStats);
+        long systemCpuUsage = cpuStats != null ? cpuStats.getSystemCpuUsage() : 0;
+
+        long rxBytes = 0;
+        long txBytes = 0;
+        Map<String, NetworkStats> networks = statistics.getNetworks();
+        if (networks != null) {
+            for (NetworkStats network : networks.values()) {
+                rxBytes += network.getRxBytes();
+                txBytes += network.getTxBytes();
+            }
+        }
+
+        long readBytes = 0;
+        long writeBytes = 0;
+        List<BlkioStatEntry> ioServiceBytes = statistics.getBlkioStats() != null ? statistics.getBlkioStats()
+                .getIoServiceBytesRecursive() : null;
+        if (ioServiceBytes != null) {
+            for (BlkioStatEntry entry : ioServiceBytes) {
+                if ("Read".equals(entry.getOp())) {
+                    readBytes += entry.getValue();
+                } else if ("Write".equals(entry.getOp())) {
+                    writeBytes += entry.getValue();
+                }
+            }
+        }
+
+        double cpuPercent;
+        if (hasPrevious) {
+            cpuPercent = cpuPercent(cpuUsage - previousCpuUsage, systemCpuUsage - previousSystemCpuUsage, cpuStats);
+
+            long elapsed = timestamp - previousTimestamp;
+            if (elapsed > 0) {
+                rxBytesPerSecond = rate(rxBytes - previousRxBytes, elapsed);
+                txBytesPerSecond = rate(txBytes - previousTxBytes, elapsed);
+                readBytesPerSecond = rate(readBytes - previousReadBytes, elapsed);
+                writeBytesPerSecond = rate(writeBytes - previousWriteBytes, elapsed);
+            }
+        } else {
+            // the daemon sends the CPU counters of its previous sample along with the first one
+            CpuStats precpuStats = statistics.getPrecpuStats();
+            cpuPercent = precpuStats != null && precpuStats.getSystemCpuUsage() > 0 ? cpuPercent(cpuUsage
+                    - cpuUsage(precpuStats), systemCpuUsage - precpuStats.getSystemCpuUsage(), cpuStats) : 0;
+        }
+
+        timestamps[next] = timestamp;
+        cpuPercents[next] = cpuPercent;
+        memoryUsages[next] = statistics.getMemoryStats() != null ? statistics.getMemoryStats().getUsage() : 0;
+        next = (next + 1) % timestamps.length;
+        count = Math.min(count + 1, timestamps.length);
+
+        memoryLimit = statistics.getMemoryStats() != null ? statistics.getMemoryStats().getLimit() : 0;
+
+        hasPrevious = true;
+        previousTimestamp = timestamp;
+        previousCpuUsage = cpuUsage;
+        previousSystemCpuUsage = systemCpuUsage;
+        previousRxBytes = rxBytes;
+        previousTxBytes = txBytes;
+        previousReadBytes = readBytes;
+        previousWriteBytes = writeBytes;
+    }
+
+    /**
+     * Returns the current values or {@code null} if no sample has been received yet.
+     */
+    synchronized ContainerStats snapshot() {
+        if (count == 0) {
+            return null;
+        }
+
+        int latest = (next - 1 + timestamps.length) % timestamps.length;
+
+        double sumCpuPercent = 0;
+        double maxCpuPercent = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (latest - i + timestamps.length) % timestamps.length;
+            sumCpuPercent += cpuPercents[index];
+            maxCpuPercent = Math.max(maxCpuPercent, cpuPercents[index]);
+        }
+
+        return new ContainerStats(containerId, timestamps[latest], count, cpuPercents[latest], sumCpuPercent / count,
+                maxCpuPercent, memoryUsages[latest], memoryLimit, rxBytesPerSecond, txBytesPerSecond,
+                readBytesPerSecond, writeBytesPerSecond);
+    }
+
+    private static long cpuUsage(CpuStats cpuStats) {
+        return cpuStats != null && cpuStats.getCpuUsage() != null ? cpuStats.getCpuUsage().getTotalUsage() : 0;
+    }
+
+    /**
+     * Scales the share of the host's CPU time to the cores, so that a container using two cores fully is at 200%.
+     */
+    private static double cpuPercent(long cpuDelta, long systemDelta, CpuStats cpuStats) {
+        if (cpuDelta <= 0 || systemDelta <= 0) {
+            // counters are reset when the container restarts
+            return 0;
+        }
+        long[] percpuUsage = cpuStats.getCpuUsage().getPercpuUsage();
+        int cpus = percpuUsage != null && percpuUsage.length > 0 ? percpuUsage.length : 1;
+        return (double) cpuDelta / systemDelta * cpus * 100;
+    }
+
+    private static double rate(long delta, long elapsedMillis) {
+        return delta > 0 ? delta * 1000.0 / elapsedMillis : 0;
+    }
+}
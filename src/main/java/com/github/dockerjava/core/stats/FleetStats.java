@@ -0,0 +1,65 @@
+package com.github.dockerjava.core.stats;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+/**
+ * Immutable view of the statistics of all containers followed by a {@link StatsAggregator} at one point in time.
+ */
+public class FleetStats {
+
+    private final long timestamp;
+
+    private final Map<String, ContainerStats> containers;
+
+    private final double totalCpuPercent;
+
+    private final long totalMemoryUsage;
+
+    FleetStats(long timestamp, Map<String, ContainerStats> containers) {
+        this.timestamp = timestamp;
+        this.containers = Collections.unmodifiableMap(containers);
+
+        double cpuPercent = 0;
+        long memoryUsage = 0;
+        for (ContainerStats stats : containers.values()) {
+            cpuPercent += stats.getCpuPercent();
+            memoryUsage += stats.getMemoryUsage();
+        }
+        this.totalCpuPercent = cpuPercent;
+        this.totalMemoryUsage = memoryUsage;
+    }
+
+    /**
+     * Returns the time the snapshot was taken, in milliseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the statistics by container id. Containers that haven't sent a sample yet are missing.
+     */
+    public Map<String, ContainerStats> getContainers() {
+        return containers;
+    }
+
+    public ContainerStats get(String containerId) {
+        return containers.get(containerId);
+    }
+
+    public double getTotalCpuPercent() {
+        return totalCpuPercent;
+    }
+
+    public long getTotalMemoryUsage() {
+        return totalMemoryUsage;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.dockerjava.core.stats;
+
+/**
+ * Receives the snapshots published by a {@link StatsAggregator}.
+ */
+public interface FleetStatsListener {
+
+    /**
+     * Called from the publishing thread of the aggregator, must not block.
+     */
+    void onSnapshot(FleetStats snapshot);
+}
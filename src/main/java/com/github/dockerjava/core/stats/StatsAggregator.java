@@ -0,0 +1,376 @@
+package com.github.dockerjava.core.stats;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Filters;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.core.events.EventFollower;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Follows the statistics of all running containers of a Docker daemon and publishes a {@link FleetStats} snapshot at a
+ * fixed interval. Containers are added and removed by their start and die events, if the event stream ends or fails
+ * the running containers are listed again.
+ *
+ * Every container is followed by a stats stream that reuses its {@link Statistics} instance. Rates are derived as the
+ * samples arrive, so that the transport threads do the parsing and the publishing thread only copies the current
+ * values. The streams are started by a background thread of their own, so that a slow start doesn't delay a snapshot.
+ * A stream that fails is started again after a delay that grows with each failure.
+ *
+ * Each stream holds a connection for as long as its container runs. With the netty transport these connections
+ * aren't limited by {@code withMaxConnections}. With JAX-RS each stream occupies a thread of the async executor and a
+ * connection per route as well, so {@code withMaxAsyncThreads} and {@code withMaxPerRouteConnections} must allow for
+ * {@link #withMaxContainers(int)} streams plus the event stream. Containers beyond that limit are logged and followed
+ * once another one stops.
+ *
+ * <pre>
+ * StatsAggregator aggregator = new StatsAggregator(dockerClient).withInterval(5, TimeUnit.SECONDS).start();
+ * FleetStats snapshot = aggregator.getSnapshot();
+ * </pre>
+ */
+public class StatsAggregator extends EventFollower {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatsAggregator.class);
+
+    private final ScheduledExecutorService publisher;
+
+    private final ConcurrentMap<String, StatsSubscription> subscriptions =
+            new ConcurrentHashMap<String, StatsSubscription>();
+
+    private final Set<String> waiting = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final List<FleetStatsListener> listeners = new CopyOnWriteArrayList<FleetStatsListener>();
+
+    private long intervalMillis = 1000;
+
+    private int historySize = 60;
+
+    private int maxContainers = 100;
+
+    private volatile FleetStats snapshot = new FleetStats(0, new HashMap<String, ContainerStats>());
+
+    private volatile boolean started = false;
+
+    public StatsAggregator(DockerClient dockerClient) {
+        super(dockerClient, "docker-java-stats-%d");
+
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("docker-java-stats-publish-%d").setDaemon(true).build());
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.publisher = scheduledExecutor;
+    }
+
+    /**
+     * Sets the interval snapshots are published at, one second by default.
+     */
+    public StatsAggregator withInterval(long interval, TimeUnit timeUnit) {
+        checkArgument(interval > 0, "interval must be positive");
+        checkState();
+        this.intervalMillis = timeUnit.toMillis(interval);
+        return this;
+    }
+
+    /**
+     * Sets the number of samples per container the averages are computed of, 60 by default.
+     */
+    public StatsAggregator withHistorySize(int historySize) {
+        checkArgument(historySize > 0, "historySize must be positive");
+        checkState();
+        this.historySize = historySize;
+        return this;
+    }
+
+    /**
+     * Sets the number of containers followed at the same time, 100 by default. Each of them holds a connection.
+     */
+    public StatsAggregator withMaxContainers(int maxContainers) {
+        checkArgument(maxContainers > 0, "maxContainers must be positive");
+        checkState();
+        this.maxContainers = maxContainers;
+        return this;
+    }
+
+    public StatsAggregator addListener(FleetStatsListener listener) {
+        checkNotNull(listener, "listener was not specified");
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(FleetStatsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts following the running containers and publishing snapshots in the background.
+     */
+    public StatsAggregator start() {
+        checkState();
+        started = true;
+
+        resync();
+
+        try {
+            publisher.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    publish();
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed concurrently
+        }
+        return this;
+    }
+
+    /**
+     * Returns the latest published snapshot.
+     */
+    public FleetStats getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the ids of the containers currently followed.
+     */
+    public Set<String> getContainerIds() {
+        return new HashSet<String>(subscriptions.keySet());
+    }
+
+    /**
+     * Returns the ids of the running containers that aren't followed, because {@link #withMaxContainers(int)} are
+     * followed already.
+     */
+    public Set<String> getWaitingContainerIds() {
+        return new HashSet<String>(waiting);
+    }
+
+    private void checkState() {
+        if (started) {
+            throw new IllegalStateException("Aggregator has been started already");
+        }
+    }
+
+    private void publish() {
+        Map<String, ContainerStats> containers = new HashMap<String, ContainerStats>();
+        for (StatsSubscription subscription : subscriptions.values()) {
+            ContainerStats stats = subscription.history.snapshot();
+            if (stats != null) {
+                containers.put(stats.getContainerId(), stats);
+            }
+        }
+
+        FleetStats currentSnapshot = new FleetStats(System.currentTimeMillis(), containers);
+        snapshot = currentSnapshot;
+
+        for (FleetStatsListener listener : listeners) {
+            try {
+                listener.onSnapshot(currentSnapshot);
+            } catch (RuntimeException e) {
+                // the scheduled task must not die
+                LOGGER.warn("Listener failed", e);
+            }
+        }
+    }
+
+    @Override
+    protected EventsCmd eventsCmd() {
+        return dockerClient.eventsCmd().withFilters(new Filters().withFilter("event", "start", "die", "destroy"));
+    }
+
+    /**
+     * Follows the running containers that aren't followed yet.
+     */
+    @Override
+    protected void list() {
+        List<Container> containers = dockerClient.listContainersCmd().exec();
+
+        Set<String> running = new HashSet<String>();
+        for (Container container : containers) {
+            running.add(container.getId());
+            add(container.getId());
+        }
+        for (String id : subscriptions.keySet()) {
+            if (!running.contains(id)) {
+                remove(id);
+            }
+        }
+        waiting.retainAll(running);
+    }
+
+    @Override
+    protected void onEvent(final Event event) {
+        if (event.getId() == null || event.getStatus() == null) {
+            return;
+        }
+
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                if ("start".equals(event.getStatus())) {
+                    add(event.getId());
+                } else if ("die".equals(event.getStatus()) || "destroy".equals(event.getStatus())) {
+                    remove(event.getId());
+                }
+            }
+        }, 0);
+    }
+
+    private void add(String id) {
+        follow(new ContainerStatsHistory(id, historySize), 0);
+    }
+
+    /**
+     * Starts the stats stream of a container, called on the background thread only.
+     */
+    private void follow(ContainerStatsHistory history, int failures) {
+        String id = history.getContainerId();
+        if (isClosed() || subscriptions.containsKey(id)) {
+            return;
+        }
+
+        if (subscriptions.size() >= maxContainers) {
+            if (waiting.add(id)) {
+                LOGGER.warn("Following {} containers already, container {} waits until another one stops",
+                        maxContainers, id);
+            }
+            return;
+        }
+        waiting.remove(id);
+
+        StatsSubscription subscription = new StatsSubscription(history, failures);
+        subscriptions.put(id, subscription);
+        try {
+            dockerClient.statsCmd(id).withReuseStatistics(true).exec(subscription);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Following the statistics of container " + id + " failed", e);
+            followLater(subscription);
+        }
+    }
+
+    /**
+     * Starts the stream of a failed subscription again after a delay, unless its container has been removed
+     * meanwhile. The failed subscription keeps its place until then.
+     */
+    private void followLater(final StatsSubscription failed) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                if (subscriptions.remove(failed.history.getContainerId(), failed)) {
+                    follow(failed.history, failed.failures + 1);
+                }
+            }
+        }, retryDelayMillis(failed.failures));
+    }
+
+    private void remove(String id) {
+        waiting.remove(id);
+        StatsSubscription subscription = subscriptions.remove(id);
+        if (subscription != null) {
+            close(subscription);
+            followWaiting();
+        }
+    }
+
+    private void followWaiting() {
+        for (String id : waiting) {
+            if (subscriptions.size() >= maxContainers) {
+                return;
+            }
+            add(id);
+        }
+    }
+
+    private static void close(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            LOGGER.debug("Closing stream failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        publisher.shutdownNow();
+        waiting.clear();
+        for (String id : subscriptions.keySet()) {
+            StatsSubscription subscription = subscriptions.remove(id);
+            if (subscription != null) {
+                close(subscription);
+            }
+        }
+    }
+
+    private class StatsSubscription extends ResultCallbackTemplate<StatsSubscription, Statistics> {
+
+        private final ContainerStatsHistory history;
+
+        private volatile int failures;
+
+        private volatile boolean failed = false;
+
+        StatsSubscription(ContainerStatsHistory history, int failures) {
+            this.history = history;
+            this.failures = failures;
+        }
+
+        @Override
+        public void onNext(Statistics statistics) {
+            failures = 0;
+            history.add(statistics, System.currentTimeMillis());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failed = true;
+            super.onError(throwable);
+            if (!isClosed() && subscriptions.get(history.getContainerId()) == this) {
+                LOGGER.warn("Statistics stream of container {} failed, starting it again", history.getContainerId());
+                followLater(this);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            if (failed) {
+                return;
+            }
+
+            // the container has stopped
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    if (subscriptions.remove(history.getContainerId(), StatsSubscription.this)) {
+                        followWaiting();
+                    }
+                }
+            }, 0);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.dockerjava.core.util;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A stream that can write its remaining content to a channel without copying it to a byte array first.
+ */
+public interface ChannelSource {
+
+    /**
+     * Writes the remaining content to the channel and returns the number of bytes written.
+     */
+    long transferTo(WritableByteChannel target) throws IOException;
+}
@@ -0,0 +1,53 @@
+package com.github.dockerjava.core.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class ChannelTransferUtil {
+
+    /**
+     * Size of the buffer of a transfer from a stream that isn't a {@link ChannelSource}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private ChannelTransferUtil() {
+        // utility class
+    }
+
+    /**
+     * Writes the rest of the stream to the channel. A {@link ChannelSource} writes its buffers directly, other streams
+     * are read into a direct buffer that is written once it is full, so that a file channel doesn't copy it once more.
+     * Neither closes the stream nor the channel.
+     *
+     * @return the number of bytes written
+     */
+    public static long transfer(InputStream source, WritableByteChannel target, int bufferSize) throws IOException {
+        checkArgument(bufferSize > 0, "bufferSize must be positive");
+        if (source instanceof ChannelSource) {
+            return ((ChannelSource) source).transferTo(target);
+        }
+
+        // closing the channel would close the stream
+        ReadableByteChannel sourceChannel = Channels.newChannel(source);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        long transferred = 0;
+        boolean ended = false;
+        while (!ended) {
+            ended = sourceChannel.read(buffer) == -1;
+            if (ended || !buffer.hasRemaining()) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        return transferred;
+    }
+}
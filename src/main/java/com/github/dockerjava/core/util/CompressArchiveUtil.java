@@ -106,4 +106,20 @@ public class CompressArchiveUtil {
 
         return tarFile;
     }
+
+    /**
+     * Tar the given files relative to base without buffering the archive on disk or in memory. The archive is
+     * produced incrementally while the returned stream is read, e.g. by a chunked request entity.
+     *
+     * @param base
+     *            directory the entry names are relative to
+     * @param files
+     *            files to add, read lazily in iteration order
+     * @param gZipped
+     *            compress with gzip algorithm
+     */
+    public static InputStream archiveTARFilesStream(File base, Iterable<File> files, boolean gZipped)
+            throws IOException {
+        return new StreamingTarInputStream(base, files, gZipped);
+    }
 }
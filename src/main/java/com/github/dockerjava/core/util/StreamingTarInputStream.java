@@ -0,0 +1,184 @@
+package com.github.dockerjava.core.util;
+
+import static com.github.dockerjava.core.util.FilePathUtil.relativize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+
+/**
+ * {@link InputStream} that produces a (optionally gzipped) tar archive of the given files while it is being read.
+ *
+ * The archive is generated in small steps whenever the buffered output is exhausted: one step either writes the next
+ * entry header or copies at most {@link #CHUNK_SIZE} bytes of the current file. Memory usage is therefore bounded and
+ * independent of the size of the archive, and no temporary files are needed.
+ */
+class StreamingTarInputStream extends InputStream {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final File base;
+
+    private final Iterator<File> files;
+
+    private final Sink sink = new Sink();
+
+    private final TarArchiveOutputStream tarOutputStream;
+
+    private final AbortableGZIPOutputStream gzipOutputStream;
+
+    private final byte[] copyBuffer = new byte[CHUNK_SIZE];
+
+    private InputStream currentFile = null;
+
+    private int position = 0;
+
+    private boolean finished = false;
+
+    private boolean closed = false;
+
+    StreamingTarInputStream(File base, Iterable<File> files, boolean gZipped) throws IOException {
+        this.base = base;
+        this.files = files.iterator();
+
+        OutputStream outputStream = sink;
+        if (gZipped) {
+            gzipOutputStream = new AbortableGZIPOutputStream(sink);
+            outputStream = gzipOutputStream;
+        } else {
+            gzipOutputStream = null;
+        }
+
+        tarOutputStream = new TarArchiveOutputStream(outputStream);
+        tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        if (len == 0) {
+            return 0;
+        }
+
+        while (position == sink.size()) {
+            sink.reset();
+            position = 0;
+
+            if (!produce()) {
+                return -1;
+            }
+        }
+
+        int count = Math.min(len, sink.size() - position);
+        System.arraycopy(sink.buffer(), position, b, off, count);
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return sink.size() - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        if (currentFile != null) {
+            currentFile.close();
+            currentFile = null;
+        }
+
+        // the archive may not have been read to the end, which would have released the native zlib memory
+        if (gzipOutputStream != null) {
+            gzipOutputStream.abort();
+        }
+    }
+
+    /**
+     * Writes the next piece of the archive into the sink.
+     *
+     * @return false if the archive is complete
+     */
+    private boolean produce() throws IOException {
+        if (finished) {
+            return false;
+        }
+
+        if (currentFile != null) {
+            int read = currentFile.read(copyBuffer);
+            if (read == -1) {
+                currentFile.close();
+                currentFile = null;
+                tarOutputStream.closeArchiveEntry();
+            } else {
+                tarOutputStream.write(copyBuffer, 0, read);
+            }
+        } else if (files.hasNext()) {
+            File file = files.next();
+
+            TarArchiveEntry tarEntry = new TarArchiveEntry(file);
+            tarEntry.setName(relativize(base, file));
+
+            if (!file.isDirectory() && file.canExecute()) {
+                tarEntry.setMode(tarEntry.getMode() | 0755);
+            }
+
+            tarOutputStream.putArchiveEntry(tarEntry);
+
+            if (file.isDirectory()) {
+                tarOutputStream.closeArchiveEntry();
+            } else {
+                currentFile = new FileInputStream(file);
+            }
+        } else {
+            // writes the trailing records and finishes the gzip stream
+            tarOutputStream.close();
+            finished = true;
+        }
+
+        return true;
+    }
+
+    private static final class AbortableGZIPOutputStream extends GZIPOutputStream {
+
+        private AbortableGZIPOutputStream(OutputStream out) throws IOException {
+            super(out, CHUNK_SIZE);
+        }
+
+        private void abort() {
+            // ending the deflater again after the stream has been finished is harmless
+            def.end();
+        }
+    }
+
+    private static final class Sink extends ByteArrayOutputStream {
+
+        private Sink() {
+            super(CHUNK_SIZE);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
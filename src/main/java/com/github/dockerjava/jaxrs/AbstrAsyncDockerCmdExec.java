@@ -1,7 +1,8 @@
 package com.github.dockerjava.jaxrs;
 
-import java.io.Closeable;
-import java.io.IOException;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.WebTarget;
 
@@ -9,13 +10,20 @@ import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.AsyncDockerCmd;
 import com.github.dockerjava.api.command.DockerCmdAsyncExec;
 import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.ExecutionResultCallback;
 import com.github.dockerjava.jaxrs.async.AbstractCallbackNotifier;
 
 public abstract class AbstrAsyncDockerCmdExec<CMD_T extends AsyncDockerCmd<CMD_T, A_RES_T>, A_RES_T> extends
         AbstrDockerCmdExec implements DockerCmdAsyncExec<CMD_T, A_RES_T> {
 
-    public AbstrAsyncDockerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
+    private final ExecutorService executorService;
+
+    public AbstrAsyncDockerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
         super(baseResource, dockerClientConfig);
+        checkNotNull(executorService, "executorService was not specified");
+        this.executorService = executorService;
     }
 
     @Override
@@ -25,39 +33,15 @@ public abstract class AbstrAsyncDockerCmdExec<CMD_T extends AsyncDockerCmd<CMD_T
 
     protected final Void execute(final CMD_T command, final ResultCallback<A_RES_T> resultCallback) {
 
-        ResultCallback<A_RES_T> delegatingResultCallback = new ResultCallback<A_RES_T>() {
-
-            @Override
-            public void close() throws IOException {
-                resultCallback.close();
-                command.close();
-            }
-
-            @Override
-            public void onStart(Closeable closeable) {
-                resultCallback.onStart(closeable);
-            }
-
-            @Override
-            public void onNext(A_RES_T object) {
-                resultCallback.onNext(object);
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                resultCallback.onError(throwable);
-            }
+        final DockerCmdExecution execution = startExecution(command);
 
-            @Override
-            public void onComplete() {
-                resultCallback.onComplete();
-                command.close();
-            }
-        };
+        ResultCallback<A_RES_T> delegatingResultCallback = new ExecutionResultCallback<A_RES_T>(command,
+                resultCallback, execution);
 
-        AbstractCallbackNotifier<A_RES_T> callbackNotifier = callbackNotifier(command, delegatingResultCallback);
+        AbstractCallbackNotifier<A_RES_T> callbackNotifier = callbackNotifier(command, delegatingResultCallback)
+                .withExecution(execution);
 
-        AbstractCallbackNotifier.startAsyncProcessing(callbackNotifier);
+        AbstractCallbackNotifier.startAsyncProcessing(callbackNotifier, executorService);
 
         return null;
     }
@@ -2,17 +2,16 @@ package com.github.dockerjava.jaxrs;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.io.IOException;
-
 import javax.ws.rs.client.WebTarget;
 
-import org.apache.commons.codec.binary.Base64;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.command.DockerCmd;
 import com.github.dockerjava.api.model.AuthConfig;
 import com.github.dockerjava.api.model.AuthConfigurations;
 import com.github.dockerjava.core.DockerClientConfig;
-import com.github.dockerjava.core.RemoteApiVersion;
+import com.github.dockerjava.core.RegistryAuthEncoder;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation;
+import com.github.dockerjava.jaxrs.filter.InstrumentationFilter;
 
 public abstract class AbstrDockerCmdExec {
 
@@ -31,31 +30,26 @@ public abstract class AbstrDockerCmdExec {
         return baseResource;
     }
 
+    /**
+     * Starts the measurement of the given command if an instrumentation has been configured on the factory.
+     *
+     * @return the started execution or null
+     */
+    protected DockerCmdExecution startExecution(DockerCmd<?> command) {
+        return DockerCmdExecution.start((DockerCmdInstrumentation) baseResource.getConfiguration().getProperty(
+                InstrumentationFilter.INSTRUMENTATION_PROPERTY), command);
+    }
+
     protected AuthConfigurations getBuildAuthConfigs() {
         return dockerClientConfig.getAuthConfigurations();
     }
 
     protected String registryAuth(AuthConfig authConfig) {
-        try {
-            return Base64.encodeBase64String(new ObjectMapper().writeValueAsString(authConfig).getBytes());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return RegistryAuthEncoder.registryAuth(authConfig);
     }
 
     protected String registryConfigs(AuthConfigurations authConfigs) {
-        try {
-            final String json;
-            if (dockerClientConfig.getVersion().isGreaterOrEqual(RemoteApiVersion.VERSION_1_19)) {
-                json = new ObjectMapper().writeValueAsString(authConfigs.getConfigs());
-            } else {
-                json = new ObjectMapper().writeValueAsString(authConfigs);
-            }
-
-            return Base64.encodeBase64String(json.getBytes());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return RegistryAuthEncoder.registryConfigs(authConfigs, dockerClientConfig.getVersion());
     }
 
     protected boolean bool(Boolean bool) {
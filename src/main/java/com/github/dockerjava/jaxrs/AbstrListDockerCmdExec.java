@@ -0,0 +1,66 @@
+package com.github.dockerjava.jaxrs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.DockerCmdListExec;
+import com.github.dockerjava.api.command.ListDockerCmd;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.async.JsonArrayStreamProcessor;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.ExecutionResultCallback;
+import com.github.dockerjava.jaxrs.async.AbstractCallbackNotifier;
+import com.github.dockerjava.jaxrs.async.GETCallbackNotifier;
+
+/**
+ * Execution of a command whose response is a JSON array. The array is either read as a whole or streamed element by
+ * element to a callback from a thread of the async executor.
+ */
+public abstract class AbstrListDockerCmdExec<CMD_T extends ListDockerCmd<ELEM_T>, ELEM_T> extends
+        AbstrSyncDockerCmdExec<CMD_T, List<ELEM_T>> implements DockerCmdListExec<CMD_T, ELEM_T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstrListDockerCmdExec.class);
+
+    private final ExecutorService executorService;
+
+    private final Class<ELEM_T> elementType;
+
+    public AbstrListDockerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService, Class<ELEM_T> elementType) {
+        super(baseResource, dockerClientConfig);
+        checkNotNull(executorService, "executorService was not specified");
+        this.executorService = executorService;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Void exec(CMD_T command, ResultCallback<ELEM_T> resultCallback) {
+        DockerCmdExecution execution = startExecution(command);
+
+        WebTarget webTarget = webTarget(command);
+        LOGGER.trace("GET: {}", webTarget);
+
+        AbstractCallbackNotifier<ELEM_T> callbackNotifier = new GETCallbackNotifier<ELEM_T>(
+                new JsonArrayStreamProcessor<ELEM_T>(elementType), new ExecutionResultCallback<ELEM_T>(command,
+                        resultCallback, execution), webTarget.request().accept(MediaType.APPLICATION_JSON))
+                .withExecution(execution);
+
+        AbstractCallbackNotifier.startAsyncProcessing(callbackNotifier, executorService);
+
+        return null;
+    }
+
+    /**
+     * Returns the resource that responds with the JSON array.
+     */
+    protected abstract WebTarget webTarget(CMD_T command);
+}
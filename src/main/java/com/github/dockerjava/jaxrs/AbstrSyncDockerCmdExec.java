@@ -7,6 +7,7 @@ import com.github.dockerjava.api.command.DockerCmd;
 import com.github.dockerjava.api.command.DockerCmdSyncExec;
 import com.github.dockerjava.api.exception.DockerException;
 import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
 
 public abstract class AbstrSyncDockerCmdExec<CMD_T extends DockerCmd<RES_T>, RES_T> extends AbstrDockerCmdExec
         implements DockerCmdSyncExec<CMD_T, RES_T> {
@@ -17,6 +18,25 @@ public abstract class AbstrSyncDockerCmdExec<CMD_T extends DockerCmd<RES_T>, RES
 
     @Override
     public RES_T exec(CMD_T command) {
+        DockerCmdExecution execution = startExecution(command);
+        if (execution == null) {
+            return execWithoutInstrumentation(command);
+        }
+
+        execution.attach();
+        try {
+            RES_T result = execWithoutInstrumentation(command);
+            execution.end(null);
+            return result;
+        } catch (RuntimeException e) {
+            execution.end(e);
+            throw e;
+        } finally {
+            execution.detach();
+        }
+    }
+
+    private RES_T execWithoutInstrumentation(CMD_T command) {
         // this hack works because of ResponseStatusExceptionFilter
         try (CMD_T cmd = command) {
             try {
@@ -1,5 +1,7 @@
 package com.github.dockerjava.jaxrs;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.WebTarget;
 
 import org.slf4j.Logger;
@@ -18,8 +20,9 @@ public class AttachContainerCmdExec extends AbstrAsyncDockerCmdExec<AttachContai
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AttachContainerCmdExec.class);
 
-    public AttachContainerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public AttachContainerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.github.dockerjava.jaxrs;
 
 import static javax.ws.rs.client.Entity.entity;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
@@ -24,8 +26,9 @@ public class BuildImageCmdExec extends AbstrAsyncDockerCmdExec<BuildImageCmd, Bu
         BuildImageCmd.Exec {
     private static final Logger LOGGER = LoggerFactory.getLogger(BuildImageCmdExec.class);
 
-    public BuildImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public BuildImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     private Invocation.Builder resourceWithOptionalAuthConfig(BuildImageCmd command, Invocation.Builder request) {
@@ -1,6 +1,7 @@
 package com.github.dockerjava.jaxrs;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
@@ -13,19 +14,24 @@ import com.github.dockerjava.api.command.ContainerDiffCmd;
 import com.github.dockerjava.api.model.ChangeLog;
 import com.github.dockerjava.core.DockerClientConfig;
 
-public class ContainerDiffCmdExec extends AbstrSyncDockerCmdExec<ContainerDiffCmd, List<ChangeLog>> implements
+public class ContainerDiffCmdExec extends AbstrListDockerCmdExec<ContainerDiffCmd, ChangeLog> implements
         ContainerDiffCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContainerDiffCmdExec.class);
 
-    public ContainerDiffCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public ContainerDiffCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService, ChangeLog.class);
+    }
+
+    @Override
+    protected WebTarget webTarget(ContainerDiffCmd command) {
+        return getBaseResource().path("/containers/{id}/changes").resolveTemplate("id", command.getContainerId());
     }
 
     @Override
     protected List<ChangeLog> execute(ContainerDiffCmd command) {
-        WebTarget webResource = getBaseResource().path("/containers/{id}/changes").resolveTemplate("id",
-                command.getContainerId());
+        WebTarget webResource = webTarget(command);
 
         LOGGER.trace("GET: {}", webResource);
         return webResource.request().accept(MediaType.APPLICATION_JSON).get(new GenericType<List<ChangeLog>>() {
@@ -1,5 +1,6 @@
 package com.github.dockerjava.jaxrs;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.IOException;
@@ -8,8 +9,13 @@ import java.net.Proxy;
 import java.net.ProxySelector;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
+import javax.ws.rs.Priorities;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.ClientRequestFilter;
@@ -70,10 +76,14 @@ import com.github.dockerjava.api.command.VersionCmd;
 import com.github.dockerjava.api.command.WaitContainerCmd;
 import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.DockerObjectMapper;
+import com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation;
 import com.github.dockerjava.jaxrs.connector.ApacheConnectorProvider;
+import com.github.dockerjava.jaxrs.filter.InstrumentationFilter;
 import com.github.dockerjava.jaxrs.filter.JsonClientFilter;
 import com.github.dockerjava.jaxrs.filter.ResponseStatusExceptionFilter;
 import com.github.dockerjava.jaxrs.filter.SelectiveLoggingFilter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 //import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 // see https://github.com/docker-java/docker-java/issues/196
@@ -82,6 +92,15 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DockerCmdExecFactoryImpl.class.getName());
 
+    /**
+     * Default of {@link #withMaxAsyncThreads(Integer)}.
+     */
+    public static final int DEFAULT_MAX_ASYNC_THREADS = 128;
+
+    private static final long ASYNC_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private static final long ASYNC_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
     private Client client;
 
     private WebTarget baseResource;
@@ -98,6 +117,14 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     private ClientResponseFilter[] clientResponseFilters = null;
 
+    private int maxAsyncThreads = DEFAULT_MAX_ASYNC_THREADS;
+
+    private ExecutorService asyncExecutor = null;
+
+    private boolean ownsAsyncExecutor = false;
+
+    private DockerCmdInstrumentation instrumentation = null;
+
     private DockerClientConfig dockerClientConfig;
 
     @Override
@@ -105,17 +132,25 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
         checkNotNull(dockerClientConfig, "config was not specified");
         this.dockerClientConfig = dockerClientConfig;
 
+        DockerObjectMapper.warmUp();
+
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.connectorProvider(new ApacheConnectorProvider());
         clientConfig.property(CommonProperties.FEATURE_AUTO_DISCOVERY_DISABLE, true);
 
         clientConfig.register(ResponseStatusExceptionFilter.class);
         clientConfig.register(JsonClientFilter.class);
-        clientConfig.register(JacksonJsonProvider.class);
+        clientConfig.register(new JacksonJsonProvider(DockerObjectMapper.getObjectMapper()));
 
         // logging may disabled via log level
         clientConfig.register(new SelectiveLoggingFilter(LOGGER, true));
 
+        if (instrumentation != null) {
+            clientConfig.property(InstrumentationFilter.INSTRUMENTATION_PROPERTY, instrumentation);
+            // response filters with higher priority run first
+            clientConfig.register(new InstrumentationFilter(), Priorities.USER + 1000);
+        }
+
         if (readTimeout != null) {
             clientConfig.property(ClientProperties.READ_TIMEOUT, readTimeout);
         }
@@ -183,6 +218,21 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
         client = clientBuilder.build();
 
         baseResource = client.target(dockerClientConfig.getUri()).path(dockerClientConfig.getVersion().asWebPathPart());
+
+        if (asyncExecutor == null) {
+            asyncExecutor = createAsyncExecutor(maxAsyncThreads);
+            ownsAsyncExecutor = true;
+        }
+    }
+
+    /**
+     * Creates a pool of named daemon threads, idle threads are released after a minute. Async commands may stream for
+     * hours, so they are never queued: a command that exceeds the limit is rejected.
+     */
+    private static ExecutorService createAsyncExecutor(int maxThreads) {
+        return new ThreadPoolExecutor(0, maxThreads,
+                ASYNC_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("docker-java-async-%d").setDaemon(true).build());
     }
 
     private void configureProxy(ClientConfig clientConfig, String protocol) {
@@ -225,6 +275,12 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
         return baseResource;
     }
 
+    protected ExecutorService getAsyncExecutor() {
+        checkNotNull(asyncExecutor,
+                "Factory not initialized, asyncExecutor not set. You probably forgot to call init()!");
+        return asyncExecutor;
+    }
+
     protected DockerClientConfig getDockerClientConfig() {
         checkNotNull(dockerClientConfig,
                 "Factor not initialized, dockerClientConfig not set. You probably forgot to call init()!");
@@ -253,12 +309,12 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public PullImageCmd.Exec createPullImageCmdExec() {
-        return new PullImageCmdExec(getBaseResource(), getDockerClientConfig());
+        return new PullImageCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
     public PushImageCmd.Exec createPushImageCmdExec() {
-        return new PushImageCmdExec(getBaseResource(), getDockerClientConfig());
+        return new PushImageCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -273,7 +329,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public SearchImagesCmd.Exec createSearchImagesCmdExec() {
-        return new SearchImagesCmdExec(getBaseResource(), getDockerClientConfig());
+        return new SearchImagesCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -283,7 +339,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public ListImagesCmd.Exec createListImagesCmdExec() {
-        return new ListImagesCmdExec(getBaseResource(), getDockerClientConfig());
+        return new ListImagesCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -293,7 +349,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public ListContainersCmd.Exec createListContainersCmdExec() {
-        return new ListContainersCmdExec(getBaseResource(), getDockerClientConfig());
+        return new ListContainersCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -323,17 +379,17 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public WaitContainerCmd.Exec createWaitContainerCmdExec() {
-        return new WaitContainerCmdExec(getBaseResource(), getDockerClientConfig());
+        return new WaitContainerCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
     public AttachContainerCmd.Exec createAttachContainerCmdExec() {
-        return new AttachContainerCmdExec(getBaseResource(), getDockerClientConfig());
+        return new AttachContainerCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
     public ExecStartCmd.Exec createExecStartCmdExec() {
-        return new ExecStartCmdExec(getBaseResource(), getDockerClientConfig());
+        return new ExecStartCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -343,7 +399,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public LogContainerCmd.Exec createLogContainerCmdExec() {
-        return new LogContainerCmdExec(getBaseResource(), getDockerClientConfig());
+        return new LogContainerCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -368,7 +424,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public ContainerDiffCmd.Exec createContainerDiffCmdExec() {
-        return new ContainerDiffCmdExec(getBaseResource(), getDockerClientConfig());
+        return new ContainerDiffCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -388,7 +444,7 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public BuildImageCmd.Exec createBuildImageCmdExec() {
-        return new BuildImageCmdExec(getBaseResource(), getDockerClientConfig());
+        return new BuildImageCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
@@ -413,18 +469,47 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     @Override
     public EventsCmd.Exec createEventsCmdExec() {
-        return new EventsCmdExec(getBaseResource(), getDockerClientConfig());
+        return new EventsCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
     public StatsCmd.Exec createStatsCmdExec() {
-        return new StatsCmdExec(getBaseResource(), getDockerClientConfig());
+        return new StatsCmdExec(getBaseResource(), getDockerClientConfig(), getAsyncExecutor());
     }
 
     @Override
     public void close() throws IOException {
         checkNotNull(client, "Factory not initialized. You probably forgot to call init()!");
+
+        if (ownsAsyncExecutor) {
+            asyncExecutor.shutdown();
+        }
+
+        // closing the client aborts the response streams that are still processed by async commands
         client.close();
+
+        if (ownsAsyncExecutor) {
+            try {
+                if (!asyncExecutor.awaitTermination(ASYNC_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Async commands did not terminate within {} seconds", ASYNC_SHUTDOWN_TIMEOUT_SECONDS);
+                    asyncExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                asyncExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Number of threads that are currently processing async commands, or -1 if the executor was passed via
+     * {@link #withAsyncExecutor(ExecutorService)} and is not a {@link ThreadPoolExecutor}.
+     */
+    public int getAsyncActiveCount() {
+        if (asyncExecutor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) asyncExecutor).getActiveCount();
+        }
+        return -1;
     }
 
     public DockerCmdExecFactoryImpl withReadTimeout(Integer readTimeout) {
@@ -447,6 +532,37 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
         return this;
     }
 
+    /**
+     * Maximum number of threads that process async commands like logs, events or stats concurrently, defaults to
+     * {@value #DEFAULT_MAX_ASYNC_THREADS}. Each running command takes one thread. Commands are not queued: a command
+     * beyond the limit fails with a {@link com.github.dockerjava.api.exception.DockerClientException} instead of
+     * waiting for a thread, since the commands it would wait for may run for hours. A client that follows the logs or
+     * stats of many containers has to raise the limit accordingly, and the connections as well with
+     * {@link #withMaxPerRouteConnections(Integer)}.
+     */
+    public DockerCmdExecFactoryImpl withMaxAsyncThreads(Integer maxAsyncThreads) {
+        checkArgument(maxAsyncThreads == null || maxAsyncThreads > 0, "maxAsyncThreads must be positive");
+        this.maxAsyncThreads = maxAsyncThreads != null ? maxAsyncThreads : DEFAULT_MAX_ASYNC_THREADS;
+        return this;
+    }
+
+    /**
+     * Executor that processes async commands instead of the one created by this factory. The executor is not shut down
+     * when the factory gets closed.
+     */
+    public DockerCmdExecFactoryImpl withAsyncExecutor(ExecutorService asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
+    /**
+     * Instrumentation that gets notified about every command executed by this factory.
+     */
+    public DockerCmdExecFactoryImpl withInstrumentation(DockerCmdInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
+    }
+
     public DockerCmdExecFactoryImpl withClientResponseFilters(ClientResponseFilter... clientResponseFilter) {
         this.clientResponseFilters = clientResponseFilter;
         return this;
@@ -2,6 +2,8 @@ package com.github.dockerjava.jaxrs;
 
 import static com.google.common.net.UrlEscapers.urlPathSegmentEscaper;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.WebTarget;
 
 import org.slf4j.Logger;
@@ -19,8 +21,9 @@ public class EventsCmdExec extends AbstrAsyncDockerCmdExec<EventsCmd, Event> imp
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EventsCmdExec.class);
 
-    public EventsCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public EventsCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     @Override
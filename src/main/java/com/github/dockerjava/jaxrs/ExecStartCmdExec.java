@@ -1,5 +1,7 @@
 package com.github.dockerjava.jaxrs;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 
@@ -18,8 +20,9 @@ public class ExecStartCmdExec extends AbstrAsyncDockerCmdExec<ExecStartCmd, Fram
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecStartCmdExec.class);
 
-    public ExecStartCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public ExecStartCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.github.dockerjava.jaxrs;
 import static com.google.common.net.UrlEscapers.urlPathSegmentEscaper;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
@@ -15,17 +16,18 @@ import com.github.dockerjava.api.command.ListContainersCmd;
 import com.github.dockerjava.api.model.Container;
 import com.github.dockerjava.core.DockerClientConfig;
 
-public class ListContainersCmdExec extends AbstrSyncDockerCmdExec<ListContainersCmd, List<Container>> implements
+public class ListContainersCmdExec extends AbstrListDockerCmdExec<ListContainersCmd, Container> implements
         ListContainersCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ListContainersCmdExec.class);
 
-    public ListContainersCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public ListContainersCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService, Container.class);
     }
 
     @Override
-    protected List<Container> execute(ListContainersCmd command) {
+    protected WebTarget webTarget(ListContainersCmd command) {
         WebTarget webTarget = getBaseResource().path("/containers/json").queryParam("since", command.getSinceId())
                 .queryParam("before", command.getBeforeId());
 
@@ -41,6 +43,13 @@ public class ListContainersCmdExec extends AbstrSyncDockerCmdExec<ListContainers
                     .queryParam("filters", urlPathSegmentEscaper().escape(command.getFilters().toString()));
         }
 
+        return webTarget;
+    }
+
+    @Override
+    protected List<Container> execute(ListContainersCmd command) {
+        WebTarget webTarget = webTarget(command);
+
         LOGGER.trace("GET: {}", webTarget);
         List<Container> containers = webTarget.request().accept(MediaType.APPLICATION_JSON)
                 .get(new GenericType<List<Container>>() {
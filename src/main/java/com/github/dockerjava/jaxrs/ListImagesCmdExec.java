@@ -3,6 +3,7 @@ package com.github.dockerjava.jaxrs;
 import static com.google.common.net.UrlEscapers.urlPathSegmentEscaper;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
@@ -15,16 +16,17 @@ import com.github.dockerjava.api.command.ListImagesCmd;
 import com.github.dockerjava.api.model.Image;
 import com.github.dockerjava.core.DockerClientConfig;
 
-public class ListImagesCmdExec extends AbstrSyncDockerCmdExec<ListImagesCmd, List<Image>> implements ListImagesCmd.Exec {
+public class ListImagesCmdExec extends AbstrListDockerCmdExec<ListImagesCmd, Image> implements ListImagesCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ListImagesCmdExec.class);
 
-    public ListImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public ListImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService, Image.class);
     }
 
     @Override
-    protected List<Image> execute(ListImagesCmd command) {
+    protected WebTarget webTarget(ListImagesCmd command) {
         WebTarget webTarget = getBaseResource().path("/images/json");
 
         webTarget = booleanQueryParam(webTarget, "all", command.hasShowAllEnabled());
@@ -32,6 +34,13 @@ public class ListImagesCmdExec extends AbstrSyncDockerCmdExec<ListImagesCmd, Lis
         if (command.getFilters() != null)
             webTarget = webTarget.queryParam("filters", urlPathSegmentEscaper().escape(command.getFilters()));
 
+        return webTarget;
+    }
+
+    @Override
+    protected List<Image> execute(ListImagesCmd command) {
+        WebTarget webTarget = webTarget(command);
+
         LOGGER.trace("GET: {}", webTarget);
 
         List<Image> images = webTarget.request().accept(MediaType.APPLICATION_JSON).get(new GenericType<List<Image>>() {
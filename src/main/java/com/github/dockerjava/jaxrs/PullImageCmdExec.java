@@ -2,6 +2,8 @@ package com.github.dockerjava.jaxrs;
 
 import static javax.ws.rs.client.Entity.entity;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.client.WebTarget;
@@ -24,8 +26,9 @@ public class PullImageCmdExec extends AbstrAsyncDockerCmdExec<PullImageCmd, Pull
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PullImageCmdExec.class);
 
-    public PullImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public PullImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     private Invocation.Builder resourceWithOptionalAuthConfig(PullImageCmd command, Invocation.Builder request) {
@@ -2,6 +2,8 @@ package com.github.dockerjava.jaxrs;
 
 import static javax.ws.rs.client.Entity.entity;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
@@ -23,8 +25,9 @@ public class PushImageCmdExec extends AbstrAsyncDockerCmdExec<PushImageCmd, Push
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PushImageCmdExec.class);
 
-    public PushImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public PushImageCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     private String name(PushImageCmd command) {
@@ -1,6 +1,7 @@
 package com.github.dockerjava.jaxrs;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
@@ -13,18 +14,24 @@ import com.github.dockerjava.api.command.SearchImagesCmd;
 import com.github.dockerjava.api.model.SearchItem;
 import com.github.dockerjava.core.DockerClientConfig;
 
-public class SearchImagesCmdExec extends AbstrSyncDockerCmdExec<SearchImagesCmd, List<SearchItem>> implements
+public class SearchImagesCmdExec extends AbstrListDockerCmdExec<SearchImagesCmd, SearchItem> implements
         SearchImagesCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SearchImagesCmdExec.class);
 
-    public SearchImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public SearchImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService, SearchItem.class);
+    }
+
+    @Override
+    protected WebTarget webTarget(SearchImagesCmd command) {
+        return getBaseResource().path("/images/search").queryParam("term", command.getTerm());
     }
 
     @Override
     protected List<SearchItem> execute(SearchImagesCmd command) {
-        WebTarget webResource = getBaseResource().path("/images/search").queryParam("term", command.getTerm());
+        WebTarget webResource = webTarget(command);
 
         LOGGER.trace("GET: {}", webResource);
         return webResource.request().accept(MediaType.APPLICATION_JSON).get(new GenericType<List<SearchItem>>() {
@@ -1,5 +1,7 @@
 package com.github.dockerjava.jaxrs;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.WebTarget;
 
 import org.slf4j.Logger;
@@ -16,8 +18,9 @@ import com.github.dockerjava.jaxrs.async.GETCallbackNotifier;
 public class StatsCmdExec extends AbstrAsyncDockerCmdExec<StatsCmd, Statistics> implements StatsCmd.Exec {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatsCmdExec.class);
 
-    public StatsCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public StatsCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     @Override
@@ -29,7 +32,13 @@ public class StatsCmdExec extends AbstrAsyncDockerCmdExec<StatsCmd, Statistics>
 
         LOGGER.trace("GET: {}", webTarget);
 
-        return new GETCallbackNotifier<Statistics>(new JsonStreamProcessor<Statistics>(Statistics.class),
-                resultCallback, webTarget.request());
+        JsonStreamProcessor<Statistics> streamProcessor;
+        if (Boolean.TRUE.equals(command.hasReuseStatisticsEnabled())) {
+            streamProcessor = new JsonStreamProcessor<Statistics>(Statistics.class, new Statistics());
+        } else {
+            streamProcessor = new JsonStreamProcessor<Statistics>(Statistics.class);
+        }
+
+        return new GETCallbackNotifier<Statistics>(streamProcessor, resultCallback, webTarget.request());
     }
 }
@@ -2,6 +2,8 @@ package com.github.dockerjava.jaxrs;
 
 import static javax.ws.rs.client.Entity.entity;
 
+import java.util.concurrent.ExecutorService;
+
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 
@@ -21,8 +23,9 @@ public class WaitContainerCmdExec extends AbstrAsyncDockerCmdExec<WaitContainerC
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WaitContainerCmdExec.class);
 
-    public WaitContainerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+    public WaitContainerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            ExecutorService executorService) {
+        super(baseResource, dockerClientConfig, executorService);
     }
 
     @Override
@@ -8,15 +8,17 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.InputStream;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.core.Response;
 
 import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.core.async.ResponseStreamProcessor;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
 import com.github.dockerjava.jaxrs.util.WrappedResponseInputStream;
 
 public abstract class AbstractCallbackNotifier<T> implements Callable<Void> {
@@ -27,6 +29,8 @@ public abstract class AbstractCallbackNotifier<T> implements Callable<Void> {
 
     protected final Builder requestBuilder;
 
+    private DockerCmdExecution execution;
+
     protected AbstractCallbackNotifier(ResponseStreamProcessor<T> responseStreamProcessor,
             ResultCallback<T> resultCallback, Builder requestBuilder) {
         checkNotNull(requestBuilder, "An WebTarget must be provided");
@@ -36,8 +40,29 @@ public abstract class AbstractCallbackNotifier<T> implements Callable<Void> {
         this.requestBuilder = requestBuilder;
     }
 
+    /**
+     * Attaches the given execution to the thread that sends the request, so that the request gets instrumented.
+     */
+    public AbstractCallbackNotifier<T> withExecution(DockerCmdExecution execution) {
+        this.execution = execution;
+        return this;
+    }
+
     @Override
     public Void call() throws Exception {
+        if (execution == null) {
+            return notifyCallback();
+        }
+
+        execution.attach();
+        try {
+            return notifyCallback();
+        } finally {
+            execution.detach();
+        }
+    }
+
+    private Void notifyCallback() {
 
         Response response = null;
 
@@ -73,11 +98,27 @@ public abstract class AbstractCallbackNotifier<T> implements Callable<Void> {
 
     protected abstract Response response();
 
-    public static <T> Future<Void> startAsyncProcessing(AbstractCallbackNotifier<T> callbackNotifier) {
-
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Future<Void> response = executorService.submit(callbackNotifier);
-        executorService.shutdown();
-        return response;
+    /**
+     * @throws DockerClientException
+     *             if the executor has no thread left for the command
+     */
+    public static <T> Future<Void> startAsyncProcessing(AbstractCallbackNotifier<T> callbackNotifier,
+            ExecutorService executorService) {
+        try {
+            return executorService.submit(callbackNotifier);
+        } catch (RejectedExecutionException e) {
+            DockerClientException exception;
+            if (executorService.isShutdown()) {
+                exception = new DockerClientException("The executor for async commands has been shut down", e);
+            } else {
+                exception = new DockerClientException("All threads for async commands are busy, see "
+                        + "DockerCmdExecFactoryImpl.withMaxAsyncThreads(Integer)", e);
+            }
+            // the command never runs, so nothing else would end its execution
+            if (callbackNotifier.execution != null) {
+                callbackNotifier.execution.end(exception);
+            }
+            throw exception;
+        }
     }
 }
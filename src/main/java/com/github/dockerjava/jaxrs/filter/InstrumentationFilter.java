@@ -0,0 +1,100 @@
+package com.github.dockerjava.jaxrs.filter;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+
+/**
+ * Records status, time to first byte and the transferred entity bytes of a request on the {@link DockerCmdExecution}
+ * that is attached to the thread sending it. Must be registered with a priority above the other response filters, so
+ * that it sees the response before {@link ResponseStatusExceptionFilter} raises an exception.
+ */
+public class InstrumentationFilter implements ClientRequestFilter, ClientResponseFilter, WriterInterceptor,
+        ReaderInterceptor {
+
+    /**
+     * Name of the client property that holds the configured
+     * {@link com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation}.
+     */
+    public static final String INSTRUMENTATION_PROPERTY = "com.github.dockerjava.instrumentation";
+
+    private static final String EXECUTION_PROPERTY = DockerCmdExecution.class.getName();
+
+    @Override
+    public void filter(ClientRequestContext requestContext) throws IOException {
+        DockerCmdExecution execution = DockerCmdExecution.current();
+        if (execution != null) {
+            requestContext.setProperty(EXECUTION_PROPERTY, execution);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+        DockerCmdExecution execution = (DockerCmdExecution) requestContext.getProperty(EXECUTION_PROPERTY);
+        if (execution != null) {
+            execution.recordFirstByte();
+            execution.recordStatusCode(responseContext.getStatus());
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final DockerCmdExecution execution = (DockerCmdExecution) context.getProperty(EXECUTION_PROPERTY);
+        if (execution != null) {
+            context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    execution.recordRequestBytes(1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    execution.recordRequestBytes(len);
+                }
+            });
+        }
+        context.proceed();
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
+        final DockerCmdExecution execution = (DockerCmdExecution) context.getProperty(EXECUTION_PROPERTY);
+        if (execution != null) {
+            // streamed entities are read after this method has returned
+            context.setInputStream(new FilterInputStream(context.getInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    int b = in.read();
+                    if (b != -1) {
+                        execution.recordResponseBytes(1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int read = in.read(b, off, len);
+                    if (read > 0) {
+                        execution.recordResponseBytes(read);
+                    }
+                    return read;
+                }
+            });
+        }
+        return context.proceed();
+    }
+}
@@ -4,4 +4,16 @@ import io.netty.channel.Channel;
 
 public interface ChannelProvider {
     Channel getChannel();
-}
\ No newline at end of file
+
+    /**
+     * Returns a channel for a response that is streamed to the caller, like events, logs or an attached container.
+     * Such a request may last for hours, so it must not wait for a connection that is used by another one.
+     */
+    Channel getStreamingChannel();
+
+    /**
+     * Hands back a channel after its request has completed, so that the keep-alive connection can be used
+     * for subsequent requests. Channels that are not released must be closed by their users.
+     */
+    void releaseChannel(Channel channel);
+}
@@ -4,9 +4,13 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -27,6 +31,8 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.dockerjava.api.command.AttachContainerCmd;
 import com.github.dockerjava.api.command.AuthCmd;
@@ -68,6 +74,8 @@ import com.github.dockerjava.api.command.UnpauseContainerCmd;
 import com.github.dockerjava.api.command.VersionCmd;
 import com.github.dockerjava.api.command.WaitContainerCmd;
 import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.DockerObjectMapper;
+import com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation;
 import com.github.dockerjava.core.DockerClientImpl;
 import com.github.dockerjava.netty.exec.AttachContainerCmdExec;
 import com.github.dockerjava.netty.exec.AuthCmdExec;
@@ -131,6 +139,14 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
      * https://github.com/slandelle/netty-request-chunking/blob/master/src/test/java/slandelle/ChunkingTest.java
      */
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DockerCmdExecFactoryImpl.class);
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+    private static final int DEFAULT_CONNECTION_IDLE_TIMEOUT = 60000;
+
+    private static final int DEFAULT_CONNECTION_ACQUIRE_TIMEOUT = 30000;
+
     private DockerClientConfig dockerClientConfig;
 
     private Bootstrap bootstrap;
@@ -139,20 +155,41 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
     private NettyInitializer nettyInitializer;
 
-    private ChannelProvider channelProvider = new ChannelProvider() {
-        @Override
-        public Channel getChannel() {
-            Channel channel = connect();
-            channel.pipeline().addLast(new LoggingHandler(getClass()));
-            return channel;
-        }
-    };
+    private PooledChannelProvider channelProvider;
+
+    private Integer maxConnections = null;
+
+    private Integer connectionIdleTimeout = null;
+
+    private Integer connectionAcquireTimeout = null;
+
+    private DockerCmdInstrumentation instrumentation = null;
+
+    private EventLoopGroup externalEventLoopGroup = null;
+
+    private Integer eventLoopThreads = null;
+
+    private Boolean sharedEventLoopGroup = null;
+
+    private Boolean nativeTransport = null;
+
+    private Boolean tcpNoDelay = null;
+
+    private Boolean keepAlive = null;
+
+    private Integer keepAliveIdle = null;
+
+    private Integer receiveBufferSize = null;
+
+    private Integer sendBufferSize = null;
 
     @Override
     public void init(DockerClientConfig dockerClientConfig) {
         checkNotNull(dockerClientConfig, "config was not specified");
         this.dockerClientConfig = dockerClientConfig;
 
+        DockerObjectMapper.warmUp();
+
         bootstrap = new Bootstrap();
 
         String scheme = dockerClientConfig.getUri().getScheme();
@@ -164,6 +201,46 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
         }
 
         eventLoopGroup = nettyInitializer.init(bootstrap, dockerClientConfig);
+
+        channelProvider = new PooledChannelProvider(new PooledChannelProvider.Connector() {
+            @Override
+            public Channel connect() {
+                Channel channel = DockerCmdExecFactoryImpl.this.connect();
+                channel.pipeline().addLast(new LoggingHandler(getClass()));
+                return channel;
+            }
+        }, eventLoopGroup, firstNonNull(maxConnections, DEFAULT_MAX_CONNECTIONS), firstNonNull(
+                connectionIdleTimeout, DEFAULT_CONNECTION_IDLE_TIMEOUT), firstNonNull(connectionAcquireTimeout,
+                DEFAULT_CONNECTION_ACQUIRE_TIMEOUT));
+    }
+
+    private static int firstNonNull(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private EventLoopGroup createEventLoopGroup(boolean epoll) {
+        int threads = firstNonNull(eventLoopThreads, 0);
+
+        if (externalEventLoopGroup != null) {
+            return externalEventLoopGroup;
+        } else if (Boolean.TRUE.equals(sharedEventLoopGroup)) {
+            return SharedEventLoopGroups.acquire(epoll, threads);
+        } else if (epoll) {
+            return new EpollEventLoopGroup(threads);
+        } else {
+            return new NioEventLoopGroup(threads);
+        }
+    }
+
+    /**
+     * Selects the transport for tcp:// and https:// hosts. The native transport saves a copy per read and write and
+     * supports TCP_KEEPIDLE, so it is used unless it isn't available, is turned off or an external NIO group is set.
+     */
+    static boolean useEpoll(EventLoopGroup externalEventLoopGroup, Boolean nativeTransport, boolean epollAvailable) {
+        if (externalEventLoopGroup != null) {
+            return externalEventLoopGroup instanceof EpollEventLoopGroup;
+        }
+        return !Boolean.FALSE.equals(nativeTransport) && epollAvailable;
     }
 
     private Channel connect() {
@@ -187,7 +264,11 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
     private class UnixDomainSocketInitializer implements NettyInitializer {
         @Override
         public EventLoopGroup init(Bootstrap bootstrap, DockerClientConfig dockerClientConfig) {
-            EventLoopGroup eventLoopGroup = new EpollEventLoopGroup();
+            if (externalEventLoopGroup != null && !(externalEventLoopGroup instanceof EpollEventLoopGroup)) {
+                throw new IllegalArgumentException("unix domain sockets require an EpollEventLoopGroup");
+            }
+
+            EventLoopGroup eventLoopGroup = createEventLoopGroup(true);
             bootstrap.group(eventLoopGroup).channel(EpollDomainSocketChannel.class)
                     .handler(new ChannelInitializer<UnixChannel>() {
                         @Override
@@ -200,14 +281,19 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
         @Override
         public Channel connect(Bootstrap bootstrap) throws InterruptedException {
-            return bootstrap.connect(new DomainSocketAddress("/var/run/docker.sock")).sync().channel();
+            return bootstrap.connect(new DomainSocketAddress(dockerClientConfig.getUri().getPath())).sync().channel();
         }
     }
 
     private class InetSocketInitializer implements NettyInitializer {
         @Override
         public EventLoopGroup init(Bootstrap bootstrap, final DockerClientConfig dockerClientConfig) {
-            EventLoopGroup eventLoopGroup = new NioEventLoopGroup();
+            boolean epoll = useEpoll(externalEventLoopGroup, nativeTransport, Epoll.isAvailable());
+            EventLoopGroup eventLoopGroup = createEventLoopGroup(epoll);
+            bootstrap.group(eventLoopGroup).channel(epoll ? EpollSocketChannel.class : NioSocketChannel.class);
+            LOGGER.debug("Using {} transport for {}", epoll ? "epoll" : "nio", dockerClientConfig.getUri());
+
+            initOptions(bootstrap, epoll);
 
             InetAddress addr = InetAddress.getLoopbackAddress();
 
@@ -215,19 +301,40 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
 
             Security.addProvider(new BouncyCastleProvider());
 
-            bootstrap.group(eventLoopGroup).channel(NioSocketChannel.class)
-                    .handler(new ChannelInitializer<SocketChannel>() {
-                        @Override
-                        protected void initChannel(final SocketChannel channel) throws Exception {
-                            // channel.pipeline().addLast(new
-                            // HttpProxyHandler(proxyAddress));
-                            channel.pipeline().addLast(new HttpClientCodec());
-                        }
-                    });
+            bootstrap.handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(final SocketChannel channel) throws Exception {
+                    // channel.pipeline().addLast(new
+                    // HttpProxyHandler(proxyAddress));
+                    channel.pipeline().addLast(new HttpClientCodec());
+                }
+            });
 
             return eventLoopGroup;
         }
 
+        private void initOptions(Bootstrap bootstrap, boolean epoll) {
+            if (tcpNoDelay != null) {
+                bootstrap.option(ChannelOption.TCP_NODELAY, tcpNoDelay);
+            }
+            if (keepAlive != null) {
+                bootstrap.option(ChannelOption.SO_KEEPALIVE, keepAlive);
+            }
+            if (receiveBufferSize != null) {
+                bootstrap.option(ChannelOption.SO_RCVBUF, receiveBufferSize);
+            }
+            if (sendBufferSize != null) {
+                bootstrap.option(ChannelOption.SO_SNDBUF, sendBufferSize);
+            }
+            if (keepAliveIdle != null) {
+                if (epoll) {
+                    bootstrap.option(EpollChannelOption.TCP_KEEPIDLE, keepAliveIdle);
+                } else {
+                    LOGGER.warn("TCP_KEEPIDLE requires the epoll transport, using the system default");
+                }
+            }
+        }
+
         @Override
         public Channel connect(Bootstrap bootstrap) throws InterruptedException {
             String host = dockerClientConfig.getUri().getHost();
@@ -481,10 +588,134 @@ public class DockerCmdExecFactoryImpl implements DockerCmdExecFactory {
     public void close() throws IOException {
         checkNotNull(eventLoopGroup, "Factory not initialized. You probably forgot to call init()!");
 
-        eventLoopGroup.shutdownGracefully();
+        channelProvider.close();
+
+        if (externalEventLoopGroup != null) {
+            // owned by the caller
+            return;
+        } else if (Boolean.TRUE.equals(sharedEventLoopGroup)) {
+            SharedEventLoopGroups.release(eventLoopGroup);
+        } else {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Maximum number of connections that are used by requests at the same time or kept open for reuse. Streaming
+     * requests like events, logs, attach or stats aren't limited. Defaults to 20.
+     */
+    public DockerCmdExecFactoryImpl withMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Time in milliseconds after which an unused keep-alive connection is closed. Defaults to 60 seconds, values <= 0
+     * keep idle connections open.
+     */
+    public DockerCmdExecFactoryImpl withConnectionIdleTimeout(Integer connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+        return this;
+    }
+
+    /**
+     * Time in milliseconds to wait for a free connection if all connections are in use, before the request fails with a
+     * {@link com.github.dockerjava.api.exception.DockerClientException}. Defaults to 30 seconds, values <= 0 wait
+     * indefinitely.
+     */
+    public DockerCmdExecFactoryImpl withConnectionAcquireTimeout(Integer connectionAcquireTimeout) {
+        this.connectionAcquireTimeout = connectionAcquireTimeout;
+        return this;
+    }
+
+    /**
+     * Event loop group to run the connections on instead of a group of the factory's own. The group is owned by the
+     * caller and isn't shut down when the factory is closed. It determines the transport: unix:// hosts require an
+     * {@link EpollEventLoopGroup}, tcp:// and https:// hosts use epoll or NIO depending on the group.
+     */
+    public DockerCmdExecFactoryImpl withEventLoopGroup(EventLoopGroup eventLoopGroup) {
+        this.externalEventLoopGroup = eventLoopGroup;
+        return this;
+    }
+
+    /**
+     * Number of threads of the event loop group the factory creates. Defaults to twice the number of cores.
+     */
+    public DockerCmdExecFactoryImpl withEventLoopThreads(Integer eventLoopThreads) {
+        this.eventLoopThreads = eventLoopThreads;
+        return this;
+    }
+
+    /**
+     * Whether to run the connections on a process-wide event loop group that is shared with other factories. The group
+     * is created by the first factory with the number of threads configured by {@link #withEventLoopThreads(Integer)}
+     * and shut down once the last factory using it is closed, e.g. by {@link DockerClientImpl#close()}.
+     */
+    public DockerCmdExecFactoryImpl withSharedEventLoopGroup(Boolean sharedEventLoopGroup) {
+        this.sharedEventLoopGroup = sharedEventLoopGroup;
+        return this;
+    }
+
+    /**
+     * Whether to use the native epoll transport for tcp:// and https:// hosts. By default it is used if it is available
+     * on the platform, otherwise NIO. unix:// hosts always use epoll.
+     */
+    public DockerCmdExecFactoryImpl withNativeTransport(Boolean nativeTransport) {
+        this.nativeTransport = nativeTransport;
+        return this;
+    }
+
+    /**
+     * Sets TCP_NODELAY on connections to tcp:// and https:// hosts.
+     */
+    public DockerCmdExecFactoryImpl withTcpNoDelay(Boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+        return this;
+    }
+
+    /**
+     * Sets SO_KEEPALIVE on connections to tcp:// and https:// hosts.
+     */
+    public DockerCmdExecFactoryImpl withKeepAlive(Boolean keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * Time in seconds a connection is idle before TCP keep-alive probes are sent (TCP_KEEPIDLE). Only supported by the
+     * epoll transport and only effective with {@link #withKeepAlive(Boolean)}.
+     */
+    public DockerCmdExecFactoryImpl withKeepAliveIdle(Integer keepAliveIdle) {
+        this.keepAliveIdle = keepAliveIdle;
+        return this;
+    }
+
+    /**
+     * Size in bytes of the socket receive buffer (SO_RCVBUF) of connections to tcp:// and https:// hosts.
+     */
+    public DockerCmdExecFactoryImpl withReceiveBufferSize(Integer receiveBufferSize) {
+        this.receiveBufferSize = receiveBufferSize;
+        return this;
+    }
+
+    /**
+     * Size in bytes of the socket send buffer (SO_SNDBUF) of connections to tcp:// and https:// hosts.
+     */
+    public DockerCmdExecFactoryImpl withSendBufferSize(Integer sendBufferSize) {
+        this.sendBufferSize = sendBufferSize;
+        return this;
+    }
+
+    /**
+     * Instrumentation that gets notified about every command executed by this factory.
+     */
+    public DockerCmdExecFactoryImpl withInstrumentation(DockerCmdInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
     }
 
     private WebTarget getBaseResource() {
-        return new WebTarget(channelProvider);
+        checkNotNull(channelProvider, "Factory not initialized. You probably forgot to call init()!");
+        return new WebTarget(channelProvider, instrumentation);
     }
 }
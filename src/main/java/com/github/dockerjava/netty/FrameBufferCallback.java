@@ -0,0 +1,21 @@
+package com.github.dockerjava.netty;
+
+import io.netty.buffer.ByteBuf;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Opt-in interface for {@link ResultCallback}s of multiplexed streams (logs, attach, exec start). If a callback
+ * implements it, the netty transport passes each frame to {@link #onNext(StreamType, ByteBuf)} instead of
+ * {@link ResultCallback#onNext(Object)} and the payload is never copied into a {@link Frame}.
+ *
+ * The passed buffer is a view on the network buffer and only valid until the method returns. Call
+ * {@link ByteBuf#retain()} to keep it longer and {@link ByteBuf#release()} once done. {@link ByteBuf#nioBuffer()}
+ * provides a {@link java.nio.ByteBuffer} view of the same bytes.
+ */
+public interface FrameBufferCallback {
+
+    void onNext(StreamType streamType, ByteBuf payload);
+}
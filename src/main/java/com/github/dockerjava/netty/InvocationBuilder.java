@@ -20,30 +20,33 @@ import io.netty.handler.stream.ChunkedStream;
 import io.netty.handler.stream.ChunkedWriteHandler;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
+import java.nio.channels.ReadableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.async.FlowControl;
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.exception.DockerException;
 import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.DockerObjectMapper;
 import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
 import com.github.dockerjava.netty.handler.FramedResponseStreamHandler;
 import com.github.dockerjava.netty.handler.HttpConnectionHijackHandler;
 import com.github.dockerjava.netty.handler.HttpRequestProvider;
 import com.github.dockerjava.netty.handler.HttpResponseHandler;
 import com.github.dockerjava.netty.handler.HttpResponseStreamHandler;
+import com.github.dockerjava.netty.handler.InstrumentationHandler;
+import com.github.dockerjava.netty.handler.JsonArrayElementDecoder;
 import com.github.dockerjava.netty.handler.JsonResponseCallbackHandler;
+import com.github.dockerjava.netty.handler.StdinPumpHandler;
 
 /**
  * This class is basically a replacement of javax.ws.rs.client.Invocation.Builder to allow simpler
@@ -78,9 +81,12 @@ public class InvocationBuilder {
 
     private Map<String, String> headers = new HashMap<String, String>();
 
+    private DockerCmdExecution execution;
+
     public InvocationBuilder(ChannelProvider channelProvider, String resource) {
         this.channelProvider = channelProvider;
         this.resource = resource;
+        this.execution = DockerCmdExecution.current();
     }
 
     public InvocationBuilder accept(MediaType mediaType) {
@@ -106,7 +112,7 @@ public class InvocationBuilder {
 
         sendRequest(requestProvider, channel);
 
-        callback.awaitResult();
+        awaitResult(callback, channel);
     }
 
     public void get(ResultCallback<Frame> resultCallback) {
@@ -117,7 +123,9 @@ public class InvocationBuilder {
 
         FramedResponseStreamHandler streamHandler = new FramedResponseStreamHandler(resultCallback);
 
-        Channel channel = getChannel();
+        Channel channel = getStreamingChannel();
+
+        initCallback(channel, resultCallback);
 
         channel.pipeline().addLast(responseHandler);
         channel.pipeline().addLast(streamHandler);
@@ -129,19 +137,49 @@ public class InvocationBuilder {
 
         ResponseCallback<T> callback = new ResponseCallback<T>();
 
-        get(typeReference, callback);
+        Channel channel = getChannel();
+
+        get(channel, typeReference, callback);
 
-        return callback.awaitResult();
+        return awaitResult(callback, channel);
     }
 
     public <T> void get(TypeReference<T> typeReference, ResultCallback<T> resultCallback) {
 
-        HttpRequestProvider requestProvider = httpGetRequestProvider();
+        Channel channel = getStreamingChannel();
 
-        Channel channel = getChannel();
+        initCallback(channel, resultCallback);
+
+        get(channel, typeReference, resultCallback);
+    }
+
+    /**
+     * Decodes every object of the response into {@code valueToUpdate} and passes that same instance to the callback.
+     */
+    public <T> void get(Class<T> type, T valueToUpdate, ResultCallback<T> resultCallback) {
+
+        Channel channel = getStreamingChannel();
 
         initCallback(channel, resultCallback);
 
+        HttpRequestProvider requestProvider = httpGetRequestProvider();
+
+        JsonResponseCallbackHandler<T> jsonResponseHandler = new JsonResponseCallbackHandler<T>(type, valueToUpdate,
+                resultCallback);
+
+        HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, resultCallback);
+
+        channel.pipeline().addLast(responseHandler);
+        channel.pipeline().addLast(new JsonObjectDecoder());
+        channel.pipeline().addLast(jsonResponseHandler);
+
+        sendRequest(requestProvider, channel);
+    }
+
+    private <T> void get(Channel channel, TypeReference<T> typeReference, ResultCallback<T> resultCallback) {
+
+        HttpRequestProvider requestProvider = httpGetRequestProvider();
+
         JsonResponseCallbackHandler<T> jsonResponseHandler = new JsonResponseCallbackHandler<T>(typeReference,
                 resultCallback);
 
@@ -156,8 +194,72 @@ public class InvocationBuilder {
         return;
     }
 
+    /**
+     * Passes the elements of a JSON array response to the callback one by one, as soon as each of them has been
+     * received. The channel is handed back to the {@link ChannelProvider} once the response has been read completely,
+     * and closed if the request fails or the callback is closed before.
+     */
+    public <T> void getArrayElements(Class<T> elementType, ResultCallback<T> callback) {
+
+        Channel channel = getChannel();
+
+        ChannelControl channelControl = new ChannelControl(channel, callback);
+        callback.onStart(channelControl);
+
+        ResultCallback<T> resultCallback = new ReleasingResultCallback<T>(callback, channelControl);
+
+        HttpRequestProvider requestProvider = httpGetRequestProvider();
+
+        JsonResponseCallbackHandler<T> jsonResponseHandler = new JsonResponseCallbackHandler<T>(elementType,
+                resultCallback);
+
+        HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, resultCallback);
+
+        channel.pipeline().addLast(responseHandler);
+        channel.pipeline().addLast(new JsonArrayElementDecoder());
+        channel.pipeline().addLast(jsonResponseHandler);
+
+        sendRequest(requestProvider, channel);
+    }
+
     private Channel getChannel() {
-        return channelProvider.getChannel();
+        return instrument(channelProvider.getChannel());
+    }
+
+    /**
+     * Returns a channel for a response that is streamed to the caller, it doesn't wait for a free pooled connection.
+     */
+    private Channel getStreamingChannel() {
+        return instrument(channelProvider.getStreamingChannel());
+    }
+
+    private Channel instrument(Channel channel) {
+        if (execution != null) {
+            // the request handlers are added behind the status recorder, pooled channels drop both on release
+            channel.pipeline().addFirst(InstrumentationHandler.countingBytes(execution));
+            channel.pipeline().addLast(InstrumentationHandler.recordingStatus(execution));
+        }
+
+        return channel;
+    }
+
+    /**
+     * Waits until the response of a non-streaming request was read completely and hands the channel back to the
+     * {@link ChannelProvider}, so that the connection can be reused.
+     */
+    private <T> T awaitResult(ResponseCallback<T> callback, Channel channel) {
+        try {
+            T result = callback.awaitResult();
+            channelProvider.releaseChannel(channel);
+            return result;
+        } catch (DockerException e) {
+            // error responses are read completely before the exception gets raised
+            channelProvider.releaseChannel(channel);
+            throw e;
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
     }
 
     private HttpRequestProvider httpDeleteRequestProvider() {
@@ -200,28 +302,28 @@ public class InvocationBuilder {
 
         HttpRequestProvider requestProvider = httpPostRequestProvider(entity);
 
-        Channel channel = getChannel();
-
-        ResponseCallback<InputStream> callback = new ResponseCallback<InputStream>();
+        Channel channel = getStreamingChannel();
 
-        HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, callback);
-        HttpResponseStreamHandler streamHandler = new HttpResponseStreamHandler(callback);
-
-        channel.pipeline().addLast(responseHandler);
-        channel.pipeline().addLast(streamHandler);
+        return streamResponse(requestProvider, channel);
+    }
 
-        sendRequest(requestProvider, channel);
+    public void post(final Object entity, final InputStream stdin, ResultCallback<Frame> resultCallback) {
+        post(entity, stdin != null ? StdinPumpHandler.fromStream(stdin, resultCallback) : null, resultCallback);
+    }
 
-        return callback.awaitResult();
+    public void post(final Object entity, final ReadableByteChannel stdin, ResultCallback<Frame> resultCallback) {
+        post(entity, stdin != null ? StdinPumpHandler.fromChannel(stdin, resultCallback) : null, resultCallback);
     }
 
-    public void post(final Object entity, final InputStream stdin, ResultCallback<Frame> resultCallback) {
+    private void post(final Object entity, StdinPumpHandler stdinPump, ResultCallback<Frame> resultCallback) {
 
         HttpRequestProvider requestProvider = httpPostRequestProvider(entity);
 
         FramedResponseStreamHandler streamHandler = new FramedResponseStreamHandler(resultCallback);
 
-        final Channel channel = getChannel();
+        final Channel channel = getStreamingChannel();
+
+        initCallback(channel, resultCallback);
 
         HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, resultCallback);
 
@@ -236,54 +338,38 @@ public class InvocationBuilder {
         // wait for successful http upgrade procedure
         hijackHandler.awaitUpgrade();
 
-        // now we can start a new thread that reads from stdin and writes to the channel
-        new Thread(new Runnable() {
+        if (stdinPump != null) {
+            // now we can copy stdin to the channel
+            channel.pipeline().addLast(stdinPump);
+            stdinPump.start(channel);
+        }
+    }
 
-            private int read(BufferedReader reader) {
-                try {
-                    return reader.read();
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+    public <T> T post(final Object entity, TypeReference<T> typeReference) {
 
-            @Override
-            public void run() {
+        ResponseCallback<T> callback = new ResponseCallback<T>();
 
-                BufferedReader reader = new BufferedReader(new InputStreamReader(stdin, Charset.forName("UTF-8")));
+        Channel channel = getChannel();
 
-                int read = -1;
-                while ((read = read(reader)) != -1) {
-                    byte[] bytes = ByteBuffer.allocate(4).putInt(read).array();
-                    try {
-                        bytes = new String(bytes).getBytes("US-ASCII");
-                    } catch (UnsupportedEncodingException e) {
-                        throw new RuntimeException(e);
-                    }
+        post(channel, entity, typeReference, callback);
 
-                    channel.writeAndFlush(Unpooled.copiedBuffer(bytes));
-                }
-            }
-        }).start();
+        return awaitResult(callback, channel);
     }
 
-    public <T> T post(final Object entity, TypeReference<T> typeReference) {
+    public <T> void post(final Object entity, TypeReference<T> typeReference, final ResultCallback<T> resultCallback) {
 
-        ResponseCallback<T> callback = new ResponseCallback<T>();
+        Channel channel = getStreamingChannel();
 
-        post(entity, typeReference, callback);
+        initCallback(channel, resultCallback);
 
-        return callback.awaitResult();
+        post(channel, entity, typeReference, resultCallback);
     }
 
-    public <T> void post(final Object entity, TypeReference<T> typeReference, final ResultCallback<T> resultCallback) {
+    private <T> void post(Channel channel, final Object entity, TypeReference<T> typeReference,
+            final ResultCallback<T> resultCallback) {
 
         HttpRequestProvider requestProvider = httpPostRequestProvider(entity);
 
-        Channel channel = getChannel();
-
-        initCallback(channel, resultCallback);
-
         JsonResponseCallbackHandler<T> jsonResponseHandler = new JsonResponseCallbackHandler<T>(typeReference,
                 resultCallback);
 
@@ -299,18 +385,133 @@ public class InvocationBuilder {
     }
 
     private <T> void initCallback(final Channel channel, final ResultCallback<T> resultCallback) {
-        Closeable closeable = new Closeable() {
-            @Override
-            public void close() throws IOException {
-                try {
-                    channel.close().sync();
-                } catch (InterruptedException e) {
-                    resultCallback.onError(e);
-                }
+        resultCallback.onStart(new ChannelControl(channel, resultCallback));
+    }
+
+    /**
+     * Closes the channel of a streaming response, and throttles reading it by toggling auto read. Once the response
+     * has been read completely the channel may be reused by another request, so it is left alone from then on.
+     */
+    private static class ChannelControl implements Closeable, FlowControl {
+
+        private final Channel channel;
+
+        private final ResultCallback<?> resultCallback;
+
+        private volatile boolean completed = false;
+
+        ChannelControl(Channel channel, ResultCallback<?> resultCallback) {
+            this.channel = channel;
+            this.resultCallback = resultCallback;
+        }
+
+        /**
+         * Called on the event loop after the last content of the response has been read.
+         */
+        void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (completed) {
+                return;
             }
-        };
+            if (channel.eventLoop().inEventLoop()) {
+                // waiting for the close would block the event loop
+                channel.close();
+                return;
+            }
+            try {
+                channel.close().sync();
+            } catch (InterruptedException e) {
+                resultCallback.onError(e);
+            }
+        }
+
+        @Override
+        public void suspend() {
+            setAutoRead(false);
+        }
+
+        @Override
+        public void resume() {
+            setAutoRead(true);
+        }
 
-        resultCallback.onStart(closeable);
+        private void setAutoRead(final boolean autoRead) {
+            // checked on the event loop, which also completes the response and releases the channel
+            if (!channel.eventLoop().inEventLoop()) {
+                channel.eventLoop().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        setAutoRead(autoRead);
+                    }
+                });
+            } else if (!completed) {
+                channel.config().setAutoRead(autoRead);
+            }
+        }
+    }
+
+    /**
+     * Hands the channel of a completed response back to the {@link ChannelProvider} after the callback has been
+     * notified, and closes it if the request failed.
+     */
+    private class ReleasingResultCallback<T> implements ResultCallback<T> {
+
+        private final ResultCallback<T> resultCallback;
+
+        private final ChannelControl channelControl;
+
+        private boolean failed = false;
+
+        ReleasingResultCallback(ResultCallback<T> resultCallback, ChannelControl channelControl) {
+            this.resultCallback = resultCallback;
+            this.channelControl = channelControl;
+        }
+
+        @Override
+        public void onStart(Closeable closeable) {
+            resultCallback.onStart(closeable);
+        }
+
+        @Override
+        public void onNext(T object) {
+            resultCallback.onNext(object);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failed = true;
+            resultCallback.onError(throwable);
+            channelControl.channel.close();
+        }
+
+        @Override
+        public void onComplete() {
+            if (failed) {
+                resultCallback.onComplete();
+                return;
+            }
+
+            channelControl.complete();
+            resultCallback.onComplete();
+
+            // once the handlers of the response have returned
+            final Channel channel = channelControl.channel;
+            channel.eventLoop().execute(new Runnable() {
+                @Override
+                public void run() {
+                    channelProvider.releaseChannel(channel);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            resultCallback.close();
+        }
     }
 
     private HttpRequest prepareDeleteRequest(String uri) {
@@ -349,7 +550,7 @@ public class InvocationBuilder {
 
             byte[] bytes;
             try {
-                bytes = new ObjectMapper().writeValueAsBytes(entity);
+                bytes = DockerObjectMapper.writerForValue(entity).writeValueAsBytes(entity);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
@@ -398,19 +599,27 @@ public class InvocationBuilder {
 
         ResponseCallback<T> callback = new ResponseCallback<T>();
 
-        post(typeReference, callback, body);
+        Channel channel = getChannel();
+
+        post(channel, typeReference, callback, body);
 
-        return callback.awaitResult();
+        return awaitResult(callback, channel);
     }
 
-
     public <T> void post(TypeReference<T> typeReference, ResultCallback<T> resultCallback, InputStream body) {
-        HttpRequestProvider requestProvider = httpPostRequestProvider(null);
 
-        Channel channel = getChannel();
+        Channel channel = getStreamingChannel();
 
         initCallback(channel, resultCallback);
 
+        post(channel, typeReference, resultCallback, body);
+    }
+
+    private <T> void post(Channel channel, TypeReference<T> typeReference, ResultCallback<T> resultCallback,
+            InputStream body) {
+
+        HttpRequestProvider requestProvider = httpPostRequestProvider(null);
+
         JsonResponseCallbackHandler<T> jsonResponseHandler = new JsonResponseCallbackHandler<T>(typeReference,
                 resultCallback);
 
@@ -441,22 +650,75 @@ public class InvocationBuilder {
     public InputStream get() {
         HttpRequestProvider requestProvider = httpGetRequestProvider();
 
-        Channel channel = getChannel();
-
-        ResponseCallback<InputStream> resultCallback = new ResponseCallback<InputStream>();
+        Channel channel = getStreamingChannel();
 
-        initCallback(channel, resultCallback);
+        return streamResponse(requestProvider, channel);
+    }
 
-        HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, resultCallback);
+    /**
+     * Returns the body of the response as soon as it starts to arrive. The channel is handed back to the
+     * {@link ChannelProvider} once the response has been received completely, closing the stream before closes the
+     * channel.
+     */
+    private InputStream streamResponse(HttpRequestProvider requestProvider, Channel channel) {
+        StreamResponseCallback callback = new StreamResponseCallback(channel);
 
-        HttpResponseStreamHandler streamHandler = new HttpResponseStreamHandler(resultCallback);
+        HttpResponseHandler responseHandler = new HttpResponseHandler(requestProvider, callback);
+        HttpResponseStreamHandler streamHandler = new HttpResponseStreamHandler(callback);
 
         channel.pipeline().addLast(responseHandler);
         channel.pipeline().addLast(streamHandler);
 
         sendRequest(requestProvider, channel);
 
-        return resultCallback.awaitResult();
+        return callback.awaitStream();
+    }
+
+    private class StreamResponseCallback extends ResultCallbackTemplate<StreamResponseCallback, InputStream> {
+
+        private final Channel channel;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private volatile InputStream stream = null;
+
+        StreamResponseCallback(Channel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void onNext(InputStream stream) {
+            this.stream = stream;
+            started.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            started.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            started.countDown();
+            channelProvider.releaseChannel(channel);
+        }
+
+        InputStream awaitStream() {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                channel.close();
+                throw new RuntimeException(e);
+            }
+
+            if (stream == null) {
+                // eventually (re)throws the error of the response
+                getFirstError();
+            }
+            return stream;
+        }
     }
 
     public void put(InputStream body, MediaType mediaType) {
@@ -486,6 +748,6 @@ public class InvocationBuilder {
         channel.write(new ChunkedStream(new BufferedInputStream(body, 1024 * 1024)));
         channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
 
-        resultCallback.awaitResult();
+        awaitResult(resultCallback, channel);
     };
 }
@@ -0,0 +1,350 @@
+package com.github.dockerjava.netty;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.AttributeKey;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+/**
+ * {@link ChannelProvider} that keeps a bounded number of keep-alive connections to the docker daemon.
+ *
+ * Every channel returned by {@link #getChannel()} occupies one of <code>maxConnections</code> slots until it is closed
+ * or parked again. Channels for long lived streams are returned by {@link #getStreamingChannel()} and don't occupy a
+ * slot while they are in use, so that streams of events, logs or statistics can't starve other requests. Channels
+ * handed back via {@link #releaseChannel(Channel)} are stripped of all handlers that were added after the connection
+ * was established, checked for health and parked for reuse as far as there are free slots. Parked channels are closed
+ * once they were idle for longer than the configured idle timeout.
+ */
+public class PooledChannelProvider implements ChannelProvider, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledChannelProvider.class);
+
+    private static final AttributeKey<List<String>> BASE_HANDLERS = AttributeKey.valueOf("dockerjava.baseHandlers");
+
+    private static final AttributeKey<Boolean> COUNTED = AttributeKey.valueOf("dockerjava.counted");
+
+    /**
+     * Opens a new, fully initialized connection to the docker daemon.
+     */
+    public interface Connector {
+        Channel connect();
+    }
+
+    private final Connector connector;
+
+    private final int maxConnections;
+
+    private final long idleTimeoutMillis;
+
+    private final long acquireTimeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition slotFreed = lock.newCondition();
+
+    private final LinkedBlockingDeque<IdleChannel> idleChannels = new LinkedBlockingDeque<IdleChannel>();
+
+    private final ScheduledFuture<?> evictionTask;
+
+    private volatile boolean closed = false;
+
+    private int countedConnections = 0;
+
+    /**
+     * @param idleTimeoutMillis
+     *            time after which an unused channel gets closed, values <= 0 disable idle eviction
+     * @param acquireTimeoutMillis
+     *            maximum time to wait for a free slot, values <= 0 wait indefinitely
+     */
+    public PooledChannelProvider(Connector connector, ScheduledExecutorService scheduler, int maxConnections,
+            long idleTimeoutMillis, long acquireTimeoutMillis) {
+        checkNotNull(connector, "connector was not specified");
+        checkNotNull(scheduler, "scheduler was not specified");
+        checkArgument(maxConnections > 0, "maxConnections must be greater than 0");
+
+        this.connector = connector;
+        this.maxConnections = maxConnections;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        if (idleTimeoutMillis > 0) {
+            evictionTask = scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    evictIdleChannels();
+                }
+            }, idleTimeoutMillis, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        } else {
+            evictionTask = null;
+        }
+    }
+
+    @Override
+    public Channel getChannel() {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+
+        lock.lock();
+        try {
+            while (true) {
+                checkOpen();
+
+                Channel channel = pollIdleChannel();
+                if (channel != null) {
+                    return channel;
+                }
+
+                if (countedConnections < maxConnections) {
+                    countedConnections++;
+                    break;
+                }
+
+                if (acquireTimeoutMillis <= 0) {
+                    slotFreed.await();
+                } else if (remainingNanos > 0) {
+                    remainingNanos = slotFreed.awaitNanos(remainingNanos);
+                } else {
+                    throw new DockerClientException(String.format("Timeout waiting for a connection after %d ms, "
+                            + "all %d connections are in use", acquireTimeoutMillis, maxConnections));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DockerClientException("Interrupted while waiting for a connection", e);
+        } finally {
+            lock.unlock();
+        }
+
+        return newChannel(true);
+    }
+
+    /**
+     * Returns a channel for a long lived stream. It doesn't count against <code>maxConnections</code> while it is in
+     * use, so this never waits for a slot.
+     */
+    @Override
+    public Channel getStreamingChannel() {
+        lock.lock();
+        try {
+            checkOpen();
+
+            Channel channel = pollIdleChannel();
+            if (channel != null) {
+                uncount(channel);
+                return channel;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return newChannel(false);
+    }
+
+    @Override
+    public void releaseChannel(Channel channel) {
+        if (closed || !isHealthy(channel)) {
+            channel.close();
+            return;
+        }
+
+        try {
+            resetPipeline(channel);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to reset pipeline of {}, closing it", channel, e);
+            channel.close();
+            return;
+        }
+
+        lock.lock();
+        try {
+            // a streaming channel is parked only if there is a free slot for it
+            if (!Boolean.TRUE.equals(channel.attr(COUNTED).get())) {
+                if (countedConnections >= maxConnections || !channel.isOpen()) {
+                    channel.close();
+                    return;
+                }
+                countedConnections++;
+                channel.attr(COUNTED).set(Boolean.TRUE);
+            }
+
+            idleChannels.offerFirst(new IdleChannel(channel, System.currentTimeMillis()));
+            slotFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of connections that are currently open, either in use or idle, not counting streaming ones
+     */
+    public int getOpenConnections() {
+        lock.lock();
+        try {
+            return countedConnections;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of open connections that are waiting to be reused
+     */
+    public int getIdleConnections() {
+        return idleChannels.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+        }
+
+        IdleChannel idleChannel;
+        while ((idleChannel = idleChannels.pollFirst()) != null) {
+            idleChannel.channel.close();
+        }
+
+        lock.lock();
+        try {
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new DockerClientException("Channel pool is closed");
+        }
+    }
+
+    private Channel pollIdleChannel() {
+        long now = System.currentTimeMillis();
+
+        IdleChannel idleChannel;
+        while ((idleChannel = idleChannels.pollFirst()) != null) {
+            if (!isExpired(idleChannel, now) && isHealthy(idleChannel.channel)) {
+                return idleChannel.channel;
+            }
+            idleChannel.channel.close();
+        }
+
+        return null;
+    }
+
+    private Channel newChannel(boolean counted) {
+        Channel channel;
+        try {
+            channel = connector.connect();
+        } catch (RuntimeException e) {
+            if (counted) {
+                freeSlot();
+            }
+            throw e;
+        }
+
+        channel.attr(BASE_HANDLERS).set(new ArrayList<String>(channel.pipeline().names()));
+        channel.attr(COUNTED).set(counted);
+
+        channel.closeFuture().addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                uncount(future.channel());
+            }
+        });
+
+        return channel;
+    }
+
+    /**
+     * Frees the slot of the channel, if it occupies one. Runs under the lock, so that a channel that is closed while
+     * it is parked frees its slot exactly once.
+     */
+    private void uncount(Channel channel) {
+        lock.lock();
+        try {
+            if (Boolean.TRUE.equals(channel.attr(COUNTED).getAndSet(Boolean.FALSE))) {
+                freeSlot();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void freeSlot() {
+        lock.lock();
+        try {
+            countedConnections--;
+            slotFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIdleChannels() {
+        long now = System.currentTimeMillis();
+
+        for (IdleChannel idleChannel : idleChannels) {
+            if ((isExpired(idleChannel, now) || !isHealthy(idleChannel.channel)) && idleChannels.remove(idleChannel)) {
+                LOGGER.trace("Closing idle channel {}", idleChannel.channel);
+                idleChannel.channel.close();
+            }
+        }
+    }
+
+    private boolean isExpired(IdleChannel idleChannel, long now) {
+        return idleTimeoutMillis > 0 && now - idleChannel.idleSince > idleTimeoutMillis;
+    }
+
+    private static boolean isHealthy(Channel channel) {
+        return channel.isOpen() && channel.isActive();
+    }
+
+    /**
+     * Removes all handlers that were added to the pipeline on behalf of a single request.
+     */
+    private static void resetPipeline(Channel channel) {
+        List<String> baseHandlers = channel.attr(BASE_HANDLERS).get();
+        ChannelPipeline pipeline = channel.pipeline();
+
+        for (String name : pipeline.names()) {
+            if (!baseHandlers.contains(name) && pipeline.get(name) != null) {
+                pipeline.remove(name);
+            }
+        }
+
+        // a response stream may have paused reading
+        channel.config().setAutoRead(true);
+    }
+
+    private static final class IdleChannel {
+        private final Channel channel;
+
+        private final long idleSince;
+
+        private IdleChannel(Channel channel, long idleSince) {
+            this.channel = channel;
+            this.idleSince = idleSince;
+        }
+    }
+}
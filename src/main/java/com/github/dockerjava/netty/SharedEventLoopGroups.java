@@ -0,0 +1,73 @@
+package com.github.dockerjava.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide event loop groups, one per transport, for factories configured with
+ * {@link DockerCmdExecFactoryImpl#withSharedEventLoopGroup(Boolean)}. A group is created by the first factory that
+ * acquires it, with the number of threads that factory asks for, and shut down gracefully once the last factory
+ * released it.
+ */
+final class SharedEventLoopGroups {
+
+    private static EventLoopGroup epollGroup;
+
+    private static EventLoopGroup nioGroup;
+
+    private static final Map<EventLoopGroup, Integer> REFERENCES = new IdentityHashMap<EventLoopGroup, Integer>();
+
+    private SharedEventLoopGroups() {
+    }
+
+    /**
+     * @param threads
+     *            number of threads if the group has to be created, 0 for the netty default
+     */
+    static synchronized EventLoopGroup acquire(boolean epoll, int threads) {
+        EventLoopGroup group = epoll ? epollGroup : nioGroup;
+        if (group == null) {
+            if (epoll) {
+                group = epollGroup = new EpollEventLoopGroup(threads, new DefaultThreadFactory("docker-java-epoll"));
+            } else {
+                group = nioGroup = new NioEventLoopGroup(threads, new DefaultThreadFactory("docker-java-nio"));
+            }
+            REFERENCES.put(group, 0);
+        }
+        REFERENCES.put(group, REFERENCES.get(group) + 1);
+        return group;
+    }
+
+    static synchronized void release(EventLoopGroup group) {
+        Integer references = REFERENCES.get(group);
+        if (references == null) {
+            throw new IllegalStateException("Not a shared event loop group: " + group);
+        }
+
+        if (references > 1) {
+            REFERENCES.put(group, references - 1);
+            return;
+        }
+
+        REFERENCES.remove(group);
+        if (group == epollGroup) {
+            epollGroup = null;
+        } else if (group == nioGroup) {
+            nioGroup = null;
+        }
+        group.shutdownGracefully();
+    }
+
+    /**
+     * Returns the number of factories using the group.
+     */
+    static synchronized int getReferences(EventLoopGroup group) {
+        Integer references = REFERENCES.get(group);
+        return references != null ? references : 0;
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 
+import com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation;
+
 /**
  * This class is basically a replacement of javax.ws.rs.client.WebTarget to allow simpler
  * migration of JAX-RS code to a netty based implementation.
@@ -18,6 +20,8 @@ public class WebTarget {
 
     private ChannelProvider channelProvider;
 
+    private DockerCmdInstrumentation instrumentation;
+
     private List<String> path = new ArrayList<String>();
 
     private Map<String, String> queryParams = new HashMap<String, String>();
@@ -25,7 +29,19 @@ public class WebTarget {
     private static String PATH_SEPARATOR = "/";
 
     public WebTarget(ChannelProvider channelProvider) {
+        this(channelProvider, null);
+    }
+
+    public WebTarget(ChannelProvider channelProvider, DockerCmdInstrumentation instrumentation) {
         this.channelProvider = channelProvider;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Returns the instrumentation configured on the factory or null.
+     */
+    public DockerCmdInstrumentation getInstrumentation() {
+        return instrumentation;
     }
 
     public WebTarget path(String... components) {
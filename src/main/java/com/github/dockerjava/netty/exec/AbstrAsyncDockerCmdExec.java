@@ -1,12 +1,15 @@
 package com.github.dockerjava.netty.exec;
 
-import java.io.Closeable;
-import java.io.IOException;
+import io.netty.buffer.ByteBuf;
 
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.AsyncDockerCmd;
 import com.github.dockerjava.api.command.DockerCmdAsyncExec;
+import com.github.dockerjava.api.model.StreamType;
 import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.ExecutionResultCallback;
+import com.github.dockerjava.netty.FrameBufferCallback;
 import com.github.dockerjava.netty.WebTarget;
 
 public abstract class AbstrAsyncDockerCmdExec<CMD_T extends AsyncDockerCmd<CMD_T, A_RES_T>, A_RES_T> extends
@@ -23,41 +26,52 @@ public abstract class AbstrAsyncDockerCmdExec<CMD_T extends AsyncDockerCmd<CMD_T
 
     protected final Void execute(final CMD_T command, final ResultCallback<A_RES_T> resultCallback) {
 
-        ResultCallback<A_RES_T> delegatingResultCallback = new ResultCallback<A_RES_T>() {
+        DockerCmdExecution execution = startExecution(command);
+
+        ResultCallback<A_RES_T> delegatingResultCallback;
+
+        if (resultCallback instanceof FrameBufferCallback) {
+            // keep the opt-in visible to the handlers
+            delegatingResultCallback = new DelegatingFrameBufferCallback(command, resultCallback, execution);
+        } else {
+            delegatingResultCallback = new ExecutionResultCallback<A_RES_T>(command, resultCallback, execution);
+        }
+
+        if (execution == null) {
+            execute0(command, delegatingResultCallback);
+            return null;
+        }
+
+        // the request is sent from this thread, the response is recorded by the channel handlers
+        execution.attach();
+        try {
+            execute0(command, delegatingResultCallback);
+        } catch (RuntimeException e) {
+            execution.end(e);
+            throw e;
+        } finally {
+            execution.detach();
+        }
 
-            @Override
-            public void close() throws IOException {
-                resultCallback.close();
-                command.close();
-            }
-
-            @Override
-            public void onStart(Closeable closeable) {
-                resultCallback.onStart(closeable);
-            }
+        return null;
+    }
 
-            @Override
-            public void onNext(A_RES_T object) {
-                resultCallback.onNext(object);
-            }
+    protected abstract Void execute0(final CMD_T command, final ResultCallback<A_RES_T> resultCallback);
 
-            @Override
-            public void onError(Throwable throwable) {
-                resultCallback.onError(throwable);
-            }
+    private class DelegatingFrameBufferCallback extends ExecutionResultCallback<A_RES_T> implements
+            FrameBufferCallback {
 
-            @Override
-            public void onComplete() {
-                resultCallback.onComplete();
-                command.close();
-            }
-        };
+        private final FrameBufferCallback frameBufferCallback;
 
-        execute0(command, delegatingResultCallback);
+        DelegatingFrameBufferCallback(CMD_T command, ResultCallback<A_RES_T> resultCallback,
+                DockerCmdExecution execution) {
+            super(command, resultCallback, execution);
+            this.frameBufferCallback = (FrameBufferCallback) resultCallback;
+        }
 
-        return null;
+        @Override
+        public void onNext(StreamType streamType, ByteBuf payload) {
+            frameBufferCallback.onNext(streamType, payload);
+        }
     }
-
-    protected abstract Void execute0(final CMD_T command, final ResultCallback<A_RES_T> resultCallback);
-
 }
@@ -2,15 +2,12 @@ package com.github.dockerjava.netty.exec;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.io.IOException;
-
-import org.apache.commons.codec.binary.Base64;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.command.DockerCmd;
 import com.github.dockerjava.api.model.AuthConfig;
 import com.github.dockerjava.api.model.AuthConfigurations;
 import com.github.dockerjava.core.DockerClientConfig;
-import com.github.dockerjava.core.RemoteApiVersion;
+import com.github.dockerjava.core.RegistryAuthEncoder;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
 import com.github.dockerjava.netty.WebTarget;
 
 public abstract class AbstrDockerCmdExec {
@@ -30,31 +27,25 @@ public abstract class AbstrDockerCmdExec {
         return baseResource;
     }
 
+    /**
+     * Starts the measurement of the given command if an instrumentation has been configured on the factory.
+     *
+     * @return the started execution or null
+     */
+    protected DockerCmdExecution startExecution(DockerCmd<?> command) {
+        return DockerCmdExecution.start(baseResource.getInstrumentation(), command);
+    }
+
     protected AuthConfigurations getBuildAuthConfigs() {
         return dockerClientConfig.getAuthConfigurations();
     }
 
     protected String registryAuth(AuthConfig authConfig) {
-        try {
-            return Base64.encodeBase64String(new ObjectMapper().writeValueAsString(authConfig).getBytes());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return RegistryAuthEncoder.registryAuth(authConfig);
     }
 
     protected String registryConfigs(AuthConfigurations authConfigs) {
-        try {
-            final String json;
-            if (dockerClientConfig.getVersion().isGreaterOrEqual(RemoteApiVersion.VERSION_1_19)) {
-                json = new ObjectMapper().writeValueAsString(authConfigs.getConfigs());
-            } else {
-                json = new ObjectMapper().writeValueAsString(authConfigs);
-            }
-
-            return Base64.encodeBase64String(json.getBytes());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return RegistryAuthEncoder.registryConfigs(authConfigs, dockerClientConfig.getVersion());
     }
 
     protected boolean bool(Boolean bool) {
@@ -0,0 +1,72 @@
+package com.github.dockerjava.netty.exec;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.DockerCmdListExec;
+import com.github.dockerjava.api.command.ListDockerCmd;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.ExecutionResultCallback;
+import com.github.dockerjava.netty.MediaType;
+import com.github.dockerjava.netty.WebTarget;
+
+/**
+ * Execution of a command whose response is a JSON array. The array is either read as a whole or streamed element by
+ * element to a callback from the event loop.
+ */
+public abstract class AbstrListDockerCmdExec<CMD_T extends ListDockerCmd<ELEM_T>, ELEM_T> extends
+        AbstrSyncDockerCmdExec<CMD_T, List<ELEM_T>> implements DockerCmdListExec<CMD_T, ELEM_T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstrListDockerCmdExec.class);
+
+    private final Class<ELEM_T> elementType;
+
+    public AbstrListDockerCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig,
+            Class<ELEM_T> elementType) {
+        super(baseResource, dockerClientConfig);
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Void exec(CMD_T command, ResultCallback<ELEM_T> resultCallback) {
+        DockerCmdExecution execution = startExecution(command);
+
+        ResultCallback<ELEM_T> delegatingResultCallback = new ExecutionResultCallback<ELEM_T>(command,
+                resultCallback, execution);
+
+        if (execution == null) {
+            stream(command, delegatingResultCallback);
+            return null;
+        }
+
+        // the request is sent from this thread, the response is recorded by the channel handlers
+        execution.attach();
+        try {
+            stream(command, delegatingResultCallback);
+        } catch (RuntimeException e) {
+            execution.end(e);
+            throw e;
+        } finally {
+            execution.detach();
+        }
+
+        return null;
+    }
+
+    private void stream(CMD_T command, ResultCallback<ELEM_T> resultCallback) {
+        WebTarget webTarget = webTarget(command);
+
+        LOGGER.trace("GET: {}", webTarget);
+
+        webTarget.request().accept(MediaType.APPLICATION_JSON).getArrayElements(elementType, resultCallback);
+    }
+
+    /**
+     * Returns the resource that responds with the JSON array.
+     */
+    protected abstract WebTarget webTarget(CMD_T command);
+}
@@ -12,19 +12,23 @@ import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.netty.MediaType;
 import com.github.dockerjava.netty.WebTarget;
 
-public class ContainerDiffCmdExec extends AbstrSyncDockerCmdExec<ContainerDiffCmd, List<ChangeLog>> implements
+public class ContainerDiffCmdExec extends AbstrListDockerCmdExec<ContainerDiffCmd, ChangeLog> implements
         ContainerDiffCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContainerDiffCmdExec.class);
 
     public ContainerDiffCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+        super(baseResource, dockerClientConfig, ChangeLog.class);
+    }
+
+    @Override
+    protected WebTarget webTarget(ContainerDiffCmd command) {
+        return getBaseResource().path("/containers/{id}/changes").resolveTemplate("id", command.getContainerId());
     }
 
     @Override
     protected List<ChangeLog> execute(ContainerDiffCmd command) {
-        WebTarget webResource = getBaseResource().path("/containers/{id}/changes").resolveTemplate("id",
-                command.getContainerId());
+        WebTarget webResource = webTarget(command);
 
         LOGGER.trace("GET: {}", webResource);
         return webResource.request().accept(MediaType.APPLICATION_JSON).get(new TypeReference<List<ChangeLog>>() {
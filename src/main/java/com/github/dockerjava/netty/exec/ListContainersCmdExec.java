@@ -14,17 +14,17 @@ import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.netty.MediaType;
 import com.github.dockerjava.netty.WebTarget;
 
-public class ListContainersCmdExec extends AbstrSyncDockerCmdExec<ListContainersCmd, List<Container>> implements
+public class ListContainersCmdExec extends AbstrListDockerCmdExec<ListContainersCmd, Container> implements
         ListContainersCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ListContainersCmdExec.class);
 
     public ListContainersCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+        super(baseResource, dockerClientConfig, Container.class);
     }
 
     @Override
-    protected List<Container> execute(ListContainersCmd command) {
+    protected WebTarget webTarget(ListContainersCmd command) {
         WebTarget webTarget = getBaseResource().path("/containers/json").queryParam("since", command.getSinceId())
                 .queryParam("before", command.getBeforeId());
 
@@ -40,6 +40,13 @@ public class ListContainersCmdExec extends AbstrSyncDockerCmdExec<ListContainers
                     .queryParam("filters", urlPathSegmentEscaper().escape(command.getFilters().toString()));
         }
 
+        return webTarget;
+    }
+
+    @Override
+    protected List<Container> execute(ListContainersCmd command) {
+        WebTarget webTarget = webTarget(command);
+
         LOGGER.trace("GET: {}", webTarget);
 
         List<Container> containers = webTarget.request().accept(MediaType.APPLICATION_JSON)
@@ -14,16 +14,16 @@ import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.netty.MediaType;
 import com.github.dockerjava.netty.WebTarget;
 
-public class ListImagesCmdExec extends AbstrSyncDockerCmdExec<ListImagesCmd, List<Image>> implements ListImagesCmd.Exec {
+public class ListImagesCmdExec extends AbstrListDockerCmdExec<ListImagesCmd, Image> implements ListImagesCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ListImagesCmdExec.class);
 
     public ListImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+        super(baseResource, dockerClientConfig, Image.class);
     }
 
     @Override
-    protected List<Image> execute(ListImagesCmd command) {
+    protected WebTarget webTarget(ListImagesCmd command) {
         WebTarget webTarget = getBaseResource().path("/images/json");
 
         webTarget = booleanQueryParam(webTarget, "all", command.hasShowAllEnabled());
@@ -32,6 +32,13 @@ public class ListImagesCmdExec extends AbstrSyncDockerCmdExec<ListImagesCmd, Lis
             webTarget = webTarget.queryParam("filters", urlPathSegmentEscaper().escape(command.getFilters()));
         }
 
+        return webTarget;
+    }
+
+    @Override
+    protected List<Image> execute(ListImagesCmd command) {
+        WebTarget webTarget = webTarget(command);
+
         LOGGER.trace("GET: {}", webTarget);
 
         List<Image> images = webTarget.request().accept(MediaType.APPLICATION_JSON)
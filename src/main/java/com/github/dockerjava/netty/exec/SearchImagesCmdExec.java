@@ -12,18 +12,23 @@ import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.netty.MediaType;
 import com.github.dockerjava.netty.WebTarget;
 
-public class SearchImagesCmdExec extends AbstrSyncDockerCmdExec<SearchImagesCmd, List<SearchItem>> implements
+public class SearchImagesCmdExec extends AbstrListDockerCmdExec<SearchImagesCmd, SearchItem> implements
         SearchImagesCmd.Exec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SearchImagesCmdExec.class);
 
     public SearchImagesCmdExec(WebTarget baseResource, DockerClientConfig dockerClientConfig) {
-        super(baseResource, dockerClientConfig);
+        super(baseResource, dockerClientConfig, SearchItem.class);
+    }
+
+    @Override
+    protected WebTarget webTarget(SearchImagesCmd command) {
+        return getBaseResource().path("/images/search").queryParam("term", command.getTerm());
     }
 
     @Override
     protected List<SearchItem> execute(SearchImagesCmd command) {
-        WebTarget webResource = getBaseResource().path("/images/search").queryParam("term", command.getTerm());
+        WebTarget webResource = webTarget(command);
 
         LOGGER.trace("GET: {}", webResource);
         return webResource.request().accept(MediaType.APPLICATION_JSON).get(new TypeReference<List<SearchItem>>() {
@@ -25,8 +25,12 @@ public class StatsCmdExec extends AbstrAsyncDockerCmdExec<StatsCmd, Statistics>
 
         LOGGER.trace("GET: {}", webTarget);
 
-        webTarget.request().get(new TypeReference<Statistics>() {
-        }, resultCallback);
+        if (Boolean.TRUE.equals(command.hasReuseStatisticsEnabled())) {
+            webTarget.request().get(Statistics.class, new Statistics(), resultCallback);
+        } else {
+            webTarget.request().get(new TypeReference<Statistics>() {
+            }, resultCallback);
+        }
 
         return null;
     }
@@ -1,129 +1,95 @@
 package com.github.dockerjava.netty.handler;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.util.List;
 
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.netty.FrameBufferCallback;
 
 /**
  * Handler that decodes a docker-raw-stream as described here:
  *
  * https://docs.docker.com/engine/reference/api/docker_remote_api_v1.21/#attach-to-a-container
  *
- * It drives the {@link ResultCallback#onNext(Object)} method of the passed {@link ResultCallback}.
+ * It drives the {@link ResultCallback#onNext(Object)} method of the passed {@link ResultCallback}. Incoming buffers
+ * are accumulated until a frame is complete and the payload is cut from the accumulated buffer without intermediate
+ * copies. If the callback implements {@link FrameBufferCallback} it receives a view on that buffer instead of a
+ * {@link Frame}.
  *
  * @author Marcus Linke
  */
-public class FramedResponseStreamHandler extends SimpleChannelInboundHandler<ByteBuf> {
+public class FramedResponseStreamHandler extends ByteToMessageDecoder {
 
     private static final int HEADER_SIZE = 8;
 
-    private final ByteBuf rawBuffer = Unpooled.buffer(1000);
-
-    private byte[] header = new byte[HEADER_SIZE];
-
-    private int headerCnt = 0;
-
-    private byte[] payload = new byte[0];
-
-    private int payloadCnt = 0;
+    private final ResultCallback<Frame> resultCallback;
 
-    private ResultCallback<Frame> resultCallback;
+    private final FrameBufferCallback frameBufferCallback;
 
-    private StreamType streamType = null;
+    private boolean rawStreamDetected = false;
 
     public FramedResponseStreamHandler(ResultCallback<Frame> resultCallback) {
         this.resultCallback = resultCallback;
+
+        if (resultCallback instanceof FrameBufferCallback) {
+            this.frameBufferCallback = (FrameBufferCallback) resultCallback;
+        } else {
+            this.frameBufferCallback = null;
+        }
     }
 
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-
-        rawBuffer.writeBytes(msg.copy(), 0, msg.readableBytes());
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
 
-        Frame frame = null;
+        while (in.isReadable()) {
 
-        do {
-            frame = decode();
-
-            if (frame != null) {
-                resultCallback.onNext(frame);
+            if (rawStreamDetected) {
+                emit(StreamType.RAW, in, in.readableBytes());
+                continue;
             }
 
-        } while (frame != null);
-    }
-
-    private int read(byte[] buf, int offset, int length) {
-        length = Math.min(rawBuffer.readableBytes(), length);
-        rawBuffer.readBytes(buf, offset, length);
-        return length;
-    }
-
-    private Frame decode() {
-        if (headerCnt < HEADER_SIZE) {
-
-            int headerCount = read(header, headerCnt, HEADER_SIZE - headerCnt);
-
-            if (headerCount == 0) {
-                return null;
+            if (in.readableBytes() < HEADER_SIZE) {
+                return;
             }
 
-            headerCnt += headerCount;
-
-            if (headerCnt < HEADER_SIZE) {
-                return null;
-            }
+            int headerIndex = in.readerIndex();
 
-            streamType = streamType(header[0]);
+            StreamType streamType = streamType(in.getByte(headerIndex));
 
             if (streamType.equals(StreamType.RAW)) {
-                return new Frame(streamType, header);
+                // no multiplexed stream, pass the header bytes and everything that follows as is
+                rawStreamDetected = true;
+                emit(StreamType.RAW, in, HEADER_SIZE);
+                continue;
             }
-        }
-
-        if (streamType.equals(StreamType.RAW)) {
 
-            if (payloadCnt == 0)
-                payload = new byte[rawBuffer.readableBytes()];
+            int payloadSize = in.getInt(headerIndex + 4);
 
-            int count = read(payload, payloadCnt, rawBuffer.readableBytes());
-
-            if (count == 0) {
-                return null;
+            if (in.readableBytes() < HEADER_SIZE + payloadSize) {
+                return;
             }
 
-            payloadCnt = 0;
-
-            return new Frame(StreamType.RAW, payload);
-        } else {
-
-            int payloadSize = ((header[4] & 0xff) << 24) + ((header[5] & 0xff) << 16) + ((header[6] & 0xff) << 8)
-                    + (header[7] & 0xff);
-
-            if (payloadCnt == 0) {
-                payload = new byte[payloadSize];
-            }
+            in.skipBytes(HEADER_SIZE);
 
-            int count = read(payload, payloadCnt, payloadSize - payloadCnt);
-
-            if (count == 0) {
-                return null;
-            }
-
-            payloadCnt += count;
-
-            if (payloadCnt < payloadSize) {
-                return null;
-            }
+            emit(streamType, in, payloadSize);
+        }
+    }
 
-            headerCnt = 0;
-            payloadCnt = 0;
+    private void emit(StreamType streamType, ByteBuf in, int length) {
+        ByteBuf payload = in.slice(in.readerIndex(), length);
+        in.skipBytes(length);
 
-            return new Frame(streamType, payload);
+        if (frameBufferCallback != null) {
+            frameBufferCallback.onNext(streamType, payload);
+        } else {
+            byte[] bytes = new byte[length];
+            payload.getBytes(payload.readerIndex(), bytes);
+            resultCallback.onNext(new Frame(streamType, bytes));
         }
     }
 
@@ -31,6 +31,16 @@ import com.github.dockerjava.api.exception.UnauthorizedException;
  */
 public class HttpResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
+    /**
+     * User event that is fired down the pipeline after the last content of a successful response has been passed on.
+     */
+    public static final Object RESPONSE_COMPLETE = new Object() {
+        @Override
+        public String toString() {
+            return "RESPONSE_COMPLETE";
+        }
+    };
+
     private HttpResponse response;
 
     private ByteBuf errorBody = Unpooled.buffer();
@@ -74,6 +84,7 @@ public class HttpResponseHandler extends SimpleChannelInboundHandler<HttpObject>
                     case 200:
                     case 201:
                     case 204:
+                        ctx.fireUserEventTriggered(RESPONSE_COMPLETE);
                         break;
                     case 301:
                     case 302:
@@ -1,100 +1,296 @@
 package com.github.dockerjava.netty.handler;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.concurrent.LinkedTransferQueue;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.core.util.ChannelSource;
 
 /**
- * Handler that converts an incoming byte stream to an {@link InputStream}.
+ * Handler that converts an incoming byte stream to an {@link InputStream}. The stream is passed to the callback with
+ * the first content of a successful response and ends with the response. Received buffers are handed over without
+ * copying them, reading from the channel is paused while more than {@link HttpResponseInputStream#HIGH_WATER_MARK}
+ * bytes haven't been consumed.
  *
  * @author marcus
  */
-public class HttpResponseStreamHandler extends SimpleChannelInboundHandler<ByteBuf> {
+public class HttpResponseStreamHandler extends ChannelInboundHandlerAdapter {
 
-    private HttpResponseInputStream stream = new HttpResponseInputStream();
+    private final ResultCallback<InputStream> resultCallback;
+
+    private HttpResponseInputStream stream;
+
+    private boolean failed = false;
 
     public HttpResponseStreamHandler(ResultCallback<InputStream> resultCallback) {
-        resultCallback.onNext(stream);
+        this.resultCallback = resultCallback;
     }
 
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-        stream.write(msg.copy());
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        stream = new HttpResponseInputStream(ctx.channel());
     }
 
     @Override
-    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
-        stream.close();
-        super.channelReadComplete(ctx);
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ByteBuf) {
+            start();
+            stream.offer((ByteBuf) msg);
+        } else {
+            ctx.fireChannelRead(msg);
+        }
     }
 
-    public static class HttpResponseInputStream extends InputStream {
-
-        private AtomicBoolean closed = new AtomicBoolean(false);
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt == HttpResponseHandler.RESPONSE_COMPLETE) {
+            start();
+            stream.end();
+        }
+        super.userEventTriggered(ctx, evt);
+    }
 
-        private LinkedTransferQueue<ByteBuf> queue = new LinkedTransferQueue<ByteBuf>();
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        fail(new IOException("Connection closed before the response was read completely"));
+        super.channelInactive(ctx);
+    }
 
-        private ByteBuf current = null;
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        fail(cause);
+        ctx.close();
+    }
 
-        public void write(ByteBuf byteBuf) {
-            queue.put(byteBuf);
+    /**
+     * Passes the failure to the reader of the stream, or to the callback if the stream hasn't been passed on yet.
+     */
+    private void fail(Throwable cause) {
+        if (!stream.started && !failed) {
+            failed = true;
+            resultCallback.onError(cause);
         }
+        stream.fail(cause instanceof IOException ? (IOException) cause : new IOException(cause));
+    }
 
-        @Override
-        public void close() throws IOException {
-            closed.set(true);
-            super.close();
+    private void start() {
+        if (!stream.started && !failed) {
+            stream.started = true;
+            resultCallback.onNext(stream);
         }
+    }
 
-        @Override
-        public int available() throws IOException {
-            poll();
-            return readableBytes();
+    /**
+     * Stream of the received buffers. All methods but {@link #read()}, {@link #read(byte[], int, int)},
+     * {@link #transferTo(WritableByteChannel)}, {@link #available()} and {@link #close()} are called from the event
+     * loop.
+     */
+    public static class HttpResponseInputStream extends InputStream implements ChannelSource {
+
+        /**
+         * Number of unread bytes at which reading from the channel is paused.
+         */
+        public static final int HIGH_WATER_MARK = 1024 * 1024;
+
+        /**
+         * Number of unread bytes at which reading from the channel is resumed.
+         */
+        public static final int LOW_WATER_MARK = HIGH_WATER_MARK / 4;
+
+        private final Channel channel;
+
+        private final Queue<ByteBuf> buffers = new ArrayDeque<ByteBuf>();
+
+        private final byte[] singleByte = new byte[1];
+
+        private boolean started = false;
+
+        private int bufferedBytes = 0;
+
+        private boolean suspended = false;
+
+        private boolean ended = false;
+
+        private boolean closed = false;
+
+        private IOException failure;
+
+        HttpResponseInputStream(Channel channel) {
+            this.channel = channel;
         }
 
-        private int readableBytes() {
-            if (current != null) {
-                return current.readableBytes();
-            } else {
-                return 0;
+        synchronized void offer(ByteBuf byteBuf) {
+            if (closed || ended || !byteBuf.isReadable()) {
+                ReferenceCountUtil.release(byteBuf);
+                return;
+            }
+
+            buffers.add(byteBuf);
+            bufferedBytes += byteBuf.readableBytes();
+            notifyAll();
+
+            if (!suspended && bufferedBytes >= HIGH_WATER_MARK) {
+                suspended = true;
+                channel.config().setAutoRead(false);
             }
+        }
+
+        synchronized void end() {
+            ended = true;
+            notifyAll();
+        }
 
+        synchronized void fail(IOException e) {
+            if (!ended) {
+                failure = e;
+                ended = true;
+                notifyAll();
+            }
         }
 
         @Override
         public int read() throws IOException {
+            synchronized (this) {
+                int read = read(singleByte, 0, 1);
+                return read == -1 ? -1 : singleByte[0] & 0xff;
+            }
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!awaitBuffer()) {
+                return -1;
+            }
 
-            poll();
+            int read = 0;
+            while (read < len && !buffers.isEmpty()) {
+                ByteBuf head = buffers.peek();
+                int chunk = Math.min(len - read, head.readableBytes());
+                head.readBytes(b, off + read, chunk);
+                read += chunk;
 
-            if (readableBytes() == 0) {
-                if (closed.get()) {
-                    return -1;
+                if (!head.isReadable()) {
+                    buffers.poll().release();
                 }
             }
+            bufferedBytes -= read;
+            resumeIfDrained();
 
-            if (current != null && current.readableBytes() > 0) {
-                return current.readByte();
-            } else {
-                return read();
+            return read;
+        }
+
+        /**
+         * Writes the received buffers to the channel as they arrive, without copying them. The event loop keeps
+         * receiving while a buffer is written.
+         */
+        @Override
+        public long transferTo(WritableByteChannel target) throws IOException {
+            long transferred = 0;
+            ByteBuf byteBuf;
+            while ((byteBuf = take()) != null) {
+                try {
+                    for (ByteBuffer nioBuffer : byteBuf.nioBuffers()) {
+                        while (nioBuffer.hasRemaining()) {
+                            transferred += target.write(nioBuffer);
+                        }
+                    }
+                } finally {
+                    byteBuf.release();
+                }
             }
+            return transferred;
+        }
+
+        /**
+         * Removes the next buffer, null at the end of the response.
+         */
+        private synchronized ByteBuf take() throws IOException {
+            if (!awaitBuffer()) {
+                return null;
+            }
+
+            ByteBuf byteBuf = buffers.poll();
+            bufferedBytes -= byteBuf.readableBytes();
+            resumeIfDrained();
+            return byteBuf;
         }
 
-        private void poll() {
-            if (readableBytes() == 0) {
+        /**
+         * Waits for a buffer to be received.
+         *
+         * @return false at the end of the response
+         */
+        private boolean awaitBuffer() throws IOException {
+            while (buffers.isEmpty()) {
+                if (closed) {
+                    throw new IOException("Stream closed");
+                } else if (failure != null) {
+                    throw failure;
+                } else if (ended) {
+                    return false;
+                }
+
                 try {
-                    current = queue.poll(50, TimeUnit.MILLISECONDS);
+                    wait();
                 } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
                 }
             }
+            return true;
+        }
+
+        private void resumeIfDrained() {
+            if (suspended && bufferedBytes <= LOW_WATER_MARK) {
+                suspended = false;
+                // the channel may serve another request once the response has ended
+                if (!ended) {
+                    channel.config().setAutoRead(true);
+                }
+            }
+        }
+
+        @Override
+        public synchronized int available() throws IOException {
+            return bufferedBytes;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            ByteBuf byteBuf;
+            while ((byteBuf = buffers.poll()) != null) {
+                byteBuf.release();
+            }
+            bufferedBytes = 0;
+            notifyAll();
+
+            if (!ended) {
+                // the rest of the response can't be skipped
+                channel.close();
+            }
         }
     }
-}
\ No newline at end of file
+}
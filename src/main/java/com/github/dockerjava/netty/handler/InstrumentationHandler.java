@@ -0,0 +1,57 @@
+package com.github.dockerjava.netty.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpResponse;
+
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+
+/**
+ * Records the traffic of a request on its {@link DockerCmdExecution}. An instance at the head of the pipeline counts
+ * the bytes that are sent and received, an instance behind the HTTP codec records the status of the response.
+ */
+public class InstrumentationHandler extends ChannelDuplexHandler {
+
+    private final DockerCmdExecution execution;
+
+    private final boolean countBytes;
+
+    private InstrumentationHandler(DockerCmdExecution execution, boolean countBytes) {
+        this.execution = execution;
+        this.countBytes = countBytes;
+    }
+
+    /**
+     * Creates a handler that must be added in front of the codecs.
+     */
+    public static InstrumentationHandler countingBytes(DockerCmdExecution execution) {
+        return new InstrumentationHandler(execution, true);
+    }
+
+    /**
+     * Creates a handler that must be added behind the HTTP codec.
+     */
+    public static InstrumentationHandler recordingStatus(DockerCmdExecution execution) {
+        return new InstrumentationHandler(execution, false);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (countBytes && msg instanceof ByteBuf) {
+            execution.recordResponseBytes(((ByteBuf) msg).readableBytes());
+        } else if (!countBytes && msg instanceof HttpResponse) {
+            execution.recordStatusCode(((HttpResponse) msg).status().code());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (countBytes && msg instanceof ByteBuf) {
+            execution.recordRequestBytes(((ByteBuf) msg).readableBytes());
+        }
+        ctx.write(msg, promise);
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.dockerjava.netty.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.util.List;
+
+/**
+ * Handler that splits a JSON array into its elements and passes each of them on as a separate {@link ByteBuf} as soon
+ * as it has been received.
+ *
+ * Unlike {@link io.netty.handler.codec.json.JsonObjectDecoder} it remembers how far it has scanned relative to the
+ * reader index, so no element gets lost when the accumulated buffer is compacted between two reads.
+ */
+public class JsonArrayElementDecoder extends ByteToMessageDecoder {
+
+    private static final int DEFAULT_MAX_ELEMENT_LENGTH = 1024 * 1024;
+
+    private final int maxElementLength;
+
+    private boolean corrupted = false;
+
+    private boolean insideArray = false;
+
+    private boolean insideString = false;
+
+    private boolean escaped = false;
+
+    private int openBraces = 0;
+
+    // bytes behind the reader index that have already been scanned
+    private int scanned = 0;
+
+    public JsonArrayElementDecoder() {
+        this(DEFAULT_MAX_ELEMENT_LENGTH);
+    }
+
+    public JsonArrayElementDecoder(int maxElementLength) {
+        if (maxElementLength < 1) {
+            throw new IllegalArgumentException("maxElementLength must be a positive int");
+        }
+        this.maxElementLength = maxElementLength;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (corrupted) {
+            in.skipBytes(in.readableBytes());
+            return;
+        }
+
+        for (int idx = in.readerIndex() + scanned; idx < in.writerIndex(); idx++) {
+            byte c = in.getByte(idx);
+
+            if (!insideArray) {
+                if (c == '[') {
+                    insideArray = true;
+                } else if (!Character.isWhitespace(c)) {
+                    corrupted = true;
+                    throw new CorruptedFrameException("expected a JSON array but found '" + (char) c + "'");
+                }
+                // discard everything up to and including the opening bracket
+                in.readerIndex(idx + 1);
+            } else if (insideString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    insideString = false;
+                }
+            } else if (c == '"') {
+                insideString = true;
+            } else if (c == '{' || c == '[') {
+                openBraces++;
+            } else if (openBraces > 0 && (c == '}' || c == ']')) {
+                openBraces--;
+            } else if (openBraces == 0 && (c == ',' || c == ']')) {
+                extractElement(in, idx, out);
+                in.readerIndex(idx + 1);
+
+                if (c == ']') {
+                    insideArray = false;
+                }
+            }
+        }
+
+        scanned = in.readableBytes();
+
+        if (scanned > maxElementLength) {
+            corrupted = true;
+            in.skipBytes(in.readableBytes());
+            throw new TooLongFrameException("array element exceeds " + maxElementLength + " bytes");
+        }
+    }
+
+    private void extractElement(ByteBuf in, int endIndex, List<Object> out) {
+        int start = in.readerIndex();
+        int end = endIndex;
+
+        while (start < end && Character.isWhitespace(in.getByte(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(in.getByte(end - 1))) {
+            end--;
+        }
+
+        // an empty array has no element in front of the closing bracket
+        if (end > start) {
+            out.add(in.slice(start, end - start).retain());
+        }
+    }
+}
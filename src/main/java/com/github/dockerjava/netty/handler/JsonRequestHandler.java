@@ -4,7 +4,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.core.DockerObjectMapper;
 
 /**
  * Handler that encodes an outgoing object to JSON.
@@ -13,11 +13,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class JsonRequestHandler extends MessageToByteEncoder<Object>{
 
-	private ObjectMapper mapper = new ObjectMapper();
-
 	@Override
 	protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
-		byte[] serialized = mapper.writeValueAsBytes(msg);
+		byte[] serialized = DockerObjectMapper.writerForValue(msg).writeValueAsBytes(msg);
 		out.writeBytes(serialized);
 	}
 }
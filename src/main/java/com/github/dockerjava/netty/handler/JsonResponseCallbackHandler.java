@@ -5,8 +5,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.core.DockerObjectMapper;
 
 /**
  * Handler that decodes an incoming byte stream into objects of T and calls {@link ResultCallback#onNext(Object)}
@@ -15,14 +16,25 @@ import com.github.dockerjava.api.async.ResultCallback;
  */
 public class JsonResponseCallbackHandler<T> extends SimpleChannelInboundHandler<ByteBuf> {
 
-    private static ObjectMapper objectMapper = new ObjectMapper();
-
-    private TypeReference<T> typeReference;
+    private final ObjectReader reader;
 
     private ResultCallback<T> callback;
 
     public JsonResponseCallbackHandler(TypeReference<T> typeReference, ResultCallback<T> callback) {
-        this.typeReference = typeReference;
+        this.reader = DockerObjectMapper.reader(typeReference);
+        this.callback = callback;
+    }
+
+    public JsonResponseCallbackHandler(Class<T> type, ResultCallback<T> callback) {
+        this.reader = DockerObjectMapper.reader(type);
+        this.callback = callback;
+    }
+
+    /**
+     * Decodes every object into {@code valueToUpdate} and passes that same instance to the callback.
+     */
+    public JsonResponseCallbackHandler(Class<T> type, T valueToUpdate, ResultCallback<T> callback) {
+        this.reader = DockerObjectMapper.reader(type).withValueToUpdate(valueToUpdate);
         this.callback = callback;
     }
 
@@ -34,7 +46,7 @@ public class JsonResponseCallbackHandler<T> extends SimpleChannelInboundHandler<
         T object = null;
 
         try {
-            object = objectMapper.readValue(buffer, typeReference);
+            object = reader.readValue(buffer);
         } catch (Exception e) {
             callback.onError(e);
             throw new RuntimeException(e);
@@ -0,0 +1,219 @@
+package com.github.dockerjava.netty.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.epoll.Native;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.unix.UnixChannel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Copies stdin to a hijacked attach or exec connection. The input is read in chunks of up to {@link #CHUNK_SIZE} bytes
+ * and written as is, each chunk is flushed immediately so that interactive sessions don't lag. A chunk is sized by what
+ * the input has available, or {@link #MIN_CHUNK_SIZE} if it can't tell, so keystrokes don't take 64 KiB each. While the
+ * outbound buffer of the channel is above its high water mark, reading stdin pauses until the channel becomes writable
+ * again. At the end of the input the write side of the connection is shut down once the remaining input has been
+ * written, which closes stdin of the container. This works for TCP as well as for unix domain sockets.
+ *
+ * Stdin is read by a thread of a shared pool, which is interrupted when the connection closes.
+ */
+public class StdinPumpHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StdinPumpHandler.class);
+
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    public static final int MIN_CHUNK_SIZE = 4 * 1024;
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("docker-java-stdin-%d").setDaemon(true).build());
+
+    private final Source source;
+
+    private final ResultCallback<?> resultCallback;
+
+    private final Object writabilityLock = new Object();
+
+    private StdinPumpHandler(Source source, ResultCallback<?> resultCallback) {
+        this.source = source;
+        this.resultCallback = resultCallback;
+    }
+
+    public static StdinPumpHandler fromStream(final InputStream stdin, ResultCallback<?> resultCallback) {
+        return new StdinPumpHandler(new Source() {
+            @Override
+            public int available() throws IOException {
+                return stdin.available();
+            }
+
+            @Override
+            public int read(ByteBuf byteBuf) throws IOException {
+                return byteBuf.writeBytes(stdin, byteBuf.writableBytes());
+            }
+        }, resultCallback);
+    }
+
+    public static StdinPumpHandler fromChannel(final ReadableByteChannel stdin, ResultCallback<?> resultCallback) {
+        return new StdinPumpHandler(new Source() {
+            @Override
+            public int available() throws IOException {
+                if (stdin instanceof SeekableByteChannel) {
+                    SeekableByteChannel seekable = (SeekableByteChannel) stdin;
+                    return (int) Math.min(seekable.size() - seekable.position(), Integer.MAX_VALUE);
+                }
+                return 0;
+            }
+
+            @Override
+            public int read(ByteBuf byteBuf) throws IOException {
+                ByteBuffer target = byteBuf.nioBuffer(byteBuf.writerIndex(), byteBuf.writableBytes());
+                int read = stdin.read(target);
+                if (read > 0) {
+                    byteBuf.writerIndex(byteBuf.writerIndex() + read);
+                }
+                return read;
+            }
+        }, resultCallback);
+    }
+
+    /**
+     * Starts copying stdin to the channel, the handler must have been added to the pipeline of the channel before.
+     */
+    public void start(final Channel channel) {
+        final Future<?> pump = EXECUTOR.submit(new Runnable() {
+            @Override
+            public void run() {
+                pump(channel);
+            }
+        });
+
+        channel.closeFuture().addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                pump.cancel(true);
+            }
+        });
+    }
+
+    private void pump(Channel channel) {
+        ChannelFuture lastWrite = null;
+        try {
+            while (channel.isActive()) {
+                awaitWritable(channel);
+
+                int available = source.available();
+                ByteBuf byteBuf = channel.alloc().heapBuffer(
+                        available > 0 ? Math.min(available, CHUNK_SIZE) : MIN_CHUNK_SIZE);
+                int read;
+                try {
+                    read = source.read(byteBuf);
+                } catch (IOException e) {
+                    byteBuf.release();
+                    throw e;
+                }
+
+                if (read < 0) {
+                    byteBuf.release();
+                    // the end of the input may still be in the outbound buffer
+                    ChannelFuture written = lastWrite != null ? lastWrite : channel.newSucceededFuture();
+                    written.addListener(new ChannelFutureListener() {
+                        @Override
+                        public void operationComplete(ChannelFuture future) throws Exception {
+                            if (future.isSuccess()) {
+                                shutdownOutput(future.channel());
+                            }
+                        }
+                    });
+                    return;
+                } else if (read == 0) {
+                    byteBuf.release();
+                } else {
+                    lastWrite = channel.writeAndFlush(byteBuf);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            if (channel.isActive()) {
+                resultCallback.onError(e);
+            }
+        }
+    }
+
+    private void awaitWritable(Channel channel) throws InterruptedException {
+        synchronized (writabilityLock) {
+            while (channel.isActive() && !channel.isWritable()) {
+                writabilityLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Shuts the write side of the connection down, must be called on the event loop of the channel.
+     */
+    private void shutdownOutput(Channel channel) {
+        if (channel instanceof SocketChannel) {
+            ((SocketChannel) channel).shutdownOutput();
+        } else if (channel instanceof UnixChannel) {
+            // the unix domain socket channel of this netty version has no shutdownOutput()
+            try {
+                Native.shutdown(((UnixChannel) channel).fd().intValue(), false, true);
+            } catch (IOException e) {
+                if (channel.isActive()) {
+                    resultCallback.onError(e);
+                }
+            }
+        } else {
+            LOGGER.warn("{} can't be half-closed, leaving stdin of the container open", channel);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        synchronized (writabilityLock) {
+            writabilityLock.notifyAll();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        synchronized (writabilityLock) {
+            writabilityLock.notifyAll();
+        }
+        super.channelInactive(ctx);
+    }
+
+    private interface Source {
+
+        /**
+         * @return the number of bytes that can be read without blocking or 0 if unknown
+         */
+        int available() throws IOException;
+
+        /**
+         * Reads into the writable bytes of the buffer.
+         *
+         * @return the number of bytes read or -1 at the end of the input
+         */
+        int read(ByteBuf byteBuf) throws IOException;
+    }
+}
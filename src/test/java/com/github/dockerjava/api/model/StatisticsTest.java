@@ -0,0 +1,86 @@
+package com.github.dockerjava.api.model;
+
+import static com.github.dockerjava.test.serdes.JSONTestHelper.testRoundTrip;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.dockerjava.core.DockerObjectMapper;
+import com.github.dockerjava.test.serdes.JSONResourceRef;
+import com.github.dockerjava.test.serdes.JSONTestHelper;
+
+public class StatisticsTest {
+
+    private static final JSONResourceRef STATISTICS = new JSONResourceRef() {
+        @Override
+        public String getFileName() {
+            return "statistics.json";
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return StatisticsTest.class;
+        }
+    };
+
+    @Test
+    public void readsTypedStatistics() throws IOException {
+        Statistics statistics = testRoundTrip(STATISTICS, Statistics.class);
+
+        assertThat(statistics.getRead(), equalTo("2015-01-08T22:57:31.547920715Z"));
+        assertThat(statistics.getNetworks().get("eth0").getRxBytes(), equalTo(5338L));
+        assertThat(statistics.getMemoryStats().getUsage(), equalTo(6537216L));
+        assertThat(statistics.getMemoryStats().getStats().getRssHuge(), equalTo(6291456L));
+        assertThat(statistics.getBlkioStats().getIoServiceBytesRecursive(), hasSize(5));
+        assertThat(statistics.getBlkioStats().getIoServiceBytesRecursive().get(0).getOp(), equalTo("Read"));
+        assertThat(statistics.getBlkioStats().getIoServicedRecursive(), hasSize(0));
+        assertThat(statistics.getCpuStats().getCpuUsage().getPercpuUsage(), equalTo(new long[] { 16970827, 1839451,
+                7107380, 10571290 }));
+        assertThat(statistics.getCpuStats().getSystemCpuUsage(), equalTo(20091722000000000L));
+        assertThat(statistics.getCpuStats().getThrottlingData().getThrottledPeriods(), equalTo(0L));
+        assertThat(statistics.getPrecpuStats(), nullValue());
+    }
+
+    @Test
+    public void updatesInPlace() throws IOException {
+        Statistics statistics = new Statistics();
+        ObjectReader reader = DockerObjectMapper.reader(Statistics.class).withValueToUpdate(statistics);
+
+        reader.readValue(JSONTestHelper.readString(STATISTICS));
+        MemoryStats memoryStats = statistics.getMemoryStats();
+        NetworkStats eth0 = statistics.getNetworks().get("eth0");
+        long[] percpuUsage = statistics.getCpuStats().getCpuUsage().getPercpuUsage();
+
+        Statistics updated = reader.readValue("{\"networks\":{\"eth0\":{\"rx_bytes\":6000},\"eth1\":{\"rx_bytes\":1}},"
+                + "\"memory_stats\":{\"usage\":7000000},\"cpu_stats\":{\"cpu_usage\":{\"percpu_usage\":[1,2,3,4]}},"
+                + "\"precpu_stats\":{\"system_cpu_usage\":5}}");
+
+        assertThat(updated, sameInstance(statistics));
+        assertThat(statistics.getRead(), nullValue());
+        assertThat(statistics.getMemoryStats(), sameInstance(memoryStats));
+        assertThat(memoryStats.getUsage(), equalTo(7000000L));
+        assertThat(memoryStats.getLimit(), equalTo(0L));
+        assertThat(memoryStats.getStats(), nullValue());
+        assertThat(statistics.getNetworks().get("eth0"), sameInstance(eth0));
+        assertThat(eth0.getRxBytes(), equalTo(6000L));
+        assertThat(eth0.getTxBytes(), equalTo(0L));
+        assertThat(statistics.getCpuStats().getCpuUsage().getPercpuUsage(), sameInstance(percpuUsage));
+        assertThat(percpuUsage[3], equalTo(4L));
+        assertThat(statistics.getBlkioStats(), nullValue());
+        assertThat(statistics.getPrecpuStats(), notNullValue());
+
+        reader.readValue("{\"networks\":{\"eth1\":{\"rx_bytes\":2}}}");
+
+        assertThat(statistics.getNetworks().keySet(), contains("eth1"));
+        assertThat(statistics.getNetworks().get("eth1").getRxBytes(), equalTo(2L));
+    }
+}
@@ -5,6 +5,8 @@ package com.github.dockerjava.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -88,6 +90,45 @@ public class AuthConfigFileTest {
         Assert.assertEquals(runTest("idontexist"), expected);
     }
 
+    @Test
+    public void cachedConfigReloadedWhenChanged() throws IOException {
+        File file = File.createTempFile("dockercfg", null);
+        file.deleteOnExit();
+        Files.write(file.toPath(), "{\"quay.io\" : { \"auth\" : \"Zm9vOmJhcg==\", \"email\" :\"foo@example.com\"}}"
+                .getBytes(StandardCharsets.UTF_8));
+
+        AuthConfigFile loaded = AuthConfigFile.loadCachedConfig(file);
+        Assert.assertSame(AuthConfigFile.loadCachedConfig(file), loaded);
+        Assert.assertEquals(loaded.resolveAuthConfigForImage("quay.io/foo/bar:latest").getUsername(), "foo");
+        Assert.assertNull(loaded.resolveAuthConfigForImage("busybox"));
+
+        Files.write(file.toPath(), "{\"quay.io\" : { \"auth\" : \"Zm9vMTpiYXIx\", \"email\" : \"moo@example.com\"}}"
+                .getBytes(StandardCharsets.UTF_8));
+
+        AuthConfigFile reloaded = AuthConfigFile.loadCachedConfig(file);
+        Assert.assertNotSame(reloaded, loaded);
+        Assert.assertEquals(reloaded.resolveAuthConfigForImage("quay.io/foo/bar:latest").getUsername(), "foo1");
+    }
+
+    @Test
+    public void cachedConfigIsNotChangedByCallers() throws IOException {
+        File file = File.createTempFile("dockercfg", null);
+        file.deleteOnExit();
+        Files.write(file.toPath(), "{\"quay.io\" : { \"auth\" : \"Zm9vOmJhcg==\", \"email\" :\"foo@example.com\"}}"
+                .getBytes(StandardCharsets.UTF_8));
+
+        AuthConfigFile loaded = AuthConfigFile.loadCachedConfig(file);
+        loaded.resolveAuthConfigForImage("quay.io/foo/bar:latest").setServerAddress("example.com");
+        loaded.resolveAuthConfig("quay.io").setUsername("moo");
+        loaded.getAuthConfigurations().getConfigs().get("quay.io").setPassword("baz");
+
+        AuthConfig authConfig = AuthConfigFile.loadCachedConfig(file).resolveAuthConfigForImage(
+                "quay.io/foo/bar:latest");
+        Assert.assertEquals(authConfig.getServerAddress(), "quay.io");
+        Assert.assertEquals(authConfig.getUsername(), "foo");
+        Assert.assertEquals(authConfig.getPassword(), "bar");
+    }
+
     private AuthConfigFile runTest(String testFileName) throws IOException {
         return AuthConfigFile.loadConfig(new File(FILESROOT, testFileName));
     }
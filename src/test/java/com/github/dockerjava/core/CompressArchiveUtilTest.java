@@ -10,6 +10,11 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
 
 import com.github.dockerjava.core.util.CompressArchiveUtil;
@@ -31,6 +36,32 @@ public class CompressArchiveUtilTest {
         assertThat("should be executable", expectedFile.canExecute());
     }
 
+    @Test
+    public void testStreamedArchiveContainsAllFiles() throws Exception {
+        File baseDir = Files.createTempDirectory("streamedArchive").toFile();
+        File smallFile = new File(baseDir, "small.txt");
+        FileUtils.writeStringToFile(smallFile, "small");
+        File largeFile = new File(new File(baseDir, "sub"), "large.bin");
+        byte[] largeContent = new byte[300 * 1024];
+        new Random(0).nextBytes(largeContent);
+        FileUtils.writeByteArrayToFile(largeFile, largeContent);
+
+        Map<String, byte[]> entries = new HashMap<String, byte[]>();
+        try (TarArchiveInputStream tarArchiveInputStream = new TarArchiveInputStream(new GZIPInputStream(
+                CompressArchiveUtil.archiveTARFilesStream(baseDir, asList(smallFile, largeFile), true)))) {
+            TarArchiveEntry entry;
+            while ((entry = tarArchiveInputStream.getNextTarEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toByteArray(tarArchiveInputStream));
+            }
+        } finally {
+            FileUtils.deleteQuietly(baseDir);
+        }
+
+        assertThat(entries.size(), is(2));
+        assertThat(new String(entries.get("small.txt"), "UTF-8"), equalTo("small"));
+        assertThat(Arrays.equals(entries.get("sub/large.bin"), largeContent), is(true));
+    }
+
     private File createExecutableFile() throws IOException {
         File baseDir = new File(FileUtils.getTempDirectoryPath());
         File executableFile = new File(baseDir, "executableFile.sh");
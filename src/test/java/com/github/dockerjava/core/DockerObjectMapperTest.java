@@ -0,0 +1,55 @@
+package com.github.dockerjava.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Version;
+
+public class DockerObjectMapperTest {
+
+    @Test
+    public void cachesReadersAndWriters() {
+        assertThat(DockerObjectMapper.reader(Version.class), sameInstance(DockerObjectMapper.reader(Version.class)));
+        assertThat(DockerObjectMapper.writer(AuthConfig.class),
+                sameInstance(DockerObjectMapper.writer(AuthConfig.class)));
+    }
+
+    @Test
+    public void cachesReadersByGenericType() {
+        // every call site creates its own TypeReference instance
+        assertThat(DockerObjectMapper.reader(new TypeReference<List<Container>>() {
+        }), sameInstance(DockerObjectMapper.reader(new TypeReference<List<Container>>() {
+        })));
+    }
+
+    @Test
+    public void readsGenericTypes() throws Exception {
+        DockerObjectMapper.warmUp();
+
+        List<Container> containers = DockerObjectMapper.reader(new TypeReference<List<Container>>() {
+        }).readValue("[{\"Id\":\"a\"},{\"Id\":\"b\"}]");
+
+        assertThat(containers, hasSize(2));
+        assertThat(containers.get(1).getId(), equalTo("b"));
+    }
+
+    @Test
+    public void writesRuntimeType() throws Exception {
+        AuthConfig authConfig = new AuthConfig();
+        authConfig.setUsername("user");
+
+        String json = DockerObjectMapper.writerForValue(authConfig).writeValueAsString(authConfig);
+
+        assertThat(DockerObjectMapper.reader(AuthConfig.class).<AuthConfig> readValue(json).getUsername(),
+                equalTo("user"));
+    }
+}
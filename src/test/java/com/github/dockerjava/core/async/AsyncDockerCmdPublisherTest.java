@@ -0,0 +1,98 @@
+package com.github.dockerjava.core.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+import com.github.dockerjava.netty.DockerCmdExecFactoryImpl;
+
+public class AsyncDockerCmdPublisherTest {
+
+    private static final int MAX_CONNECTIONS = 2;
+
+    private FakeDockerDaemon daemon;
+
+    private URI uri;
+
+    @BeforeClass
+    public void startDaemon() throws Exception {
+        daemon = new FakeDockerDaemon().withPayloadSize(3);
+        uri = daemon.startTcp();
+    }
+
+    @AfterClass
+    public void stopDaemon() {
+        daemon.close();
+    }
+
+    private static class CountingSubscriber implements Subscriber<Event> {
+
+        final AtomicInteger items = new AtomicInteger();
+
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Event item) {
+            items.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void completedStreamsGiveUpTheirConnections() throws Exception {
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+        DockerCmdExecFactoryImpl dockerCmdExecFactory = new DockerCmdExecFactoryImpl().withMaxConnections(
+                MAX_CONNECTIONS).withConnectionAcquireTimeout(5000);
+
+        try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                .withDockerCmdExecFactory(dockerCmdExecFactory).build()) {
+
+            for (int i = 0; i < MAX_CONNECTIONS * 3; i++) {
+                CountingSubscriber subscriber = new CountingSubscriber();
+                new AsyncDockerCmdPublisher<Event>(dockerClient.eventsCmd()).subscribe(subscriber);
+
+                assertThat(subscriber.completed.await(5, TimeUnit.SECONDS), is(true));
+                assertThat(subscriber.items.get(), equalTo(3));
+
+                dockerClient.pingCmd().exec();
+            }
+
+            // the daemon notices closed connections asynchronously
+            long deadline = System.currentTimeMillis() + 5000;
+            while (daemon.getOpenConnections() > MAX_CONNECTIONS && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(daemon.getOpenConnections(), lessThanOrEqualTo(MAX_CONNECTIONS));
+        }
+    }
+}
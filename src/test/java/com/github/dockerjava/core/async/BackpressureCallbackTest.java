@@ -0,0 +1,184 @@
+package com.github.dockerjava.core.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.async.FlowControl;
+
+public class BackpressureCallbackTest {
+
+    private static class RecordingSubscriber implements Subscriber<Integer> {
+
+        final List<Integer> items = new CopyOnWriteArrayList<Integer>();
+
+        final CountDownLatch terminated = new CountDownLatch(1);
+
+        volatile Throwable error;
+
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    private static class RecordingFlowControl implements Closeable, FlowControl {
+
+        volatile boolean suspended;
+
+        volatile boolean closed;
+
+        @Override
+        public void suspend() {
+            suspended = true;
+        }
+
+        @Override
+        public void resume() {
+            suspended = false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void suspendsTransportWhenBufferIsFull() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        RecordingFlowControl flowControl = new RecordingFlowControl();
+        BackpressureCallback<Integer> callback = new BackpressureCallback<Integer>(subscriber, 10);
+        callback.onStart(flowControl);
+
+        callback.request(5);
+        for (int i = 0; i < 14; i++) {
+            callback.onNext(i);
+        }
+        assertThat(subscriber.items.size(), equalTo(5));
+        assertThat(flowControl.suspended, is(false));
+
+        callback.onNext(14);
+        assertThat(flowControl.suspended, is(true));
+        assertThat(callback.getQueued(), equalTo(10));
+
+        callback.request(4);
+        assertThat("resumes at half the buffer size", flowControl.suspended, is(true));
+        callback.request(1);
+        assertThat(flowControl.suspended, is(false));
+
+        callback.onComplete();
+        assertThat(subscriber.completed, is(false));
+
+        callback.request(Long.MAX_VALUE);
+        assertThat(subscriber.items.size(), equalTo(15));
+        assertThat(subscriber.items.get(14), equalTo(14));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void blocksProducerWithoutFlowControl() throws Exception {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        final BackpressureCallback<Integer> callback = new BackpressureCallback<Integer>(subscriber, 10);
+        callback.onStart(new Closeable() {
+            @Override
+            public void close() throws IOException {
+            }
+        });
+
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 100; i++) {
+                    callback.onNext(i);
+                }
+                callback.onComplete();
+            }
+        });
+        producer.start();
+
+        producer.join(200);
+        assertThat(producer.isAlive(), is(true));
+        assertThat(callback.getQueued(), equalTo(10));
+
+        callback.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.terminated.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.items.size(), equalTo(100));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void cancelClosesStream() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        RecordingFlowControl flowControl = new RecordingFlowControl();
+        BackpressureCallback<Integer> callback = new BackpressureCallback<Integer>(subscriber, 10);
+        callback.onStart(flowControl);
+
+        callback.onNext(1);
+        callback.cancel();
+        callback.request(1);
+
+        assertThat(flowControl.closed, is(true));
+        assertThat(subscriber.items.size(), equalTo(0));
+    }
+
+    @Test
+    public void completionClosesStream() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        RecordingFlowControl flowControl = new RecordingFlowControl();
+        BackpressureCallback<Integer> callback = new BackpressureCallback<Integer>(subscriber, 10);
+        callback.onStart(flowControl);
+
+        callback.onNext(1);
+        callback.onComplete();
+
+        assertThat(flowControl.closed, is(true));
+        assertThat(subscriber.completed, is(false));
+
+        callback.request(1);
+        assertThat(subscriber.items.size(), equalTo(1));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void rejectsNonPositiveRequest() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        BackpressureCallback<Integer> callback = new BackpressureCallback<Integer>(subscriber, 10);
+        callback.onStart(new RecordingFlowControl());
+
+        callback.request(0);
+
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.dockerjava.core.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.model.Container;
+
+public class JsonArrayStreamProcessorTest {
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void passesElementsOneByOne() throws Exception {
+        ResultIterator<Container> containers = new ResultIterator<Container>(2);
+
+        new JsonArrayStreamProcessor<Container>(Container.class).processResponseStream(
+                json("[{\"Id\":\"a\"},{\"Id\":\"b\"},{\"Id\":\"c\"}]"), containers);
+
+        assertThat(containers.next().getId(), equalTo("a"));
+        assertThat(containers.next().getId(), equalTo("b"));
+        assertThat(containers.next().getId(), equalTo("c"));
+        assertThat(containers.hasNext(), is(false));
+    }
+
+    @Test
+    public void treatsNullAsEmptyArray() throws Exception {
+        ResultIterator<Container> containers = new ResultIterator<Container>();
+
+        new JsonArrayStreamProcessor<Container>(Container.class).processResponseStream(json("null"), containers);
+
+        assertThat(containers.hasNext(), is(false));
+    }
+
+    @Test(expectedExceptions = DockerClientException.class)
+    public void failsOnTruncatedArray() throws Exception {
+        ResultIterator<Container> containers = new ResultIterator<Container>();
+
+        new JsonArrayStreamProcessor<Container>(Container.class).processResponseStream(json("[{\"Id\":\"a\"},"),
+                containers);
+
+        assertThat(containers.next().getId(), equalTo("a"));
+        containers.hasNext();
+    }
+}
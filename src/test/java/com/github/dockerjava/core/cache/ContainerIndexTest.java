@@ -0,0 +1,72 @@
+package com.github.dockerjava.core.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class ContainerIndexTest {
+
+    private static List<String> ids(List<CachedContainer> containers) {
+        List<String> ids = new ArrayList<String>();
+        for (CachedContainer container : containers) {
+            ids.add(container.getId());
+        }
+        return ids;
+    }
+
+    private static CachedContainer container(String id, String name, ContainerStatus status, String labelValue) {
+        return new CachedContainer(id, name, "busybox:latest", null, status, Collections.singletonMap("role",
+                labelValue), null);
+    }
+
+    @Test
+    public void updatesIndexes() {
+        ContainerIndex index = new ContainerIndex();
+        index.put(container("a", "web", ContainerStatus.RUNNING, "frontend"));
+        index.put(container("b", "db", ContainerStatus.RUNNING, "backend"));
+
+        assertThat(ids(index.findByStatus(ContainerStatus.RUNNING)).size(), equalTo(2));
+        assertThat(ids(index.findByLabel("role", "backend")), contains("b"));
+        assertThat(index.findByName("web").getId(), equalTo("a"));
+
+        index.put(container("b", "db", ContainerStatus.EXITED, "backend"));
+
+        assertThat(ids(index.findByStatus(ContainerStatus.RUNNING)), contains("a"));
+        assertThat(ids(index.findByStatus(ContainerStatus.EXITED)), contains("b"));
+
+        index.remove("a");
+
+        assertThat(index.findByName("web"), nullValue());
+        assertThat(index.findByLabel("role", "frontend"), empty());
+        assertThat(ids(index.findByLabel("role")), contains("b"));
+        assertThat(ids(index.findByImage("busybox:latest")), contains("b"));
+    }
+
+    @Test
+    public void renamedContainer() {
+        ContainerIndex index = new ContainerIndex();
+        index.put(container("a", "old", ContainerStatus.RUNNING, "x"));
+        index.put(container("a", "new", ContainerStatus.RUNNING, "x"));
+
+        assertThat(index.findByName("old"), nullValue());
+        assertThat(index.findByName("new").getId(), equalTo("a"));
+    }
+
+    @Test
+    public void statusFromList() {
+        assertThat(ContainerStatus.fromListStatus("Up 2 hours"), equalTo(ContainerStatus.RUNNING));
+        assertThat(ContainerStatus.fromListStatus("Up 2 hours (Paused)"), equalTo(ContainerStatus.PAUSED));
+        assertThat(ContainerStatus.fromListStatus("Exited (0) 5 seconds ago"), equalTo(ContainerStatus.EXITED));
+        assertThat(ContainerStatus.fromListStatus(""), equalTo(ContainerStatus.CREATED));
+        assertThat(ContainerStatus.fromListStatus("Restarting (1) 2 seconds ago"),
+                equalTo(ContainerStatus.RESTARTING));
+    }
+}
@@ -1,10 +1,16 @@
 package com.github.dockerjava.core.command;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.testng.Assert.fail;
 
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
 
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
@@ -16,6 +22,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.client.AbstractDockerClientTest;
 
 @Test(groups = "integration")
@@ -52,4 +59,44 @@ public class SaveImageCmdImplTest extends AbstractDockerClientTest {
 
     }
 
+    @Test
+    public void saveImageToFile() throws Exception {
+        Path file = Files.createTempFile("busybox", ".tar");
+        try {
+            long size = dockerClient.saveImageCmd("busybox").saveTo(file);
+
+            assertThat(size, greaterThan(0L));
+            assertThat(Files.size(file), equalTo(size));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void saveMissingImageKeepsExistingFile() throws Exception {
+        Path directory = Files.createTempDirectory("save");
+        Path file = directory.resolve("image.tar");
+        byte[] archive = { 1, 2, 3 };
+        Files.write(file, archive);
+        try {
+            try {
+                dockerClient.saveImageCmd("non-existing-image-" + System.nanoTime()).saveTo(file);
+                fail("expected NotFoundException");
+            } catch (NotFoundException e) {
+                // expected
+            }
+
+            assertThat(Files.readAllBytes(file), equalTo(archive));
+            // no temporary file is left behind
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                Iterator<Path> iterator = files.iterator();
+                assertThat(iterator.next(), equalTo(file));
+                assertThat(iterator.hasNext(), equalTo(false));
+            }
+        } finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.github.dockerjava.core.dockerfile;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class IgnoreMatcherTest {
+
+    private static final List<String> IGNORES = asList("*.log", "target/*", "src/*/gen?", "!target/keep",
+            "docs/**", "a[/]b", "*/tmp/*", "!Dockerfile", "Dockerfile");
+
+    private static final List<String> FILES = asList("x.log", "dir/x.log", "target/a", "target/keep",
+            "target/sub/a", "src/main/gen1", "src/main/gen12", "src/gen1", "docs/a", "docs/a/b", "a/b", "one/tmp/x",
+            "one/two/tmp/x", "Dockerfile", "sub/Dockerfile");
+
+    @Test
+    public void candidatesMatchLikeAllPatterns() {
+        IgnoreMatcher ignoreMatcher = new IgnoreMatcher(IGNORES);
+
+        for (String file : FILES) {
+            int separator = file.lastIndexOf('/');
+            String directory = separator < 0 ? "" : file.substring(0, separator + 1);
+
+            assertThat(file, ignoreMatcher.effectiveMatchingIgnorePattern(file, ignoreMatcher.candidatesFor(directory)),
+                    equalTo(ignoreMatcher.effectiveMatchingIgnorePattern(file, ignoreMatcher.allPatterns())));
+        }
+    }
+
+    @Test
+    public void candidatesArePruned() {
+        IgnoreMatcher ignoreMatcher = new IgnoreMatcher(IGNORES);
+
+        // patterns with character class or '**' are never pruned
+        assertThat(ignoreMatcher.candidatesFor("other/deep/"), equalTo(new int[] {4, 5}));
+        assertThat(ignoreMatcher.candidatesFor("target/"), equalTo(new int[] {1, 4, 5, 6}));
+    }
+
+    @Test
+    public void exceptionRules() {
+        IgnoreMatcher ignoreMatcher = new IgnoreMatcher(IGNORES);
+
+        assertThat(ignoreMatcher.effectiveMatchingIgnorePattern("target/a", ignoreMatcher.allPatterns()),
+                equalTo("target/*"));
+        assertThat(ignoreMatcher.effectiveMatchingIgnorePattern("target/keep", ignoreMatcher.allPatterns()),
+                nullValue());
+        // the exception rule is followed by a matching pattern
+        assertThat(ignoreMatcher.effectiveMatchingIgnorePattern("Dockerfile", ignoreMatcher.allPatterns()),
+                equalTo("Dockerfile"));
+    }
+}
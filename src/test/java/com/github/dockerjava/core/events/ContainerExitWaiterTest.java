@@ -0,0 +1,78 @@
+package com.github.dockerjava.core.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.client.AbstractDockerClientTest;
+import com.github.dockerjava.core.command.WaitContainerResultCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+
+@Test(groups = "integration")
+public class ContainerExitWaiterTest extends AbstractDockerClientTest {
+
+    @BeforeTest
+    public void beforeTest() throws Exception {
+        super.beforeTest();
+    }
+
+    @AfterTest
+    public void afterTest() {
+        super.afterTest();
+    }
+
+    @BeforeMethod
+    public void beforeMethod(Method method) {
+        super.beforeMethod(method);
+    }
+
+    @AfterMethod
+    public void afterMethod(ITestResult result) {
+        super.afterMethod(result);
+    }
+
+    @Test
+    public void waitsForManyContainers() throws Exception {
+        try (ContainerExitWaiter waiter = new ContainerExitWaiter(dockerClient)) {
+            CreateContainerResponse exited = dockerClient.createContainerCmd("busybox").withCmd("sh", "-c", "exit 3")
+                    .exec();
+            dockerClient.startContainerCmd(exited.getId()).exec();
+            dockerClient.waitContainerCmd(exited.getId()).exec(new WaitContainerResultCallback()).awaitStatusCode();
+
+            CreateContainerResponse running = dockerClient.createContainerCmd("busybox")
+                    .withCmd("sh", "-c", "sleep 2; exit 5").exec();
+            dockerClient.startContainerCmd(running.getId()).exec();
+
+            // exited before the registration
+            ListenableFuture<Integer> exitedCode = waiter.waitFor(exited.getId());
+            ListenableFuture<Integer> runningCode = waiter.waitFor(running.getId());
+
+            assertThat(exitedCode.get(10, TimeUnit.SECONDS), equalTo(3));
+            assertThat(runningCode.get(10, TimeUnit.SECONDS), equalTo(5));
+        }
+    }
+
+    @Test
+    public void failsForNonExistingContainer() throws Exception {
+        try (ContainerExitWaiter waiter = new ContainerExitWaiter(dockerClient)) {
+            waiter.waitFor("non-existing").get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(NotFoundException.class));
+            return;
+        }
+        fail("expected NotFoundException");
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.dockerjava.core.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.model.Event;
+
+public class EventCursorTest {
+
+    @Test
+    public void dropsEventsDeliveredBefore() {
+        EventCursor cursor = new EventCursor(-1);
+
+        assertThat(cursor.advance(new Event("start", "a", "busybox", 100L)), is(true));
+        assertThat(cursor.advance(new Event("die", "a", "busybox", 100L)), is(true));
+        // subscribed again since 100
+        assertThat(cursor.advance(new Event("start", "a", "busybox", 100L)), is(false));
+        assertThat(cursor.advance(new Event("die", "a", "busybox", 100L)), is(false));
+        assertThat(cursor.advance(new Event("start", "b", "busybox", 100L)), is(true));
+        assertThat(cursor.advance(new Event("start", "a", "busybox", 101L)), is(true));
+        assertThat(cursor.advance(new Event("die", "b", "busybox", 99L)), is(false));
+
+        assertThat(cursor.getTime(), equalTo(101L));
+    }
+
+    @Test
+    public void resumesFromFile() throws IOException {
+        File file = new File(Files.createTempDirectory("cursor").toFile(), "events.cursor");
+        assertThat(EventCursor.readFrom(file).getTime(), equalTo(-1L));
+
+        EventCursor cursor = new EventCursor(-1);
+        cursor.advance(new Event("start", "a", "busybox", 100L));
+        cursor.writeTo(file);
+        cursor.advance(new Event("die", "a", "busybox", 100L));
+        cursor.writeTo(file);
+
+        EventCursor resumed = EventCursor.readFrom(file);
+        assertThat(resumed.getTime(), equalTo(100L));
+        assertThat(resumed.advance(new Event("die", "a", "busybox", 100L)), is(false));
+        assertThat(resumed.advance(new Event("stop", "a", "busybox", 100L)), is(true));
+    }
+
+    @Test
+    public void parsesDaemonTime() {
+        assertThat(EventCursor.parseTime("2015-12-14T16:41:00.123456789Z"), equalTo(1450111260L));
+        assertThat(EventCursor.parseTime("2015-12-14T17:41:00.5+01:00"), equalTo(1450111260L));
+        assertThat(EventCursor.parseTime("2015-12-14T16:41:00Z"), equalTo(1450111260L));
+        assertThat(EventCursor.parseTime(null), equalTo(-1L));
+        assertThat(EventCursor.parseTime("yesterday"), equalTo(-1L));
+    }
+}
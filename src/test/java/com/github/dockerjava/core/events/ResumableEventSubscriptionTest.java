@@ -0,0 +1,60 @@
+package com.github.dockerjava.core.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+import com.github.dockerjava.netty.DockerCmdExecFactoryImpl;
+
+public class ResumableEventSubscriptionTest {
+
+    private static class EventCollector extends ResultCallbackTemplate<EventCollector, Event> {
+
+        final List<Event> events = new CopyOnWriteArrayList<Event>();
+
+        @Override
+        public void onNext(Event event) {
+            events.add(event);
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void startsAtDaemonTimeAndDropsReplayedEvents() throws Exception {
+        // the fake daemon's clock and events are in 2015, far behind the local clock
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(3)) {
+            URI uri = daemon.startTcp();
+            DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString())
+                    .build();
+
+            EventCollector collector = new EventCollector();
+            try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                    .withDockerCmdExecFactory(new DockerCmdExecFactoryImpl()).build();
+                    ResumableEventSubscription subscription = new ResumableEventSubscription(dockerClient,
+                            collector).start()) {
+
+                long deadline = System.currentTimeMillis() + 10000;
+                while (collector.events.size() < 3 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+
+                // the stream ends after the events, the same events are sent again after reconnecting
+                Thread.sleep(1500);
+
+                assertThat(collector.events, hasSize(3));
+                assertThat(subscription.getCursor(), equalTo(1450111262L));
+            }
+        }
+    }
+}
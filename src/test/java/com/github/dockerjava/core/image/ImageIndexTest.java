@@ -0,0 +1,56 @@
+package com.github.dockerjava.core.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.Image;
+
+public class ImageIndexTest {
+
+    private static final String IMAGES = "[{\"Id\": \"sha256:aaaa\", "
+            + "\"RepoTags\": [\"busybox:latest\", \"busybox:1\"], \"RepoDigests\": [\"busybox@sha256:1111\"]}, "
+            + "{\"Id\": \"sha256:bbbb\", \"RepoTags\": [\"<none>:<none>\"], \"RepoDigests\": [\"<none>@<none>\"]}, "
+            + "{\"Id\": \"sha256:cccc\", \"RepoTags\": [\"localhost:5000/app:2\"]}]";
+
+    private static ImageIndex index() throws IOException {
+        List<Image> images = new ObjectMapper().readValue(IMAGES, new TypeReference<List<Image>>() {
+        });
+        return ImageIndex.of(images);
+    }
+
+    @Test
+    public void containsTagsAndDigests() throws IOException {
+        ImageIndex index = index();
+
+        assertThat(index.size(), equalTo(4));
+        assertThat(index.contains(ImageReference.parse("busybox")), is(true));
+        assertThat(index.contains(ImageReference.parse("library/busybox:1")), is(true));
+        assertThat(index.contains(ImageReference.parse("busybox@sha256:1111")), is(true));
+        assertThat(index.contains(ImageReference.parse("busybox:2")), is(false));
+        assertThat(index.getImageId(ImageReference.parse("localhost:5000/app:2")), equalTo("sha256:cccc"));
+    }
+
+    @Test
+    public void updates() throws IOException {
+        ImageIndex index = index();
+
+        ImageIndex pulled = index.with(ImageReference.parse("alpine:3.3"), null);
+        assertThat(pulled.contains(ImageReference.parse("alpine:3.3")), is(true));
+        assertThat(pulled.getImageId(ImageReference.parse("alpine:3.3")), nullValue());
+        assertThat(index.contains(ImageReference.parse("alpine:3.3")), is(false));
+
+        ImageIndex deleted = pulled.withoutImage("aaaa");
+        assertThat(deleted.contains(ImageReference.parse("busybox:latest")), is(false));
+        assertThat(deleted.contains(ImageReference.parse("busybox@sha256:1111")), is(false));
+        assertThat(deleted.size(), equalTo(2));
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.dockerjava.core.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.testng.annotations.Test;
+
+public class ImageReferenceTest {
+
+    @Test
+    public void normalisesOfficialImages() {
+        ImageReference image = ImageReference.parse("busybox");
+        assertThat(image.toString(), equalTo("busybox:latest"));
+        assertThat(ImageReference.parse("library/busybox:latest"), equalTo(image));
+        assertThat(ImageReference.parse("busybox:1.24"), not(equalTo(image)));
+    }
+
+    @Test
+    public void keepsRegistry() {
+        ImageReference image = ImageReference.parse("localhost:5000/team/app");
+        assertThat(image.getRepository(), equalTo("localhost:5000/team/app"));
+        assertThat(image.getTag(), equalTo("latest"));
+        assertThat(image.getPullName(), equalTo("localhost:5000/team/app"));
+    }
+
+    @Test
+    public void parsesDigest() {
+        ImageReference image = ImageReference.parse("busybox@sha256:abc");
+        assertThat(image.getTag(), nullValue());
+        assertThat(image.getDigest(), equalTo("sha256:abc"));
+        assertThat(image.getPullName(), equalTo("busybox@sha256:abc"));
+        assertThat(image.toString(), equalTo("busybox@sha256:abc"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.dockerjava.core.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.image.TransferProgress.LayerStatus;
+
+public class ProgressTrackerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static PullResponseItem item(String id, String status) throws IOException {
+        return OBJECT_MAPPER.readValue("{\"id\": \"" + id + "\", \"status\": \"" + status + "\"}",
+                PullResponseItem.class);
+    }
+
+    private static PullResponseItem downloading(String id, long current, long total) throws IOException {
+        return OBJECT_MAPPER.readValue("{\"id\": \"" + id + "\", \"status\": \"Downloading\", "
+                + "\"progressDetail\": {\"current\": " + current + ", \"total\": " + total + "}}",
+                PullResponseItem.class);
+    }
+
+    @Test
+    public void aggregatesLayers() throws IOException {
+        ProgressTracker tracker = new ProgressTracker();
+        tracker.update(item("latest", "Pulling from library/busybox"), 0);
+        tracker.update(item("a", "Pulling fs layer"), 0);
+        tracker.update(item("b", "Already exists"), 0);
+        tracker.update(downloading("a", 250, 1000), 0);
+
+        TransferProgress progress = tracker.getProgress();
+        assertThat(progress.getLayerCount(), equalTo(2));
+        assertThat(progress.getLayerStatus(0), equalTo(LayerStatus.TRANSFERRING));
+        assertThat(progress.getLayerTotalBytes(0), equalTo(1000L));
+        assertThat(progress.getCompletedLayers(), equalTo(1));
+        assertThat(progress.getPercent(), closeTo(62.5, 0.001));
+
+        tracker.update(item("a", "Download complete"), 0);
+        tracker.update(item("a", "Pull complete"), 0);
+        progress = tracker.getProgress();
+        assertThat(progress.getTransferredBytes(), equalTo(1000L));
+        assertThat(progress.getPercent(), closeTo(100, 0.001));
+    }
+
+    @Test
+    public void coalescesNotifications() throws IOException {
+        final List<TransferProgress> notifications = new ArrayList<TransferProgress>();
+        ProgressTracker tracker = new ProgressTracker().withNotificationInterval(1, TimeUnit.SECONDS).addListener(
+                new ProgressListener() {
+                    @Override
+                    public void onProgress(TransferProgress progress) {
+                        notifications.add(progress);
+                    }
+                });
+
+        tracker.update(downloading("a", 0, 4000), 0);
+        for (int i = 1; i <= 10; i++) {
+            tracker.update(downloading("a", i * 100, 4000), i * SECOND / 10);
+        }
+        tracker.update(downloading("a", 3000, 4000), 2 * SECOND);
+        tracker.finish(2 * SECOND);
+
+        assertThat(notifications.size(), equalTo(4));
+        assertThat(notifications.get(1).getTransferredBytes(), equalTo(1000L));
+        assertThat(notifications.get(1).getBytesPerSecond(), closeTo(1000, 0.001));
+        assertThat(notifications.get(2).getBytesPerSecond(), closeTo(2000, 0.001));
+        assertThat(notifications.get(3).isDone(), is(true));
+    }
+}
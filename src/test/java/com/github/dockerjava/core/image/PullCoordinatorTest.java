@@ -0,0 +1,161 @@
+package com.github.dockerjava.core.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import com.github.dockerjava.core.image.PullCoordinator.Priority;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+import com.github.dockerjava.netty.DockerCmdExecFactoryImpl;
+
+public class PullCoordinatorTest {
+
+    private static final int PAYLOAD_SIZE = 5;
+
+    // the status, the progress and the outcome
+    private static final int PULL_ITEMS = PAYLOAD_SIZE + 2;
+
+    private static class CollectingCallback extends PullImageResultCallback {
+
+        final List<PullResponseItem> items = new CopyOnWriteArrayList<PullResponseItem>();
+
+        @Override
+        public void onNext(PullResponseItem item) {
+            items.add(item);
+            super.onNext(item);
+        }
+    }
+
+    private static DockerClient dockerClient(FakeDockerDaemon daemon) throws Exception {
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder()
+                .withUri(daemon.startTcp().toString()).build();
+        return DockerClientBuilder.getInstance(config).withDockerCmdExecFactory(new DockerCmdExecFactoryImpl())
+                .build();
+    }
+
+    private static void awaitPulls(FakeDockerDaemon daemon, int pulls) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (daemon.getPulledImages().size() < pulls && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void pullsEachNormalisedImageOnce() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(PAYLOAD_SIZE).withLatency(500,
+                TimeUnit.MILLISECONDS);
+                DockerClient dockerClient = dockerClient(daemon);
+                PullCoordinator coordinator = new PullCoordinator(dockerClient)) {
+
+            CollectingCallback first = coordinator.pull("busybox", new CollectingCallback());
+            CollectingCallback second = coordinator.pull("library/busybox:latest", new CollectingCallback());
+            CollectingCallback third = coordinator.pull("busybox:latest", new CollectingCallback());
+
+            first.awaitSuccess();
+            second.awaitSuccess();
+            third.awaitSuccess();
+
+            assertThat(daemon.getPulledImages(), contains("busybox:latest"));
+            assertThat(second.items.size(), equalTo(PULL_ITEMS));
+            assertThat(third.items.size(), equalTo(PULL_ITEMS));
+            assertThat(coordinator.getRunningCount(), equalTo(0));
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void lateCallerReceivesLatestItemFirst() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(PAYLOAD_SIZE);
+                DockerClient dockerClient = dockerClient(daemon);
+                final PullCoordinator coordinator = new PullCoordinator(dockerClient)) {
+
+            final CollectingCallback late = new CollectingCallback();
+            CollectingCallback first = coordinator.pull("busybox", new CollectingCallback() {
+                @Override
+                public void onNext(PullResponseItem item) {
+                    super.onNext(item);
+                    // joins while the pull is streaming
+                    if (items.size() == 2) {
+                        coordinator.pull("busybox:latest", late);
+                    }
+                }
+            });
+
+            first.awaitSuccess();
+            late.awaitSuccess();
+
+            assertThat(daemon.getPulledImages(), contains("busybox:latest"));
+            assertThat(late.items.size(), equalTo(PULL_ITEMS - 1));
+            assertThat(late.items.get(0), is(first.items.get(1)));
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void queuedPullsStartByPriority() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(PAYLOAD_SIZE).withLatency(500,
+                TimeUnit.MILLISECONDS);
+                DockerClient dockerClient = dockerClient(daemon);
+                PullCoordinator coordinator = new PullCoordinator(dockerClient).withMaxConcurrentPulls(1)) {
+
+            CollectingCallback running = coordinator.pull("fake/running", new CollectingCallback());
+            CollectingCallback normal = coordinator.pull("fake/normal", new CollectingCallback());
+            CollectingCallback urgent = coordinator.pull("fake/urgent", Priority.CONTAINER_START,
+                    new CollectingCallback());
+
+            assertThat(coordinator.getRunningCount(), equalTo(1));
+            assertThat(coordinator.getQueuedCount(), equalTo(2));
+
+            running.awaitSuccess();
+            normal.awaitSuccess();
+            urgent.awaitSuccess();
+
+            assertThat(daemon.getPulledImages(), contains("fake/running:latest", "fake/urgent:latest",
+                    "fake/normal:latest"));
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void abortsPullWhenLastCallerCloses() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(PAYLOAD_SIZE).withLatency(10,
+                TimeUnit.SECONDS);
+                DockerClient dockerClient = dockerClient(daemon);
+                PullCoordinator coordinator = new PullCoordinator(dockerClient).withMaxConcurrentPulls(1)) {
+
+            CollectingCallback first = coordinator.pull("fake/aborted", new CollectingCallback());
+            CollectingCallback second = coordinator.pull("fake/aborted", new CollectingCallback());
+            coordinator.pull("fake/next", new CollectingCallback());
+            awaitPulls(daemon, 1);
+
+            // another caller still waits for the pull
+            first.close();
+            assertThat(coordinator.getRunningCount(), equalTo(1));
+            assertThat(coordinator.getQueuedCount(), equalTo(1));
+
+            // frees the slot long before the response would arrive
+            second.close();
+            awaitPulls(daemon, 2);
+
+            assertThat(daemon.getPulledImages(), contains("fake/aborted:latest", "fake/next:latest"));
+            assertThat(coordinator.getRunningCount(), equalTo(1));
+            assertThat(coordinator.getQueuedCount(), equalTo(0));
+
+            // the connection of the aborted pull is closed, the one of the next pull stays open
+            long deadline = System.currentTimeMillis() + 5000;
+            while (daemon.getOpenConnections() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(daemon.getOpenConnections(), equalTo(1));
+        }
+    }
+}
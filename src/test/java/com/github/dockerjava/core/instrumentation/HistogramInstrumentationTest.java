@@ -0,0 +1,76 @@
+package com.github.dockerjava.core.instrumentation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.net.URI;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.ListContainersCmdImpl;
+import com.github.dockerjava.core.command.LogContainerCmdImpl;
+import com.github.dockerjava.core.command.LogContainerResultCallback;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+
+public class HistogramInstrumentationTest {
+
+    private FakeDockerDaemon daemon;
+
+    private URI uri;
+
+    @BeforeClass
+    public void startDaemon() throws Exception {
+        daemon = new FakeDockerDaemon().withPayloadSize(5).withFrameSize(10);
+        uri = daemon.startTcp();
+    }
+
+    @AfterClass
+    public void stopDaemon() {
+        daemon.close();
+    }
+
+    @DataProvider
+    public Object[][] factories() {
+        HistogramInstrumentation jaxrsInstrumentation = new HistogramInstrumentation();
+        HistogramInstrumentation nettyInstrumentation = new HistogramInstrumentation();
+
+        return new Object[][] {
+                { new com.github.dockerjava.jaxrs.DockerCmdExecFactoryImpl().withInstrumentation(jaxrsInstrumentation),
+                        jaxrsInstrumentation },
+                { new com.github.dockerjava.netty.DockerCmdExecFactoryImpl().withInstrumentation(nettyInstrumentation),
+                        nettyInstrumentation } };
+    }
+
+    @Test(dataProvider = "factories")
+    public void recordsCommands(com.github.dockerjava.api.command.DockerCmdExecFactory dockerCmdExecFactory,
+            HistogramInstrumentation instrumentation) throws Exception {
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+
+        try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                .withDockerCmdExecFactory(dockerCmdExecFactory).build()) {
+
+            dockerClient.listContainersCmd().exec();
+            dockerClient.listContainersCmd().exec();
+
+            dockerClient.logContainerCmd(FakeDockerDaemon.CONTAINER_ID).withStdOut(true)
+                    .exec(new LogContainerResultCallback()).awaitCompletion();
+        }
+
+        HistogramInstrumentation.CommandMetrics list = instrumentation.getMetrics(ListContainersCmdImpl.class);
+        assertThat(list.getCount(), equalTo(2L));
+        assertThat(list.getErrors(), equalTo(0L));
+        assertThat(list.getResponseBytes(), greaterThan(0L));
+        assertThat(list.getTimeToFirstByte().getCount(), equalTo(2L));
+
+        HistogramInstrumentation.CommandMetrics logs = instrumentation.getMetrics(LogContainerCmdImpl.class);
+        assertThat(logs.getCount(), equalTo(1L));
+        assertThat(logs.getResponseBytes(), greaterThan(5L * 10));
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.dockerjava.core.instrumentation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverAllValues() {
+        long[] values = { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE };
+
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat("upper bound of " + value, LatencyHistogram.bucketUpperBound(index),
+                    greaterThanOrEqualTo(value));
+            if (index > 0) {
+                assertThat("upper bound below " + value, LatencyHistogram.bucketUpperBound(index - 1),
+                        lessThanOrEqualTo(value - 1));
+            }
+        }
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(histogram.getCount(), equalTo(1000L));
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS), equalTo(1000L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), equalTo(500500L));
+
+        long median = histogram.getPercentile(50, TimeUnit.MILLISECONDS);
+        assertThat(median, greaterThanOrEqualTo(500L));
+        assertThat(median, lessThanOrEqualTo(532L));
+
+        assertThat(histogram.getPercentile(100, TimeUnit.MILLISECONDS), equalTo(1000L));
+    }
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getPercentile(99, TimeUnit.MICROSECONDS), equalTo(0L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), equalTo(0L));
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.dockerjava.core.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.core.DockerObjectMapper;
+
+public class ContainerStatsHistoryTest {
+
+    private static Statistics statistics(long cpuUsage, long systemCpuUsage, long memoryUsage, long rxBytes)
+            throws IOException {
+        return DockerObjectMapper.reader(Statistics.class).readValue(
+                "{\"cpu_stats\":{\"cpu_usage\":{\"total_usage\":" + cpuUsage + ",\"percpu_usage\":[0,0]},"
+                        + "\"system_cpu_usage\":" + systemCpuUsage + "},"
+                        + "\"precpu_stats\":{\"cpu_usage\":{\"total_usage\":0},\"system_cpu_usage\":0},"
+                        + "\"memory_stats\":{\"usage\":" + memoryUsage + ",\"limit\":1000},"
+                        + "\"networks\":{\"eth0\":{\"rx_bytes\":" + rxBytes + "}}}");
+    }
+
+    @Test
+    public void derivesRatesFromConsecutiveSamples() throws IOException {
+        ContainerStatsHistory history = new ContainerStatsHistory("a", 3);
+        assertThat(history.snapshot(), nullValue());
+
+        history.add(statistics(100, 1000, 250, 0), 1000);
+        history.add(statistics(200, 1400, 500, 2000), 3000);
+
+        ContainerStats stats = history.snapshot();
+        assertThat(stats.getSamples(), equalTo(2));
+        // 100 of 400 system ticks on 2 cores
+        assertThat(stats.getCpuPercent(), closeTo(50, 0.001));
+        assertThat(stats.getMaxCpuPercent(), closeTo(50, 0.001));
+        assertThat(stats.getAverageCpuPercent(), closeTo(25, 0.001));
+        assertThat(stats.getMemoryPercent(), closeTo(50, 0.001));
+        assertThat(stats.getRxBytesPerSecond(), closeTo(1000, 0.001));
+        assertThat(stats.getTimestamp(), equalTo(3000L));
+    }
+
+    @Test
+    public void keepsTheLatestSamples() throws IOException {
+        ContainerStatsHistory history = new ContainerStatsHistory("a", 2);
+
+        history.add(statistics(0, 1000, 0, 0), 1000);
+        history.add(statistics(1000, 2000, 0, 0), 2000);
+        history.add(statistics(1000, 3000, 0, 0), 3000);
+        history.add(statistics(1500, 4000, 0, 0), 4000);
+
+        ContainerStats stats = history.snapshot();
+        assertThat(stats.getSamples(), equalTo(2));
+        assertThat(stats.getCpuPercent(), closeTo(100, 0.001));
+        assertThat(stats.getMaxCpuPercent(), closeTo(100, 0.001));
+        assertThat(stats.getAverageCpuPercent(), closeTo(50, 0.001));
+    }
+
+    @Test
+    public void ignoresResetCounters() throws IOException {
+        ContainerStatsHistory history = new ContainerStatsHistory("a", 2);
+
+        history.add(statistics(1000, 2000, 0, 5000), 1000);
+        history.add(statistics(10, 3000, 0, 10), 2000);
+
+        ContainerStats stats = history.snapshot();
+        assertThat(stats.getCpuPercent(), closeTo(0, 0.001));
+        assertThat(stats.getRxBytesPerSecond(), closeTo(0, 0.001));
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.dockerjava.core.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+import com.github.dockerjava.netty.DockerCmdExecFactoryImpl;
+
+public class StatsAggregatorTest {
+
+    @Test(timeOut = 30000)
+    public void followsAtMostMaxContainers() throws Exception {
+        // the stats streams stay open for the latency, so that the followed containers keep running meanwhile
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(5).withLatency(3, TimeUnit.SECONDS)) {
+            URI uri = daemon.startTcp();
+            DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString())
+                    .build();
+
+            try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                    .withDockerCmdExecFactory(new DockerCmdExecFactoryImpl()).build();
+                    StatsAggregator aggregator = new StatsAggregator(dockerClient).withMaxContainers(2).start()) {
+
+                // the die events of the fake daemon arrive along with the list, so the number waiting varies
+                boolean following = false;
+                long deadline = System.currentTimeMillis() + 10000;
+                while (!following && System.currentTimeMillis() < deadline) {
+                    Set<String> followed = aggregator.getContainerIds();
+                    assertThat(followed.size(), lessThanOrEqualTo(2));
+                    following = followed.size() == 2 && !aggregator.getWaitingContainerIds().isEmpty();
+                    Thread.sleep(10);
+                }
+                assertThat(following, is(true));
+            }
+        }
+    }
+}
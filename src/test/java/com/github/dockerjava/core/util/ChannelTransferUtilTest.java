@@ -0,0 +1,29 @@
+package com.github.dockerjava.core.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+public class ChannelTransferUtilTest {
+
+    @Test
+    public void transfersStream() throws IOException {
+        byte[] content = new byte[10000];
+        new Random(0).nextBytes(content);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // the buffer size isn't a divisor of the content size
+        long transferred = ChannelTransferUtil.transfer(new ByteArrayInputStream(content),
+                Channels.newChannel(target), 768);
+
+        assertThat(transferred, equalTo((long) content.length));
+        assertThat(target.toByteArray(), equalTo(content));
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.dockerjava.fake;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.HttpServerCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * In-process stand-in for the Docker Remote API. It serves canned or generated responses for the endpoints the
+ * {@link com.github.dockerjava.api.DockerClient} uses, including multiplexed log/attach streams, chunked JSON streams
+ * and tar archives, so that both transports can be exercised and measured without a Docker daemon.
+ *
+ * <pre>
+ * try (FakeDockerDaemon daemon = new FakeDockerDaemon().withLatency(5, TimeUnit.MILLISECONDS)) {
+ *     URI uri = daemon.startTcp();
+ *     ...
+ * }
+ * </pre>
+ */
+public class FakeDockerDaemon implements Closeable {
+
+    public static final String CONTAINER_ID = "3cb9d6a8a4b8e0c8e5d5e3d4d2c1b0a9f8e7d6c5b4a3928170f6e5d4c3b2a190";
+
+    private long latencyMillis = 0;
+
+    private int payloadSize = 10;
+
+    private int frameSize = 100;
+
+    private int archiveSize = 64 * 1024;
+
+    private byte[] inspectContainerResponse;
+
+    private byte[] archive;
+
+    private final List<EventLoopGroup> eventLoopGroups = new ArrayList<EventLoopGroup>();
+
+    private final List<Channel> serverChannels = new ArrayList<Channel>();
+
+    private final List<File> socketFiles = new ArrayList<File>();
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+    private final List<String> pulledImages = new CopyOnWriteArrayList<String>();
+
+    /**
+     * Delay before the response (or the first byte of a stream) is sent.
+     */
+    public FakeDockerDaemon withLatency(long latency, TimeUnit timeUnit) {
+        this.latencyMillis = timeUnit.toMillis(latency);
+        return this;
+    }
+
+    /**
+     * Number of entries in list responses and of items in streamed responses.
+     */
+    public FakeDockerDaemon withPayloadSize(int payloadSize) {
+        this.payloadSize = payloadSize;
+        return this;
+    }
+
+    /**
+     * Payload size in bytes of each frame of log and attach streams.
+     */
+    public FakeDockerDaemon withFrameSize(int frameSize) {
+        this.frameSize = frameSize;
+        return this;
+    }
+
+    /**
+     * Size in bytes of the file contained in the served tar archives.
+     */
+    public FakeDockerDaemon withArchiveSize(int archiveSize) {
+        this.archiveSize = archiveSize;
+        return this;
+    }
+
+    long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    int getPayloadSize() {
+        return payloadSize;
+    }
+
+    int getFrameSize() {
+        return frameSize;
+    }
+
+    byte[] getInspectContainerResponse() {
+        return inspectContainerResponse;
+    }
+
+    byte[] getArchive() {
+        return archive;
+    }
+
+    /**
+     * Number of client connections that are currently open.
+     */
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Number of client connections that have been accepted since the start.
+     */
+    public int getAcceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    /**
+     * Images that have been requested to be pulled, as "repository:tag", in the order the requests arrived.
+     */
+    public List<String> getPulledImages() {
+        return pulledImages;
+    }
+
+    void pullRequested(String image) {
+        pulledImages.add(image);
+    }
+
+    /**
+     * Starts listening on an ephemeral port of the loopback interface.
+     *
+     * @return the URI to configure the client with
+     */
+    public synchronized URI startTcp() throws IOException {
+        prepare();
+
+        EventLoopGroup eventLoopGroup = new NioEventLoopGroup();
+        eventLoopGroups.add(eventLoopGroup);
+
+        Channel serverChannel = bind(new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+
+        return URI.create("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + port);
+    }
+
+    /**
+     * Starts listening on the given unix domain socket. Requires the native epoll transport (linux only).
+     *
+     * @return the URI to configure the client with
+     */
+    public synchronized URI startUnixSocket(File socketFile) throws IOException {
+        if (!Epoll.isAvailable()) {
+            throw new IOException("unix domain sockets need the native epoll transport", Epoll.unavailabilityCause());
+        }
+
+        prepare();
+
+        EventLoopGroup eventLoopGroup = new EpollEventLoopGroup();
+        eventLoopGroups.add(eventLoopGroup);
+
+        socketFile.delete();
+        socketFiles.add(socketFile);
+
+        bind(new ServerBootstrap().group(eventLoopGroup).channel(EpollServerDomainSocketChannel.class),
+                new DomainSocketAddress(socketFile));
+
+        return URI.create("unix://" + socketFile.getAbsolutePath());
+    }
+
+    private Channel bind(ServerBootstrap serverBootstrap, SocketAddress address) throws IOException {
+        serverBootstrap.childHandler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel channel) throws Exception {
+                openConnections.incrementAndGet();
+                acceptedConnections.incrementAndGet();
+                channel.closeFuture().addListener(new ChannelFutureListener() {
+                    @Override
+                    public void operationComplete(ChannelFuture future) throws Exception {
+                        openConnections.decrementAndGet();
+                    }
+                });
+
+                channel.pipeline().addLast(new HttpServerCodec());
+                channel.pipeline().addLast(new FakeDockerDaemonHandler(FakeDockerDaemon.this));
+            }
+        });
+
+        try {
+            Channel serverChannel = serverBootstrap.bind(address).sync().channel();
+            serverChannels.add(serverChannel);
+            return serverChannel;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void prepare() throws IOException {
+        if (inspectContainerResponse == null) {
+            try (InputStream inputStream = getClass().getResourceAsStream(
+                    "/com/github/dockerjava/api/command/inspectContainerResponse_full.json")) {
+                inspectContainerResponse = ByteStreams.toByteArray(inputStream);
+            }
+        }
+
+        if (archive == null) {
+            archive = createArchive(archiveSize);
+        }
+    }
+
+    private static byte[] createArchive(int size) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size + 2048);
+
+        try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(outputStream)) {
+            TarArchiveEntry entry = new TarArchiveEntry("file.bin");
+            entry.setSize(size);
+            tarOutputStream.putArchiveEntry(entry);
+            tarOutputStream.write(new byte[size]);
+            tarOutputStream.closeArchiveEntry();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Channel serverChannel : serverChannels) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        serverChannels.clear();
+
+        for (EventLoopGroup eventLoopGroup : eventLoopGroups) {
+            eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        }
+        eventLoopGroups.clear();
+
+        for (File socketFile : socketFiles) {
+            socketFile.delete();
+        }
+        socketFiles.clear();
+    }
+}
@@ -0,0 +1,318 @@
+package com.github.dockerjava.fake;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Routes the requests of one connection to the canned or generated responses of the {@link FakeDockerDaemon}.
+ */
+class FakeDockerDaemonHandler extends SimpleChannelInboundHandler<HttpObject> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v\\d+\\.\\d+");
+
+    private static final Pattern CONTAINER_PATH = Pattern.compile("^/containers/([^/]+)/(\\w+)$");
+
+    private static final Pattern IMAGE_PATH = Pattern.compile("^/images/(.+)/(json|get|push|history|tag)$");
+
+    private static final String JSON = "application/json";
+
+    private static final String RAW_STREAM = "application/vnd.docker.raw-stream";
+
+    private static final String TAR = "application/x-tar";
+
+    private final FakeDockerDaemon daemon;
+
+    private HttpRequest request;
+
+    FakeDockerDaemonHandler(FakeDockerDaemon daemon) {
+        this.daemon = daemon;
+    }
+
+    @Override
+    protected void channelRead0(final ChannelHandlerContext ctx, HttpObject msg) throws Exception {
+        if (msg instanceof HttpRequest) {
+            request = (HttpRequest) msg;
+        }
+
+        // request bodies like build contexts are consumed without looking at them
+        if (msg instanceof LastHttpContent) {
+            final HttpRequest completedRequest = request;
+            request = null;
+
+            recordPull(completedRequest);
+
+            if (daemon.getLatencyMillis() > 0) {
+                ctx.executor().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        respond(ctx, completedRequest);
+                    }
+                }, daemon.getLatencyMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                respond(ctx, completedRequest);
+            }
+        }
+    }
+
+    /**
+     * Records pulls when they arrive, so that they can be told apart from the response after the latency.
+     */
+    private void recordPull(HttpRequest request) {
+        QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
+        if (!VERSION_PREFIX.matcher(decoder.path()).replaceFirst("").equals("/images/create")) {
+            return;
+        }
+
+        List<String> fromImage = decoder.parameters().get("fromImage");
+        List<String> tag = decoder.parameters().get("tag");
+        if (fromImage != null) {
+            daemon.pullRequested(fromImage.get(0) + (tag != null ? ":" + tag.get(0) : ""));
+        }
+    }
+
+    private void respond(ChannelHandlerContext ctx, HttpRequest request) {
+        String uri = VERSION_PREFIX.matcher(request.uri()).replaceFirst("");
+        int queryStart = uri.indexOf('?');
+        String path = queryStart < 0 ? uri : uri.substring(0, queryStart);
+        HttpMethod method = request.method();
+
+        boolean keepAlive = !HttpHeaderValues.CLOSE.toString().equalsIgnoreCase(
+                request.headers().get(HttpHeaderNames.CONNECTION));
+
+        if (path.equals("/_ping")) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, "text/plain", bytes("OK"));
+        } else if (path.equals("/version")) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.version()));
+        } else if (path.equals("/info")) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.info()));
+        } else if (path.equals("/containers/json")) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.containers(daemon.getPayloadSize())));
+        } else if (path.equals("/containers/create")) {
+            full(ctx, keepAlive, HttpResponseStatus.CREATED, JSON,
+                    bytes("{\"Id\":\"" + FakeDockerDaemon.CONTAINER_ID + "\",\"Warnings\":null}"));
+        } else if (path.equals("/images/json")) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.images(daemon.getPayloadSize())));
+        } else if (path.equals("/images/create")) {
+            jsonStream(ctx, keepAlive, FakeResponses.pullProgress(daemon.getPayloadSize()));
+        } else if (path.equals("/build")) {
+            jsonStream(ctx, keepAlive, FakeResponses.buildProgress(daemon.getPayloadSize()));
+        } else if (path.equals("/events")) {
+            jsonStream(ctx, keepAlive, FakeResponses.events(daemon.getPayloadSize()));
+        } else if (path.startsWith("/containers/")) {
+            respondContainer(ctx, keepAlive, method, path, request);
+        } else if (path.startsWith("/images/")) {
+            respondImage(ctx, keepAlive, method, path);
+        } else {
+            full(ctx, keepAlive, HttpResponseStatus.NOT_FOUND, "text/plain", bytes("page not found"));
+        }
+    }
+
+    private void respondContainer(ChannelHandlerContext ctx, boolean keepAlive, HttpMethod method, String path,
+            HttpRequest request) {
+
+        if (HttpMethod.DELETE.equals(method)) {
+            noContent(ctx, keepAlive);
+            return;
+        }
+
+        Matcher matcher = CONTAINER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            full(ctx, keepAlive, HttpResponseStatus.NOT_FOUND, "text/plain", bytes("page not found"));
+            return;
+        }
+
+        String id = matcher.group(1);
+
+        switch (matcher.group(2)) {
+        case "json":
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, daemon.getInspectContainerResponse());
+            break;
+        case "logs":
+            stream(ctx, keepAlive, RAW_STREAM, frames());
+            break;
+        case "attach":
+            if (request.headers().contains(HttpHeaderNames.UPGRADE)) {
+                hijack(ctx, frames());
+            } else {
+                stream(ctx, keepAlive, RAW_STREAM, frames());
+            }
+            break;
+        case "wait":
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes("{\"StatusCode\":0}"));
+            break;
+        case "stats":
+            jsonStream(ctx, keepAlive, FakeResponses.statistics(daemon.getPayloadSize()));
+            break;
+        case "top":
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.top()));
+            break;
+        case "changes":
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes("[{\"Path\":\"/dev\",\"Kind\":0}]"));
+            break;
+        case "archive":
+        case "copy":
+        case "export":
+            full(ctx, keepAlive, HttpResponseStatus.OK, TAR, daemon.getArchive());
+            break;
+        case "exec":
+            full(ctx, keepAlive, HttpResponseStatus.CREATED, JSON, bytes("{\"Id\":\"" + id + "\"}"));
+            break;
+        default:
+            // start, stop, kill, restart, pause, unpause, rename, resize, commit
+            noContent(ctx, keepAlive);
+        }
+    }
+
+    private void respondImage(ChannelHandlerContext ctx, boolean keepAlive, HttpMethod method, String path) {
+        if (HttpMethod.DELETE.equals(method)) {
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes("[{\"Deleted\":\"" + FakeDockerDaemon.CONTAINER_ID
+                    + "\"}]"));
+            return;
+        }
+
+        Matcher matcher = IMAGE_PATH.matcher(path);
+        if (!matcher.matches()) {
+            full(ctx, keepAlive, HttpResponseStatus.NOT_FOUND, "text/plain", bytes("page not found"));
+            return;
+        }
+
+        switch (matcher.group(2)) {
+        case "json":
+            full(ctx, keepAlive, HttpResponseStatus.OK, JSON, bytes(FakeResponses.inspectImage(matcher.group(1))));
+            break;
+        case "get":
+            full(ctx, keepAlive, HttpResponseStatus.OK, TAR, daemon.getArchive());
+            break;
+        case "push":
+            jsonStream(ctx, keepAlive, FakeResponses.pushProgress(daemon.getPayloadSize()));
+            break;
+        default:
+            full(ctx, keepAlive, HttpResponseStatus.CREATED, JSON, bytes("[]"));
+        }
+    }
+
+    /**
+     * Multiplexed stdout/stderr frames as returned by logs and attach.
+     */
+    private ByteBuf[] frames() {
+        byte[] payload = new byte[daemon.getFrameSize()];
+        Arrays.fill(payload, (byte) 'x');
+        payload[payload.length - 1] = '\n';
+
+        ByteBuf[] frames = new ByteBuf[daemon.getPayloadSize()];
+        for (int i = 0; i < frames.length; i++) {
+            ByteBuf frame = Unpooled.buffer(8 + payload.length);
+            frame.writeByte(i % 2 + 1);
+            frame.writeZero(3);
+            frame.writeInt(payload.length);
+            frame.writeBytes(payload);
+            frames[i] = frame;
+        }
+        return frames;
+    }
+
+    private void full(ChannelHandlerContext ctx, boolean keepAlive, HttpResponseStatus status, String contentType,
+            byte[] content) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status,
+                Unpooled.wrappedBuffer(content));
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.length);
+
+        finish(ctx.writeAndFlush(response), keepAlive);
+    }
+
+    private void noContent(ChannelHandlerContext ctx, boolean keepAlive) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NO_CONTENT);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+
+        finish(ctx.writeAndFlush(response), keepAlive);
+    }
+
+    private void jsonStream(ChannelHandlerContext ctx, boolean keepAlive, String[] items) {
+        ByteBuf[] chunks = new ByteBuf[items.length];
+        for (int i = 0; i < items.length; i++) {
+            chunks[i] = Unpooled.wrappedBuffer(bytes(items[i] + "\r\n"));
+        }
+        stream(ctx, keepAlive, JSON, chunks);
+    }
+
+    private void stream(ChannelHandlerContext ctx, boolean keepAlive, String contentType, ByteBuf[] chunks) {
+        HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        response.headers().set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+
+        ctx.write(response);
+        for (ByteBuf chunk : chunks) {
+            ctx.write(new DefaultHttpContent(chunk));
+        }
+
+        finish(ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT), keepAlive);
+    }
+
+    /**
+     * Switches the connection to the raw protocol like the daemon does for attach requests with "Upgrade: tcp", sends
+     * the frames and closes the connection.
+     */
+    private void hijack(final ChannelHandlerContext ctx, final ByteBuf[] frames) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                HttpResponseStatus.SWITCHING_PROTOCOLS);
+        response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.UPGRADE);
+        response.headers().set(HttpHeaderNames.UPGRADE, "tcp");
+
+        ctx.writeAndFlush(response).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                ctx.pipeline().remove(HttpServerCodec.class);
+
+                for (ByteBuf frame : frames) {
+                    ctx.write(frame);
+                }
+
+                ctx.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE);
+            }
+        });
+    }
+
+    private static void finish(ChannelFuture future, boolean keepAlive) {
+        if (!keepAlive) {
+            future.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(UTF_8);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        ctx.close();
+    }
+}
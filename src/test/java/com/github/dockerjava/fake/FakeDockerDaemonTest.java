@@ -0,0 +1,72 @@
+package com.github.dockerjava.fake;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.DockerCmdExecFactory;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.LogContainerResultCallback;
+
+public class FakeDockerDaemonTest {
+
+    private FakeDockerDaemon daemon;
+
+    private URI uri;
+
+    @BeforeClass
+    public void startDaemon() throws Exception {
+        daemon = new FakeDockerDaemon().withPayloadSize(5).withFrameSize(10);
+        uri = daemon.startTcp();
+    }
+
+    @AfterClass
+    public void stopDaemon() {
+        daemon.close();
+    }
+
+    @DataProvider
+    public Object[][] factories() {
+        return new Object[][] { { new com.github.dockerjava.jaxrs.DockerCmdExecFactoryImpl() },
+                { new com.github.dockerjava.netty.DockerCmdExecFactoryImpl() } };
+    }
+
+    @Test(dataProvider = "factories")
+    public void servesRequests(DockerCmdExecFactory dockerCmdExecFactory) throws Exception {
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+
+        try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                .withDockerCmdExecFactory(dockerCmdExecFactory).build()) {
+
+            dockerClient.pingCmd().exec();
+
+            List<Container> containers = dockerClient.listContainersCmd().exec();
+            assertThat(containers, hasSize(5));
+
+            final List<Frame> frames = new ArrayList<Frame>();
+            dockerClient.logContainerCmd(FakeDockerDaemon.CONTAINER_ID).withStdOut(true).withStdErr(true)
+                    .exec(new LogContainerResultCallback() {
+                        @Override
+                        public void onNext(Frame frame) {
+                            frames.add(frame);
+                        }
+                    }).awaitCompletion();
+
+            assertThat(frames, hasSize(5));
+            assertThat(frames.get(0).getPayload().length, equalTo(10));
+        }
+    }
+}
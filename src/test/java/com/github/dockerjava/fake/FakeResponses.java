@@ -0,0 +1,110 @@
+package com.github.dockerjava.fake;
+
+/**
+ * Generated JSON bodies of the {@link FakeDockerDaemon}.
+ */
+final class FakeResponses {
+
+    private FakeResponses() {
+        // utility class
+    }
+
+    static String version() {
+        return "{\"ApiVersion\":\"1.22\",\"Arch\":\"amd64\",\"GitCommit\":\"a34a1d5\",\"GoVersion\":\"go1.5.3\","
+                + "\"KernelVersion\":\"4.1.12\",\"Os\":\"linux\",\"Version\":\"1.10.0\"}";
+    }
+
+    static String info() {
+        return "{\"Containers\":1,\"Images\":1,\"Driver\":\"overlay\",\"ID\":\"FAKE:DAEMON\",\"MemTotal\":2099236864,"
+                + "\"Name\":\"fake-docker-daemon\",\"NCPU\":4,\"OperatingSystem\":\"fake\","
+                + "\"SystemTime\":\"2015-12-14T16:41:00.123456789Z\"}";
+    }
+
+    static String containers(int count) {
+        StringBuilder containers = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            containers.append(i == 0 ? "" : ",").append("{\"Id\":\"").append(id(i))
+                    .append("\",\"Names\":[\"/fake_").append(i).append("\"],\"Image\":\"busybox:latest\",")
+                    .append("\"Command\":\"sleep 9999\",\"Created\":1450111260,\"Status\":\"Up 2 hours\",")
+                    .append("\"Ports\":[{\"PrivatePort\":2222,\"PublicPort\":3333,\"Type\":\"tcp\"}],")
+                    .append("\"Labels\":{\"com.example.index\":\"").append(i).append("\"}}");
+        }
+        return containers.append("]").toString();
+    }
+
+    static String images(int count) {
+        StringBuilder images = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            images.append(i == 0 ? "" : ",").append("{\"Id\":\"").append(id(i)).append("\",\"ParentId\":\"\",")
+                    .append("\"RepoTags\":[\"fake/image").append(i).append(":latest\"],\"Created\":1450111260,")
+                    .append("\"Size\":1093484,\"VirtualSize\":1093484}");
+        }
+        return images.append("]").toString();
+    }
+
+    static String inspectImage(String name) {
+        return "{\"Id\":\"" + id(0) + "\",\"Architecture\":\"amd64\",\"Author\":\"\",\"Comment\":\"\","
+                + "\"Created\":\"2015-12-14T16:41:00.000000000Z\",\"DockerVersion\":\"1.10.0\",\"Os\":\"linux\","
+                + "\"Parent\":\"\",\"RepoTags\":[\"" + name + "\"],\"Size\":1093484}";
+    }
+
+    static String top() {
+        return "{\"Titles\":[\"UID\",\"PID\",\"CMD\"],\"Processes\":[[\"root\",\"1\",\"sleep 9999\"]]}";
+    }
+
+    static String[] events(int count) {
+        String[] events = new String[count];
+        for (int i = 0; i < count; i++) {
+            events[i] = "{\"status\":\"" + (i % 2 == 0 ? "start" : "die") + "\",\"id\":\"" + id(i)
+                    + "\",\"from\":\"busybox:latest\",\"time\":" + (1450111260 + i) + "}";
+        }
+        return events;
+    }
+
+    static String[] pullProgress(int count) {
+        String[] progress = new String[count + 2];
+        progress[0] = "{\"status\":\"Pulling from fake/image\",\"id\":\"latest\"}";
+        for (int i = 0; i < count; i++) {
+            progress[i + 1] = "{\"status\":\"Downloading\",\"progressDetail\":{\"current\":" + (i + 1) * 1024
+                    + ",\"total\":" + count * 1024 + "},\"id\":\"" + id(0).substring(0, 12) + "\"}";
+        }
+        progress[count + 1] = "{\"status\":\"Status: Downloaded newer image for fake/image:latest\"}";
+        return progress;
+    }
+
+    static String[] pushProgress(int count) {
+        String[] progress = new String[count + 1];
+        for (int i = 0; i < count; i++) {
+            progress[i] = "{\"status\":\"Pushing\",\"progressDetail\":{\"current\":" + (i + 1) * 1024
+                    + ",\"total\":" + count * 1024 + "},\"id\":\"" + id(0).substring(0, 12) + "\"}";
+        }
+        progress[count] = "{\"status\":\"latest: digest: sha256:" + id(0) + " size: 1234\"}";
+        return progress;
+    }
+
+    static String[] buildProgress(int count) {
+        String[] progress = new String[count + 1];
+        for (int i = 0; i < count; i++) {
+            progress[i] = "{\"stream\":\"Step " + (i + 1) + " : RUN true\\n\"}";
+        }
+        progress[count] = "{\"stream\":\"Successfully built " + id(0).substring(0, 12) + "\\n\"}";
+        return progress;
+    }
+
+    static String[] statistics(int count) {
+        String[] statistics = new String[count];
+        for (int i = 0; i < count; i++) {
+            statistics[i] = "{\"read\":\"2015-12-14T16:41:0" + i % 10 + ".000000000Z\","
+                    + "\"networks\":{\"eth0\":{\"rx_bytes\":" + i * 100 + ",\"tx_bytes\":" + i * 50 + "}},"
+                    + "\"memory_stats\":{\"usage\":6537216,\"max_usage\":6651904,\"limit\":67108864},"
+                    + "\"blkio_stats\":{\"io_service_bytes_recursive\":[]},"
+                    + "\"cpu_stats\":{\"cpu_usage\":{\"total_usage\":" + i * 1000000L
+                    + ",\"percpu_usage\":[1,2]},\"system_cpu_usage\":" + (20091722000000000L + i * 10000000L) + "}}";
+        }
+        return statistics;
+    }
+
+    private static String id(int index) {
+        return String.format("%064x", index + 1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.dockerjava.jaxrs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.EventsResultCallback;
+import com.github.dockerjava.core.instrumentation.DockerCmdExecution;
+import com.github.dockerjava.core.instrumentation.DockerCmdInstrumentation;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+
+public class DockerCmdExecFactoryImplTest {
+
+    private FakeDockerDaemon daemon;
+
+    private URI uri;
+
+    @BeforeClass
+    public void startDaemon() throws Exception {
+        daemon = new FakeDockerDaemon().withPayloadSize(2).withLatency(200, TimeUnit.MILLISECONDS);
+        uri = daemon.startTcp();
+    }
+
+    @AfterClass
+    public void stopDaemon() {
+        daemon.close();
+    }
+
+    private DockerClient dockerClient(DockerCmdExecFactoryImpl dockerCmdExecFactory) {
+        DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString()).build();
+        return DockerClientBuilder.getInstance(config).withDockerCmdExecFactory(dockerCmdExecFactory).build();
+    }
+
+    @Test(timeOut = 30000)
+    public void asyncCommandsAreLimitedByDefault() throws Exception {
+        int maxThreads = DockerCmdExecFactoryImpl.DEFAULT_MAX_ASYNC_THREADS;
+        // enough connections that all commands stream at once and hold their threads for the latency
+        DockerCmdExecFactoryImpl dockerCmdExecFactory = new DockerCmdExecFactoryImpl().withMaxTotalConnections(
+                maxThreads).withMaxPerRouteConnections(maxThreads);
+
+        try (FakeDockerDaemon slowDaemon = new FakeDockerDaemon().withPayloadSize(2).withLatency(3, TimeUnit.SECONDS)) {
+            DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder()
+                    .withUri(slowDaemon.startTcp().toString()).build();
+
+            try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                    .withDockerCmdExecFactory(dockerCmdExecFactory).build()) {
+                List<EventsResultCallback> callbacks = new ArrayList<EventsResultCallback>();
+                for (int i = 0; i < maxThreads; i++) {
+                    callbacks.add(dockerClient.eventsCmd().exec(new EventsResultCallback()));
+                }
+
+                // the threads start running their commands asynchronously
+                long deadline = System.currentTimeMillis() + 2000;
+                while (dockerCmdExecFactory.getAsyncActiveCount() < maxThreads
+                        && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertThat(dockerCmdExecFactory.getAsyncActiveCount(), equalTo(maxThreads));
+
+                try {
+                    dockerClient.eventsCmd().exec(new EventsResultCallback());
+                    throw new AssertionError("command beyond the default limit wasn't rejected");
+                } catch (DockerClientException e) {
+                    // expected
+                }
+
+                for (EventsResultCallback callback : callbacks) {
+                    callback.awaitCompletion();
+                }
+            }
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void asyncCommandsWaitForConnectionsPerRoute() throws Exception {
+        DockerCmdExecFactoryImpl dockerCmdExecFactory = new DockerCmdExecFactoryImpl().withMaxPerRouteConnections(1);
+
+        try (DockerClient dockerClient = dockerClient(dockerCmdExecFactory)) {
+            List<EventsResultCallback> callbacks = new ArrayList<EventsResultCallback>();
+            for (int i = 0; i < 3; i++) {
+                callbacks.add(dockerClient.eventsCmd().exec(new EventsResultCallback()));
+            }
+
+            for (EventsResultCallback callback : callbacks) {
+                callback.awaitCompletion();
+            }
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void asyncCommandBeyondLimitIsRejected() throws Exception {
+        DockerCmdExecFactoryImpl dockerCmdExecFactory = new DockerCmdExecFactoryImpl().withMaxAsyncThreads(1);
+
+        try (DockerClient dockerClient = dockerClient(dockerCmdExecFactory)) {
+            EventsResultCallback running = dockerClient.eventsCmd().exec(new EventsResultCallback());
+
+            try {
+                dockerClient.eventsCmd().exec(new EventsResultCallback());
+                throw new AssertionError("second command wasn't rejected");
+            } catch (DockerClientException e) {
+                // expected
+            }
+
+            running.awaitCompletion();
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void rejectedAsyncCommandEndsItsExecution() throws Exception {
+        final List<DockerCmdExecution> ended = new CopyOnWriteArrayList<DockerCmdExecution>();
+        DockerCmdExecFactoryImpl dockerCmdExecFactory = new DockerCmdExecFactoryImpl().withMaxAsyncThreads(1)
+                .withInstrumentation(new DockerCmdInstrumentation() {
+                    @Override
+                    public void onStart(DockerCmdExecution execution) {
+                    }
+
+                    @Override
+                    public void onEnd(DockerCmdExecution execution) {
+                        ended.add(execution);
+                    }
+                });
+
+        try (DockerClient dockerClient = dockerClient(dockerCmdExecFactory)) {
+            EventsResultCallback running = dockerClient.eventsCmd().exec(new EventsResultCallback());
+
+            try {
+                dockerClient.eventsCmd().exec(new EventsResultCallback());
+                throw new AssertionError("second command wasn't rejected");
+            } catch (DockerClientException e) {
+                assertThat(ended, hasSize(1));
+                assertThat(ended.get(0).getError(), instanceOf(DockerClientException.class));
+            }
+
+            running.awaitCompletion();
+        }
+    }
+}
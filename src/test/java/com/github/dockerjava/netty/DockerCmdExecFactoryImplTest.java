@@ -0,0 +1,91 @@
+package com.github.dockerjava.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.async.ResultIterator;
+import com.github.dockerjava.fake.FakeDockerDaemon;
+
+public class DockerCmdExecFactoryImplTest {
+
+    @Test
+    public void usesEpollForTcpWhenAvailable() {
+        assertThat(DockerCmdExecFactoryImpl.useEpoll(null, null, true), is(true));
+        assertThat(DockerCmdExecFactoryImpl.useEpoll(null, true, true), is(true));
+        assertThat(DockerCmdExecFactoryImpl.useEpoll(null, null, false), is(false));
+        assertThat(DockerCmdExecFactoryImpl.useEpoll(null, true, false), is(false));
+    }
+
+    @Test
+    public void usesNioForTcpIfNativeTransportIsTurnedOff() {
+        assertThat(DockerCmdExecFactoryImpl.useEpoll(null, false, true), is(false));
+    }
+
+    @Test
+    public void externalEventLoopGroupSelectsTransport() {
+        EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        try {
+            assertThat(DockerCmdExecFactoryImpl.useEpoll(eventLoopGroup, true, true), is(false));
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void connectsToTcpHostWithEitherTransport() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon()) {
+            URI uri = daemon.startTcp();
+            DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString())
+                    .build();
+
+            // with epoll unavailable both clients use NIO
+            for (boolean nativeTransport : new boolean[] { false, Epoll.isAvailable() }) {
+                try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                        .withDockerCmdExecFactory(new DockerCmdExecFactoryImpl().withNativeTransport(nativeTransport))
+                        .build()) {
+                    dockerClient.pingCmd().exec();
+                }
+            }
+        }
+    }
+
+    @Test(timeOut = 30000)
+    public void completedListResponseReleasesItsConnection() throws Exception {
+        try (FakeDockerDaemon daemon = new FakeDockerDaemon().withPayloadSize(5)) {
+            URI uri = daemon.startTcp();
+            DockerClientConfig config = DockerClientConfig.createDefaultConfigBuilder().withUri(uri.toString())
+                    .build();
+
+            try (DockerClient dockerClient = DockerClientBuilder.getInstance(config)
+                    .withDockerCmdExecFactory(new DockerCmdExecFactoryImpl().withMaxConnections(1)).build()) {
+                for (int i = 0; i < 3; i++) {
+                    int containers = 0;
+                    try (ResultIterator<Container> iterator = dockerClient.listContainersCmd().exec(
+                            new ResultIterator<Container>())) {
+                        while (iterator.hasNext()) {
+                            iterator.next();
+                            containers++;
+                        }
+                    }
+                    assertThat(containers, equalTo(5));
+                }
+                dockerClient.pingCmd().exec();
+
+                assertThat(daemon.getAcceptedConnections(), equalTo(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.dockerjava.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+public class PooledChannelProviderTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private int connects;
+
+    private final PooledChannelProvider.Connector connector = new PooledChannelProvider.Connector() {
+        @Override
+        public Channel connect() {
+            connects++;
+            return new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        }
+    };
+
+    @BeforeMethod
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        connects = 0;
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void releasedChannelIsReused() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 2, 0, 0);
+
+        Channel channel = provider.getChannel();
+        provider.releaseChannel(channel);
+
+        assertThat(provider.getChannel(), sameInstance(channel));
+        assertThat(connects, equalTo(1));
+    }
+
+    @Test
+    public void requestHandlersAreRemovedOnRelease() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 0);
+
+        Channel channel = provider.getChannel();
+        int handlers = channel.pipeline().names().size();
+
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter());
+        channel.pipeline().addLast("request", new ChannelInboundHandlerAdapter());
+        provider.releaseChannel(channel);
+
+        assertThat(provider.getChannel().pipeline().names().size(), equalTo(handlers));
+    }
+
+    @Test
+    public void closedChannelIsNotReused() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 0);
+
+        Channel channel = provider.getChannel();
+        provider.releaseChannel(channel);
+        channel.close();
+
+        assertThat(provider.getChannel(), not(sameInstance(channel)));
+        assertThat(connects, equalTo(2));
+    }
+
+    @Test(expectedExceptions = DockerClientException.class)
+    public void acquireTimesOutWhenAllConnectionsAreInUse() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 50);
+
+        provider.getChannel();
+        provider.getChannel();
+    }
+
+    @Test
+    public void closingChannelFreesConnection() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 50);
+
+        provider.getChannel().close();
+
+        assertThat(provider.getOpenConnections(), equalTo(0));
+        provider.getChannel();
+    }
+
+    @Test
+    public void idleChannelIsEvicted() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 20, 0);
+
+        Channel channel = provider.getChannel();
+        provider.releaseChannel(channel);
+
+        Thread.sleep(200);
+
+        assertThat(channel.isOpen(), equalTo(false));
+        assertThat(provider.getIdleConnections(), equalTo(0));
+    }
+
+    @Test
+    public void streamingChannelsDontWaitForSlot() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 50);
+
+        provider.getChannel();
+        Channel streamingChannel = provider.getStreamingChannel();
+
+        assertThat(streamingChannel.isOpen(), equalTo(true));
+        assertThat(provider.getOpenConnections(), equalTo(1));
+    }
+
+    @Test
+    public void releasedStreamingChannelIsParkedIfSlotIsFree() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 50);
+
+        Channel first = provider.getStreamingChannel();
+        Channel second = provider.getStreamingChannel();
+        provider.releaseChannel(first);
+        provider.releaseChannel(second);
+
+        assertThat(first.isOpen(), equalTo(true));
+        assertThat(second.isOpen(), equalTo(false));
+        assertThat(provider.getOpenConnections(), equalTo(1));
+        assertThat(provider.getChannel(), sameInstance(first));
+    }
+
+    @Test
+    public void waitingAcquireGetsReleasedChannel() throws Exception {
+        final PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 0);
+        Channel channel = provider.getChannel();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Channel> waiting = executor.submit(new Callable<Channel>() {
+                @Override
+                public Channel call() throws Exception {
+                    return provider.getChannel();
+                }
+            });
+
+            Thread.sleep(50);
+            assertThat(waiting.isDone(), equalTo(false));
+
+            provider.releaseChannel(channel);
+            assertThat(waiting.get(5, TimeUnit.SECONDS), sameInstance(channel));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void interruptedAcquireKeepsInterruptFlag() throws Exception {
+        PooledChannelProvider provider = new PooledChannelProvider(connector, scheduler, 1, 0, 0);
+        provider.getChannel();
+
+        Thread.currentThread().interrupt();
+        try {
+            provider.getChannel();
+        } catch (DockerClientException e) {
+            assertThat(Thread.interrupted(), equalTo(true));
+            return;
+        }
+        throw new AssertionError("acquire wasn't interrupted");
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.dockerjava.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import io.netty.channel.EventLoopGroup;
+
+import org.testng.annotations.Test;
+
+public class SharedEventLoopGroupsTest {
+
+    @Test
+    public void sharesGroupUntilLastRelease() {
+        EventLoopGroup first = SharedEventLoopGroups.acquire(false, 1);
+        EventLoopGroup second = SharedEventLoopGroups.acquire(false, 4);
+
+        assertThat(second, sameInstance(first));
+        assertThat(SharedEventLoopGroups.getReferences(first), equalTo(2));
+
+        SharedEventLoopGroups.release(first);
+        assertThat(first.isShuttingDown(), is(false));
+
+        SharedEventLoopGroups.release(second);
+        assertThat(first.isShuttingDown(), is(true));
+        assertThat(SharedEventLoopGroups.getReferences(first), equalTo(0));
+    }
+
+    @Test
+    public void createsNewGroupAfterShutdown() {
+        EventLoopGroup first = SharedEventLoopGroups.acquire(false, 1);
+        SharedEventLoopGroups.release(first);
+
+        EventLoopGroup second = SharedEventLoopGroups.acquire(false, 1);
+        try {
+            assertThat(second, not(sameInstance(first)));
+            assertThat(second.isShuttingDown(), is(false));
+        } finally {
+            SharedEventLoopGroups.release(second);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsUnknownGroup() {
+        EventLoopGroup group = SharedEventLoopGroups.acquire(false, 1);
+        SharedEventLoopGroups.release(group);
+        SharedEventLoopGroups.release(group);
+    }
+}
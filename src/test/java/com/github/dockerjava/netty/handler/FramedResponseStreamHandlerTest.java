@@ -0,0 +1,107 @@
+package com.github.dockerjava.netty.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.github.dockerjava.netty.FrameBufferCallback;
+
+public class FramedResponseStreamHandlerTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static class FrameCollector extends ResultCallbackTemplate<FrameCollector, Frame> {
+
+        final List<Frame> frames = new ArrayList<Frame>();
+
+        @Override
+        public void onNext(Frame frame) {
+            frames.add(frame);
+        }
+    }
+
+    private static class BufferCollector extends FrameCollector implements FrameBufferCallback {
+
+        final List<String> payloads = new ArrayList<String>();
+
+        @Override
+        public void onNext(StreamType streamType, ByteBuf payload) {
+            payloads.add(streamType + ":" + payload.toString(UTF_8));
+        }
+    }
+
+    @Test
+    public void decodesFramesSplitAcrossBuffers() throws Exception {
+        FrameCollector collector = new FrameCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new FramedResponseStreamHandler(collector));
+
+        ByteBuf stream = Unpooled.wrappedBuffer(frame(1, "hello"), frame(2, "world"));
+
+        // feed the stream in chunks of three bytes
+        while (stream.isReadable()) {
+            channel.writeInbound(stream.readBytes(Math.min(3, stream.readableBytes())));
+        }
+
+        assertThat(collector.frames, contains(new Frame(StreamType.STDOUT, "hello".getBytes(UTF_8)), new Frame(
+                StreamType.STDERR, "world".getBytes(UTF_8))));
+    }
+
+    @Test
+    public void decodesMultipleFramesFromOneBuffer() throws Exception {
+        FrameCollector collector = new FrameCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new FramedResponseStreamHandler(collector));
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(1, "a"), frame(1, ""), frame(0, "b")));
+
+        assertThat(collector.frames, contains(new Frame(StreamType.STDOUT, "a".getBytes(UTF_8)), new Frame(
+                StreamType.STDOUT, new byte[0]), new Frame(StreamType.STDIN, "b".getBytes(UTF_8))));
+    }
+
+    @Test
+    public void passesRawStreamThrough() throws Exception {
+        FrameCollector collector = new FrameCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new FramedResponseStreamHandler(collector));
+
+        channel.writeInbound(Unpooled.copiedBuffer("raw stream data", UTF_8));
+
+        StringBuilder raw = new StringBuilder();
+        for (Frame frame : collector.frames) {
+            assertThat(frame.getStreamType(), equalTo(StreamType.RAW));
+            raw.append(new String(frame.getPayload(), UTF_8));
+        }
+        assertThat(raw.toString(), equalTo("raw stream data"));
+    }
+
+    @Test
+    public void passesBufferViewsToFrameBufferCallback() throws Exception {
+        BufferCollector collector = new BufferCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new FramedResponseStreamHandler(collector));
+
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(1, "out"), frame(2, "err")));
+
+        assertThat(collector.payloads, contains("STDOUT:out", "STDERR:err"));
+        assertThat(collector.frames.size(), equalTo(0));
+    }
+
+    private static byte[] frame(int streamType, String payload) {
+        byte[] bytes = payload.getBytes(UTF_8);
+        ByteBuf frame = Unpooled.buffer(8 + bytes.length);
+        frame.writeByte(streamType);
+        frame.writeZero(3);
+        frame.writeInt(bytes.length);
+        frame.writeBytes(bytes);
+        return frame.array();
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.dockerjava.netty.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static com.github.dockerjava.netty.handler.HttpResponseStreamHandler.HttpResponseInputStream.HIGH_WATER_MARK;
+import static com.github.dockerjava.netty.handler.HttpResponseStreamHandler.HttpResponseInputStream.LOW_WATER_MARK;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+
+public class HttpResponseStreamHandlerTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static class StreamCollector extends ResultCallbackTemplate<StreamCollector, InputStream> {
+
+        InputStream stream;
+
+        int errors;
+
+        @Override
+        public void onNext(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors++;
+            super.onError(throwable);
+        }
+    }
+
+    @Test
+    public void exceptionBeforeFirstContentFailsCallback() throws Exception {
+        StreamCollector collector = new StreamCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseStreamHandler(collector));
+
+        DecoderException cause = new DecoderException("invalid chunk size");
+        channel.pipeline().fireExceptionCaught(cause);
+
+        assertThat(channel.isOpen(), is(false));
+        assertThat(collector.stream, nullValue());
+        assertThat(collector.errors, equalTo(1));
+        try {
+            collector.awaitCompletion();
+            throw new AssertionError("error wasn't passed to the callback");
+        } catch (DecoderException e) {
+            assertThat(e, sameInstance(cause));
+        }
+    }
+
+    @Test
+    public void streamsBuffersWithoutCopying() throws Exception {
+        StreamCollector collector = new StreamCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseStreamHandler(collector));
+
+        ByteBuf first = Unpooled.copiedBuffer("hello ", UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("world", UTF_8);
+        channel.writeInbound(first);
+        channel.writeInbound(second);
+        channel.pipeline().fireUserEventTriggered(HttpResponseHandler.RESPONSE_COMPLETE);
+
+        assertThat(collector.stream, notNullValue());
+        assertThat(collector.stream.available(), equalTo(11));
+
+        byte[] buffer = new byte[64];
+        int read = collector.stream.read(buffer, 0, buffer.length);
+
+        assertThat(new String(buffer, 0, read, UTF_8), equalTo("hello world"));
+        assertThat(collector.stream.read(), equalTo(-1));
+        assertThat(first.refCnt(), equalTo(0));
+        assertThat(second.refCnt(), equalTo(0));
+    }
+
+    @Test
+    public void transfersBuffersToChannel() throws Exception {
+        StreamCollector collector = new StreamCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseStreamHandler(collector));
+
+        ByteBuf first = Unpooled.copiedBuffer("hello ", UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("world", UTF_8);
+        channel.writeInbound(first);
+        channel.writeInbound(second);
+        channel.pipeline().fireUserEventTriggered(HttpResponseHandler.RESPONSE_COMPLETE);
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        long transferred = ((HttpResponseStreamHandler.HttpResponseInputStream) collector.stream)
+                .transferTo(Channels.newChannel(target));
+
+        assertThat(transferred, equalTo(11L));
+        assertThat(new String(target.toByteArray(), UTF_8), equalTo("hello world"));
+        assertThat(first.refCnt(), equalTo(0));
+        assertThat(second.refCnt(), equalTo(0));
+    }
+
+    @Test
+    public void pausesReadingAboveHighWaterMark() throws Exception {
+        StreamCollector collector = new StreamCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseStreamHandler(collector));
+
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[HIGH_WATER_MARK]));
+
+        assertThat(channel.config().isAutoRead(), is(false));
+
+        byte[] buffer = new byte[8192];
+        int remaining = HIGH_WATER_MARK;
+        while (remaining > LOW_WATER_MARK) {
+            remaining -= collector.stream.read(buffer);
+        }
+
+        assertThat(channel.config().isAutoRead(), is(true));
+    }
+
+    @Test(expectedExceptions = IOException.class, timeOut = 10000)
+    public void failsOnPrematureClose() throws Exception {
+        StreamCollector collector = new StreamCollector();
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpResponseStreamHandler(collector));
+
+        channel.writeInbound(Unpooled.copiedBuffer("partial", UTF_8));
+        channel.close();
+        // the embedded event loop fires channelInactive only when its pending tasks are run
+        channel.runPendingTasks();
+
+        InputStream stream = collector.stream;
+        stream.read(new byte[7]);
+        stream.read();
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.dockerjava.netty.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class JsonArrayElementDecoderTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static List<String> decode(String json, int chunkSize) {
+        EmbeddedChannel channel = new EmbeddedChannel(new JsonArrayElementDecoder());
+
+        ByteBuf stream = Unpooled.copiedBuffer(json, UTF_8);
+        while (stream.isReadable()) {
+            channel.writeInbound(stream.readBytes(Math.min(chunkSize, stream.readableBytes())));
+        }
+
+        List<String> elements = new ArrayList<String>();
+        ByteBuf element;
+        while ((element = channel.readInbound()) != null) {
+            elements.add(element.toString(UTF_8));
+            element.release();
+        }
+        return elements;
+    }
+
+    @Test
+    public void decodesElementsSplitAcrossBuffers() throws Exception {
+        String json = "[{\"Id\":\"1\",\"Names\":[\"/a\"]}, {\"Id\":\"2\",\"Labels\":{\"k\":\"v\"}} ,\n{\"Id\":\"3\"}]";
+
+        // the decoder compacts its buffer between the chunks
+        for (int chunkSize = 1; chunkSize <= json.length(); chunkSize++) {
+            assertThat(decode(json, chunkSize), contains("{\"Id\":\"1\",\"Names\":[\"/a\"]}",
+                    "{\"Id\":\"2\",\"Labels\":{\"k\":\"v\"}}", "{\"Id\":\"3\"}"));
+        }
+    }
+
+    @Test
+    public void ignoresBracketsInsideStrings() throws Exception {
+        assertThat(decode("[{\"Command\":\"echo ],\\\"[\"},{\"Path\":\"C:\\\\\"}]", 4), contains(
+                "{\"Command\":\"echo ],\\\"[\"}", "{\"Path\":\"C:\\\\\"}"));
+    }
+
+    @Test
+    public void decodesEmptyArray() throws Exception {
+        assertThat(decode(" [ ] ", 2), empty());
+    }
+
+    @Test(expectedExceptions = DecoderException.class)
+    public void rejectsResponseThatIsNoArray() throws Exception {
+        decode("{\"message\":\"no array\"}", 8);
+    }
+}
@@ -0,0 +1,268 @@
+package com.github.dockerjava.netty.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.google.common.io.ByteStreams;
+
+public class StdinPumpHandlerTest {
+
+    private static class ErrorCollector extends ResultCallbackTemplate<ErrorCollector, Object> {
+
+        final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+
+        @Override
+        public void onNext(Object object) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+            super.onError(throwable);
+        }
+    }
+
+    /**
+     * Blocks reads until it is opened and tells when the end of the input has been read. The channel must only be
+     * inspected after the end, as the pump writes to it from its own thread.
+     */
+    private static class GatedInputStream extends FilterInputStream {
+
+        final CountDownLatch opened = new CountDownLatch(1);
+
+        final CountDownLatch eof = new CountDownLatch(1);
+
+        final AtomicInteger reads = new AtomicInteger();
+
+        GatedInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        GatedInputStream open() {
+            opened.countDown();
+            return this;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            reads.incrementAndGet();
+            try {
+                opened.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            int read = super.read(b, off, len);
+            if (read < 0) {
+                eof.countDown();
+            }
+            return read;
+        }
+    }
+
+    private static byte[] input(int size) {
+        byte[] input = new byte[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = (byte) i;
+        }
+        return input;
+    }
+
+    private static byte[] readOutbound(EmbeddedChannel channel, int maxChunkSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuf chunk;
+        while ((chunk = (ByteBuf) channel.readOutbound()) != null) {
+            assertThat(chunk.readableBytes(), lessThanOrEqualTo(maxChunkSize));
+            byte[] bytes = new byte[chunk.readableBytes()];
+            chunk.readBytes(bytes);
+            chunk.release();
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    @Test(timeOut = 10000)
+    public void pausesWhileChannelIsAboveHighWaterMark() throws Exception {
+        byte[] input = input(10000);
+        GatedInputStream stdin = new GatedInputStream(input);
+        ErrorCollector callback = new ErrorCollector();
+        StdinPumpHandler pump = StdinPumpHandler.fromStream(stdin, callback);
+        EmbeddedChannel channel = new EmbeddedChannel(pump);
+
+        channel.config().setWriteBufferLowWaterMark(8);
+        channel.config().setWriteBufferHighWaterMark(16);
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertThat(channel.isWritable(), is(false));
+
+        pump.start(channel);
+        Thread.sleep(200);
+        assertThat(stdin.reads.get(), equalTo(0));
+
+        // the pump blocks in the read once it resumes, so it doesn't write while the flush is in progress
+        channel.flush();
+        channel.runPendingTasks();
+        assertThat(channel.isWritable(), is(true));
+        while (stdin.reads.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        stdin.open();
+        assertThat(stdin.eof.await(5, TimeUnit.SECONDS), is(true));
+
+        ByteBuf held = (ByteBuf) channel.readOutbound();
+        assertThat(held.readableBytes(), equalTo(32));
+        held.release();
+        assertThat(readOutbound(channel, input.length), equalTo(input));
+        assertThat(callback.errors, empty());
+    }
+
+    @Test(timeOut = 10000)
+    public void copiesChannelInSmallChunksAndKeepsNonSocketChannelOpen() throws Exception {
+        byte[] input = input(3 * StdinPumpHandler.MIN_CHUNK_SIZE + 100);
+        GatedInputStream stdin = new GatedInputStream(input).open();
+        ErrorCollector callback = new ErrorCollector();
+        StdinPumpHandler pump = StdinPumpHandler.fromChannel(Channels.newChannel(stdin), callback);
+        EmbeddedChannel channel = new EmbeddedChannel(pump);
+
+        pump.start(channel);
+        assertThat(stdin.eof.await(5, TimeUnit.SECONDS), is(true));
+
+        // the size of a plain channel is unknown, so it is read in chunks of the minimum size
+        assertThat(readOutbound(channel, StdinPumpHandler.MIN_CHUNK_SIZE), equalTo(input));
+        assertThat(channel.isOpen(), is(true));
+        assertThat(callback.errors, empty());
+    }
+
+    @Test(timeOut = 10000)
+    public void sizesChunksByAvailableBytes() throws Exception {
+        byte[] input = input(100);
+        GatedInputStream stdin = new GatedInputStream(input).open();
+        StdinPumpHandler pump = StdinPumpHandler.fromStream(stdin, new ErrorCollector());
+        EmbeddedChannel channel = new EmbeddedChannel(pump);
+
+        pump.start(channel);
+        assertThat(stdin.eof.await(5, TimeUnit.SECONDS), is(true));
+
+        ByteBuf chunk = (ByteBuf) channel.readOutbound();
+        assertThat(chunk.capacity(), equalTo(input.length));
+        chunk.release();
+    }
+
+    @Test(timeOut = 10000)
+    public void halfClosesSocketChannelAtEndOfInput() throws Exception {
+        byte[] input = input(2 * StdinPumpHandler.CHUNK_SIZE + 100);
+        ErrorCollector callback = new ErrorCollector();
+        StdinPumpHandler pump = StdinPumpHandler.fromStream(new ByteArrayInputStream(input), callback);
+
+        EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Channel channel = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).handler(pump)
+                    .connect(serverSocket.getLocalSocketAddress()).sync().channel();
+
+            try (Socket socket = serverSocket.accept()) {
+                socket.setSoTimeout(5000);
+                pump.start(channel);
+
+                // returns once the write side of the client has been shut down
+                assertThat(ByteStreams.toByteArray(socket.getInputStream()), equalTo(input));
+                assertThat(((SocketChannel) channel).isOutputShutdown(), is(true));
+                assertThat(channel.isActive(), is(true));
+                assertThat(callback.errors, empty());
+            } finally {
+                channel.close().sync();
+            }
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void halfClosesDomainSocketChannelAtEndOfInput() throws Exception {
+        if (!Epoll.isAvailable()) {
+            throw new SkipException("unix domain sockets need the native epoll transport");
+        }
+
+        byte[] input = input(2 * StdinPumpHandler.CHUNK_SIZE + 100);
+        ErrorCollector callback = new ErrorCollector();
+        StdinPumpHandler pump = StdinPumpHandler.fromStream(new ByteArrayInputStream(input), callback);
+
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        final CountDownLatch endOfInput = new CountDownLatch(1);
+
+        File socketFile = File.createTempFile("stdin", ".sock");
+        socketFile.delete();
+        EventLoopGroup eventLoopGroup = new EpollEventLoopGroup(1);
+        try {
+            // without half-closure allowed the server closes its side once it reads the end of the input
+            Channel serverChannel = new ServerBootstrap().group(eventLoopGroup)
+                    .channel(EpollServerDomainSocketChannel.class)
+                    .childHandler(new ChannelInboundHandlerAdapter() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                            ByteBuf byteBuf = (ByteBuf) msg;
+                            byteBuf.readBytes(received, byteBuf.readableBytes());
+                            byteBuf.release();
+                        }
+
+                        @Override
+                        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                            endOfInput.countDown();
+                        }
+                    }).bind(new DomainSocketAddress(socketFile)).sync().channel();
+
+            Channel channel = new Bootstrap().group(eventLoopGroup).channel(EpollDomainSocketChannel.class)
+                    .handler(pump).connect(new DomainSocketAddress(socketFile)).sync().channel();
+            try {
+                pump.start(channel);
+
+                assertThat(endOfInput.await(5, TimeUnit.SECONDS), is(true));
+                assertThat(received.toByteArray(), equalTo(input));
+                assertThat(callback.errors, empty());
+            } finally {
+                channel.close().sync();
+                serverChannel.close().sync();
+            }
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+            socketFile.delete();
+        }
+    }
+}